@@ -31,14 +31,19 @@ package org.pushingpixels.radiance.animation.api;
 
 import org.pushingpixels.radiance.animation.api.interpolator.PropertyInterpolator;
 import org.pushingpixels.radiance.animation.api.interpolator.PropertyInterpolatorSource;
+import org.pushingpixels.radiance.animation.api.swing.SwingRepaintCallback;
 import org.pushingpixels.radiance.animation.internal.interpolator.CorePropertyInterpolators;
 import org.pushingpixels.radiance.animation.internal.swing.AWTDefaultPulseSource;
 import org.pushingpixels.radiance.animation.internal.swing.AWTPropertyInterpolators;
+import org.pushingpixels.radiance.animation.internal.swing.SwingRepaintCoalescer;
 
+import javax.swing.*;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Provides the public API surface for working with Radiance animations.
@@ -57,6 +62,21 @@ public class RadianceAnimationCortex {
 
     public interface PulseSource {
         void waitUntilNextPulse();
+
+        /**
+         * Called by the timeline engine on the pulse thread when there are no running
+         * timelines or timeline scenarios. A pulse source can block in this method until
+         * {@link #onWorkAvailable()} is called. The default implementation returns immediately.
+         */
+        default void onIdle() {
+        }
+
+        /**
+         * Called by the timeline engine when a timeline or a timeline scenario is played or
+         * resumed. The default implementation does nothing.
+         */
+        default void onWorkAvailable() {
+        }
     }
 
     public static class FixedRatePulseSource implements RadianceAnimationCortex.PulseSource {
@@ -76,6 +96,121 @@ public class RadianceAnimationCortex {
         }
     }
 
+    /**
+     * Pulse source that parks the pulse thread while there are no running timelines, and
+     * schedules pulses against absolute {@link System#nanoTime()} deadlines so that the
+     * pulse rate does not drift. Missed deadlines are skipped instead of being made up with
+     * a burst of pulses.
+     * <p>
+     * Optionally, the pulse rate backs off (down to a quarter of the target rate) while
+     * the Event Dispatch Thread takes longer than a frame to process posted events, and goes
+     * back to the target rate once it catches up.
+     */
+    public static class AdaptivePulseSource implements RadianceAnimationCortex.PulseSource {
+        private static final int MAX_BACKOFF_FACTOR = 4;
+
+        private final long framePeriodNanos;
+
+        private final boolean adaptToEventDispatchThreadLatency;
+
+        private long currentPeriodNanos;
+
+        private long nextPulseDeadline;
+
+        private volatile Thread pulseThread;
+
+        private final AtomicBoolean hasWorkSignal = new AtomicBoolean(false);
+
+        private final AtomicBoolean isLatencyProbePending = new AtomicBoolean(false);
+
+        private volatile long latencyProbePostTime;
+
+        private volatile long lastEventDispatchThreadLatency;
+
+        private final Runnable latencyProbe = () -> {
+            lastEventDispatchThreadLatency = System.nanoTime() - latencyProbePostTime;
+            isLatencyProbePending.set(false);
+        };
+
+        public AdaptivePulseSource(int framesPerSecond) {
+            this(framesPerSecond, false);
+        }
+
+        public AdaptivePulseSource(int framesPerSecond, boolean adaptToEventDispatchThreadLatency) {
+            if (framesPerSecond <= 0) {
+                throw new IllegalArgumentException("Frame rate must be positive");
+            }
+            this.framePeriodNanos = 1_000_000_000L / framesPerSecond;
+            this.adaptToEventDispatchThreadLatency = adaptToEventDispatchThreadLatency;
+            this.currentPeriodNanos = this.framePeriodNanos;
+            this.nextPulseDeadline = System.nanoTime();
+        }
+
+        @Override
+        public void waitUntilNextPulse() {
+            this.pulseThread = Thread.currentThread();
+            if (this.adaptToEventDispatchThreadLatency) {
+                this.adaptPeriod();
+            }
+
+            long now = System.nanoTime();
+            this.nextPulseDeadline += this.currentPeriodNanos;
+            if (this.nextPulseDeadline - now < 0) {
+                // Fell behind by more than a frame - skip the missed pulses
+                this.nextPulseDeadline = now + this.currentPeriodNanos;
+            }
+            long remaining;
+            while ((remaining = this.nextPulseDeadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+
+        @Override
+        public void onIdle() {
+            this.pulseThread = Thread.currentThread();
+            while (!this.hasWorkSignal.getAndSet(false)) {
+                LockSupport.park(this);
+            }
+            // Start a fresh schedule once woken up
+            this.nextPulseDeadline = System.nanoTime();
+            this.currentPeriodNanos = this.framePeriodNanos;
+        }
+
+        @Override
+        public void onWorkAvailable() {
+            this.hasWorkSignal.set(true);
+            Thread thread = this.pulseThread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void adaptPeriod() {
+            if (this.isLatencyProbePending.get()) {
+                // The previous probe has not run yet - the EDT is at least that far behind
+                long pendingFor = System.nanoTime() - this.latencyProbePostTime;
+                if (pendingFor > this.currentPeriodNanos) {
+                    this.currentPeriodNanos = Math.min(2 * this.currentPeriodNanos,
+                            MAX_BACKOFF_FACTOR * this.framePeriodNanos);
+                }
+                return;
+            }
+
+            long latency = this.lastEventDispatchThreadLatency;
+            if (latency > this.currentPeriodNanos) {
+                this.currentPeriodNanos = Math.min(2 * this.currentPeriodNanos,
+                        MAX_BACKOFF_FACTOR * this.framePeriodNanos);
+            } else if (latency < this.currentPeriodNanos / 2) {
+                this.currentPeriodNanos = Math.max(this.currentPeriodNanos / 2,
+                        this.framePeriodNanos);
+            }
+
+            this.isLatencyProbePending.set(true);
+            this.latencyProbePostTime = System.nanoTime();
+            SwingUtilities.invokeLater(this.latencyProbe);
+        }
+    }
+
     // No-op private constructor to prevent application code from directly creating instances
     private RadianceAnimationCortex() {}
 
@@ -127,4 +262,21 @@ public class RadianceAnimationCortex {
     public static RadianceAnimationCortex.PulseSource getPulseSource() {
         return currPulseSource;
     }
+
+    /**
+     * Enables or disables frame coalescing of Swing repaints. When enabled, all the
+     * {@link SwingRepaintCallback}s notified during a single pulse of the timeline engine
+     * merge their dirty regions per component, and the resulting repaints are issued on the
+     * Event Dispatch Thread in a single pass together with all other callbacks of that pulse
+     * that run on the Event Dispatch Thread. Disabled by default.
+     *
+     * @param enabled If <code>true</code>, repaints are coalesced per pulse.
+     */
+    public static void setSwingRepaintCoalescingEnabled(boolean enabled) {
+        SwingRepaintCoalescer.setEnabled(enabled);
+    }
+
+    public static boolean isSwingRepaintCoalescingEnabled() {
+        return SwingRepaintCoalescer.isEnabled();
+    }
 }
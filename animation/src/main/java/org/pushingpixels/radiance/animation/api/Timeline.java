@@ -37,6 +37,7 @@ import org.pushingpixels.radiance.animation.api.swing.RunOnEventDispatchThread;
 import org.pushingpixels.radiance.animation.internal.swing.SwingUtils;
 import org.pushingpixels.radiance.animation.api.callback.TimelineCallback;
 
+import javax.swing.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
@@ -118,11 +119,30 @@ public class Timeline implements TimelineScenario.TimelineScenarioActor {
      */
     boolean toCancelAtCycleBreak;
 
+    /**
+     * Guards the playback state of this timeline in the {@link TimelineEngine}. Timeline
+     * operations and the engine pulse synchronize on this lock instead of a single global
+     * lock.
+     */
+    final Object stateLock = new Object();
+
+    /**
+     * Indication whether this timeline is tracked by the {@link TimelineEngine}. Guarded by
+     * {@link #stateLock}.
+     */
+    boolean isRunning;
+
+    /**
+     * Indication whether this timeline is in the list iterated by the engine pulse. Only
+     * accessed from the engine pulse thread.
+     */
+    boolean isInPulseList;
+
     private Stack<TimelineState> stateStack;
 
     private TimelineEase ease;
 
-    private int doneCount;
+    private volatile int doneCount;
 
     public enum RepeatBehavior {
         LOOP, REVERSE
@@ -234,16 +254,11 @@ public class Timeline implements TimelineScenario.TimelineScenarioActor {
                 final float durationFraction, final float timelinePosition) {
             // special handling for chained callbacks not running on UI
             // thread
-            boolean shouldRunOnUIThread = false;
-            Class<?> clazz = callback.getClass();
-            while ((clazz != null) && !shouldRunOnUIThread) {
-                shouldRunOnUIThread = clazz.isAnnotationPresent(RunOnEventDispatchThread.class);
-                clazz = clazz.getSuperclass();
-            }
-            if (shouldRunOnUIThread && Timeline.this.mainObjectIsUiComponent) {
-                SwingUtils.runOnEventDispatchThread(
-                        () -> callback.onTimelineStateChanged(oldState, newState, durationFraction,
-                                timelinePosition));
+            if (Timeline.this.mainObjectIsUiComponent
+                    && SwingUtils.shouldRunOnEventDispatchThread(callback)
+                    && !SwingUtilities.isEventDispatchThread()) {
+                TimelineEngine.getInstance().deferStateChangeToEventDispatchThread(Timeline.this,
+                        callback, oldState, newState, durationFraction, timelinePosition);
             } else {
                 callback.onTimelineStateChanged(oldState, newState, durationFraction,
                         timelinePosition);
@@ -277,21 +292,17 @@ public class Timeline implements TimelineScenario.TimelineScenarioActor {
                 final float timelinePosition) {
             // special handling for chained callbacks not running on UI
             // thread
-            boolean shouldRunOnUIThread = false;
-            Class<?> clazz = callback.getClass();
-            while ((clazz != null) && !shouldRunOnUIThread) {
-                shouldRunOnUIThread = clazz.isAnnotationPresent(RunOnEventDispatchThread.class);
-                clazz = clazz.getSuperclass();
-            }
-            if (shouldRunOnUIThread && Timeline.this.mainObjectIsUiComponent) {
-                SwingUtils.runOnEventDispatchThread(() -> {
+            if (Timeline.this.mainObjectIsUiComponent
+                    && SwingUtils.shouldRunOnEventDispatchThread(callback)) {
+                if (SwingUtilities.isEventDispatchThread()) {
                     if (Timeline.this.getState() == TimelineState.CANCELLED) {
                         return;
                     }
-                    // System.err.println("Timeline @"
-                    // + Timeline.this.hashCode());
                     callback.onTimelinePulse(durationFraction, timelinePosition);
-                });
+                } else {
+                    TimelineEngine.getInstance().deferPulseToEventDispatchThread(Timeline.this,
+                            callback, durationFraction, timelinePosition);
+                }
             } else {
                 // System.err.println("Timeline @" +
                 // Timeline.this.hashCode());
@@ -29,14 +29,23 @@
  */
 package org.pushingpixels.radiance.animation.api;
 
-import org.pushingpixels.radiance.animation.api.swing.RunOnEventDispatchThread;
+import org.pushingpixels.radiance.animation.api.callback.TimelineCallback;
+import org.pushingpixels.radiance.animation.internal.swing.SwingRepaintCoalescer;
 import org.pushingpixels.radiance.animation.internal.swing.SwingUtils;
 import org.pushingpixels.radiance.animation.api.Timeline.TimelineState;
 
+import javax.swing.*;
+import java.awt.*;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 /**
@@ -53,21 +62,45 @@ class TimelineEngine {
     public static boolean DEBUG_MODE = false;
 
     /**
-     * Single instance of <code>this</code> class.
+     * Holder for the single instance of <code>this</code> class.
      */
-    private static TimelineEngine instance;
+    private static class InstanceHolder {
+        private static final TimelineEngine INSTANCE = new TimelineEngine();
+    }
+
+    /**
+     * Timelines iterated by the engine pulse, packed at the start of the array. Only accessed
+     * from {@link #animatorThread}. A timeline that is no longer running (see
+     * {@link Timeline#isRunning}) is dropped from this array on the next pulse.
+     */
+    private Timeline[] pulseTimelines = new Timeline[16];
+
+    private int pulseTimelineCount;
 
     /**
-     * All currently running timelines.
+     * Commands submitted to the engine pulse by the threads that play and cancel timelines.
+     * Every command is either a {@link Timeline} to start iterating over or
+     * {@link #CANCEL_ALL_COMMAND}. Drained by {@link #animatorThread} at the start of each
+     * pulse, so that timeline operations never wait for the iteration over the running
+     * timelines.
      */
-    private Set<Timeline> runningTimelines;
+    private final Queue<Object> commandQueue = new ConcurrentLinkedQueue<>();
+
+    private static final Object CANCEL_ALL_COMMAND = new Object();
 
     enum TimelineOperationKind {
         PLAY, CANCEL, RESUME, SUSPEND, ABORT, END
     }
 
+    /**
+     * All currently running scenarios. Guarded by {@link #LOCK}.
+     */
     private Set<TimelineScenario> runningScenarios;
 
+    /**
+     * {@link System#nanoTime()} of the last iteration over the running timelines. Only
+     * accessed from {@link #animatorThread}.
+     */
     long lastIterationTimeStamp;
 
     /**
@@ -136,12 +169,140 @@ class TimelineEngine {
     /**
      * The timeline thread.
      */
-    RadianceAnimationThread animatorThread;
+    volatile RadianceAnimationThread animatorThread;
 
     private BlockingQueue<Runnable> callbackQueue;
 
     private TimelineCallbackThread callbackThread;
 
+    /**
+     * Callbacks scheduled by the engine since the last flush. Guarded by {@link #batchLock},
+     * which is only held to append to or to flush this batch. As a timeline is always updated
+     * under its {@link Timeline#stateLock}, its callbacks are appended in the same order as its
+     * state changes, no matter which thread changes it.
+     */
+    private CallbackBatch pendingBatch;
+
+    private final Object batchLock = new Object();
+
+    /**
+     * Callbacks to be delivered on the Event Dispatch Thread for the batch currently running
+     * on {@link #callbackThread}. Only accessed from that thread.
+     */
+    private CallbackBatch eventDispatchThreadBatch;
+
+    /**
+     * Recycled batches.
+     */
+    private final BlockingQueue<CallbackBatch> batchPool = new ArrayBlockingQueue<>(8);
+
+    /**
+     * A batch of timeline callback invocations, stored as parallel arrays. The engine fills a
+     * batch with all the state changes and pulses of a single pass over the running timelines,
+     * and hands it to the callback thread as a single runnable. In turn, all the callbacks
+     * that need to run on the Event Dispatch Thread are collected into a single batch that
+     * is posted with one {@link SwingUtilities#invokeLater(Runnable)} call.
+     */
+    private final class CallbackBatch implements Runnable {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private boolean isForEventDispatchThread;
+
+        private int size;
+        // dirty regions coalesced by SwingRepaintCallbacks, only used on the EDT batch
+        private Map<Component, Rectangle> dirtyRegions = new IdentityHashMap<>();
+        private Timeline[] timelines = new Timeline[INITIAL_CAPACITY];
+        private TimelineCallback[] callbacks = new TimelineCallback[INITIAL_CAPACITY];
+        // null old state indicates a pulse
+        private TimelineState[] oldStates = new TimelineState[INITIAL_CAPACITY];
+        private TimelineState[] newStates = new TimelineState[INITIAL_CAPACITY];
+        private float[] durationFractions = new float[INITIAL_CAPACITY];
+        private float[] timelinePositions = new float[INITIAL_CAPACITY];
+
+        private void add(Timeline timeline, TimelineCallback callback, TimelineState oldState,
+                TimelineState newState, float durationFraction, float timelinePosition) {
+            if (this.size == this.timelines.length) {
+                int newCapacity = 2 * this.size;
+                this.timelines = Arrays.copyOf(this.timelines, newCapacity);
+                this.callbacks = Arrays.copyOf(this.callbacks, newCapacity);
+                this.oldStates = Arrays.copyOf(this.oldStates, newCapacity);
+                this.newStates = Arrays.copyOf(this.newStates, newCapacity);
+                this.durationFractions = Arrays.copyOf(this.durationFractions, newCapacity);
+                this.timelinePositions = Arrays.copyOf(this.timelinePositions, newCapacity);
+            }
+            this.timelines[this.size] = timeline;
+            this.callbacks[this.size] = callback;
+            this.oldStates[this.size] = oldState;
+            this.newStates[this.size] = newState;
+            this.durationFractions[this.size] = durationFraction;
+            this.timelinePositions[this.size] = timelinePosition;
+            this.size++;
+        }
+
+        private boolean isEmpty() {
+            return (this.size == 0) && this.dirtyRegions.isEmpty();
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < this.size; i++) {
+                    try {
+                        this.invoke(i);
+                    } catch (Throwable t) {
+                        t.printStackTrace();
+                    }
+                }
+                if (!this.dirtyRegions.isEmpty()) {
+                    SwingRepaintCoalescer.repaint(this.dirtyRegions);
+                }
+            } finally {
+                this.dirtyRegions.clear();
+                Arrays.fill(this.timelines, 0, this.size, null);
+                Arrays.fill(this.callbacks, 0, this.size, null);
+                Arrays.fill(this.oldStates, 0, this.size, null);
+                Arrays.fill(this.newStates, 0, this.size, null);
+                this.size = 0;
+                batchPool.offer(this);
+            }
+        }
+
+        private void invoke(int index) {
+            Timeline timeline = this.timelines[index];
+            TimelineCallback callback = this.callbacks[index];
+            TimelineState oldState = this.oldStates[index];
+            if (!this.isForEventDispatchThread
+                    && SwingUtils.shouldRunOnEventDispatchThread(callback)
+                    && SwingUtils.isUiComponent(timeline.getMainObject())) {
+                if (DEBUG_MODE && (oldState != null)) {
+                    System.out.println("Scheduling callback state change from "
+                            + oldState.name() + " to " + this.newStates[index].name()
+                            + " on timeline " + timeline.id);
+                }
+                getEventDispatchThreadBatch().add(timeline, callback, oldState,
+                        this.newStates[index], this.durationFractions[index],
+                        this.timelinePositions[index]);
+                return;
+            }
+            if (oldState == null) {
+                if (this.isForEventDispatchThread
+                        && (timeline.getState() == TimelineState.CANCELLED)) {
+                    return;
+                }
+                callback.onTimelinePulse(this.durationFractions[index],
+                        this.timelinePositions[index]);
+            } else {
+                if (DEBUG_MODE) {
+                    System.out.println("Calling callback state change from " + oldState.name()
+                            + " to " + this.newStates[index].name() + " on timeline "
+                            + timeline.id);
+                }
+                callback.onTimelineStateChanged(oldState, this.newStates[index],
+                        this.durationFractions[index], this.timelinePositions[index]);
+            }
+        }
+    }
+
     class RadianceAnimationThread extends Thread {
         public RadianceAnimationThread() {
             super();
@@ -152,8 +313,14 @@ class TimelineEngine {
         @Override
         public final void run() {
             RadianceAnimationCortex.PulseSource pulseSource = RadianceAnimationCortex.getPulseSource();
-            lastIterationTimeStamp = System.currentTimeMillis();
+            lastIterationTimeStamp = System.nanoTime();
             while (true) {
+                if (isIdle()) {
+                    pulseSource.onIdle();
+                    // Do not count the idle time towards the timelines played
+                    // while idling
+                    lastIterationTimeStamp = System.nanoTime();
+                }
                 pulseSource.waitUntilNextPulse();
                 updateTimelines();
                 // engine.currLoopId++;
@@ -183,6 +350,7 @@ class TimelineEngine {
                 } catch (Throwable t) {
                     t.printStackTrace();
                 }
+                flushEventDispatchThreadBatch();
             }
         }
     }
@@ -193,7 +361,6 @@ class TimelineEngine {
      * @see #getInstance()
      */
     private TimelineEngine() {
-        this.runningTimelines = new HashSet<>();
         this.runningScenarios = new HashSet<>();
 
         this.callbackQueue = new LinkedBlockingQueue<>();
@@ -205,220 +372,148 @@ class TimelineEngine {
      *
      * @return Singleton instance.
      */
-    public synchronized static TimelineEngine getInstance() {
-        if (TimelineEngine.instance == null) {
-            TimelineEngine.instance = new TimelineEngine();
+    public static TimelineEngine getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private CallbackBatch obtainBatch(boolean isForEventDispatchThread) {
+        CallbackBatch result = this.batchPool.poll();
+        if (result == null) {
+            result = new CallbackBatch();
         }
-        return TimelineEngine.instance;
+        result.isForEventDispatchThread = isForEventDispatchThread;
+        return result;
+    }
+
+    private CallbackBatch getPendingBatch() {
+        if (this.pendingBatch == null) {
+            this.pendingBatch = this.obtainBatch(false);
+        }
+        return this.pendingBatch;
+    }
+
+    private CallbackBatch getEventDispatchThreadBatch() {
+        if (this.eventDispatchThreadBatch == null) {
+            this.eventDispatchThreadBatch = this.obtainBatch(true);
+        }
+        return this.eventDispatchThreadBatch;
     }
 
     /**
-     * Updates all timelines that are currently registered with <code>this</code> tracker.
+     * Hands all the callbacks scheduled since the last flush to the callback thread as a
+     * single runnable.
      */
-    void updateTimelines() {
-        synchronized (LOCK) {
-            if (this.runningTimelines.isEmpty() && this.runningScenarios.isEmpty()) {
-                this.lastIterationTimeStamp = System.currentTimeMillis();
-                return;
+    private void flushCallbacks() {
+        synchronized (this.batchLock) {
+            if ((this.pendingBatch != null) && !this.pendingBatch.isEmpty()) {
+                this.callbackQueue.add(this.pendingBatch);
+                this.pendingBatch = null;
             }
+        }
+    }
 
-            long passedSinceLastIteration = (System.currentTimeMillis()
-                    - this.lastIterationTimeStamp);
-            if (passedSinceLastIteration < 0) {
-                // ???
-                passedSinceLastIteration = 0;
-            }
-            if (DEBUG_MODE) {
-                System.out.println(
-                        "Elapsed since last iteration: " + passedSinceLastIteration + "ms");
-            }
+    /**
+     * Posts all the callbacks deferred to the Event Dispatch Thread by the batch that has just
+     * run on the callback thread as a single runnable.
+     */
+    private void flushEventDispatchThreadBatch() {
+        if (SwingRepaintCoalescer.hasDirtyRegions()) {
+            CallbackBatch batch = this.getEventDispatchThreadBatch();
+            batch.dirtyRegions = SwingRepaintCoalescer.swapDirtyRegions(batch.dirtyRegions);
+        }
+        if ((this.eventDispatchThreadBatch != null) && !this.eventDispatchThreadBatch.isEmpty()) {
+            SwingUtilities.invokeLater(this.eventDispatchThreadBatch);
+            this.eventDispatchThreadBatch = null;
+        }
+    }
 
-            // System.err.println("Periodic update on "
-            // + this.runningTimelines.size() + " timelines; "
-            // + passedSinceLastIteration + " ms passed since last");
-            // for (Timeline t : runningTimelines) {
-            // if (t.mainObject != null
-            // && t.mainObject.getClass().getName().indexOf(
-            // "ProgressBar") >= 0) {
-            // continue;
-            // }
-            // System.err.println("\tTimeline @"
-            // + t.hashCode()
-            // + " ["
-            // + t.getName()
-            // + "] on "
-            // + (t.mainObject == null ? "null" : t.mainObject
-            // .getClass().getName()));
-            // }
-            for (Iterator<Timeline> itTimeline = this.runningTimelines.iterator(); itTimeline
-                    .hasNext(); ) {
-                Timeline timeline = itTimeline.next();
-                if (timeline.getState() == TimelineState.SUSPENDED)
-                    continue;
-
-                boolean timelineWasInReadyState = false;
-                if (timeline.getState() == TimelineState.READY) {
-                    if ((timeline.timeUntilPlay - passedSinceLastIteration) > 0) {
-                        // still needs to wait in the READY state
-                        timeline.timeUntilPlay -= passedSinceLastIteration;
-                        continue;
-                    }
+    /**
+     * Defers the state change notification of the specified callback to the Event Dispatch
+     * Thread. If called on the callback thread, the notification is coalesced with all other
+     * notifications of the currently running batch.
+     */
+    void deferStateChangeToEventDispatchThread(Timeline timeline, TimelineCallback callback,
+            TimelineState oldState, TimelineState newState, float durationFraction,
+            float timelinePosition) {
+        if (Thread.currentThread() == this.callbackThread) {
+            this.getEventDispatchThreadBatch().add(timeline, callback, oldState, newState,
+                    durationFraction, timelinePosition);
+        } else {
+            SwingUtils.runOnEventDispatchThread(() -> callback.onTimelineStateChanged(
+                    oldState, newState, durationFraction, timelinePosition));
+        }
+    }
 
-                    // can go from READY to PLAYING
-                    timelineWasInReadyState = true;
-                    timeline.popState();
-                    if (DEBUG_MODE) {
-                        System.out.println("Moving " + timeline.id + " to READY");
-                    }
-                    this.callbackCallTimelineStateChanged(timeline, TimelineState.READY);
+    /**
+     * Defers the pulse notification of the specified callback to the Event Dispatch Thread.
+     * If called on the callback thread, the notification is coalesced with all other
+     * notifications of the currently running batch.
+     */
+    void deferPulseToEventDispatchThread(Timeline timeline, TimelineCallback callback,
+            float durationFraction, float timelinePosition) {
+        if (Thread.currentThread() == this.callbackThread) {
+            this.getEventDispatchThreadBatch().add(timeline, callback, null, null,
+                    durationFraction, timelinePosition);
+        } else {
+            SwingUtils.runOnEventDispatchThread(() -> {
+                if (timeline.getState() == TimelineState.CANCELLED) {
+                    return;
                 }
+                callback.onTimelinePulse(durationFraction, timelinePosition);
+            });
+        }
+    }
 
-                boolean hasEnded = false;
-                if (DEBUG_MODE) {
-                    System.out.println("Processing " + timeline.id + "["
-                            + timeline.getMainObject().getClass().getSimpleName() + "] from "
-                            + timeline.durationFraction + ". Callback - "
-                            + (timeline.callbackChain == null ? "no" : "yes"));
-                }
-                // Component comp = entry.getKey();
-
-                // at this point, the timeline must be playing
-                switch (timeline.getState()) {
-                    case PLAYING_FORWARD:
-                        if (!timelineWasInReadyState) {
-                            timeline.durationFraction = timeline.durationFraction
-                                    + (float) passedSinceLastIteration / (float) timeline.getDuration();
-                        }
-                        updateAndEnforceTimelinePosition(timeline);
-                        if (DEBUG_MODE) {
-                            System.out.println("Timeline " + timeline.id + " position: "
-                                    + ((long) (timeline.durationFraction * timeline.getDuration()))
-                                    + "/" + timeline.getDuration() + " = " + timeline.durationFraction);
-                        }
-                        if (timeline.durationFraction > 1.0f) {
-                            timeline.durationFraction = 1.0f;
-                            updateAndEnforceTimelinePosition(timeline);
-                            if (timeline.isLooping) {
-                                boolean stopLoopingAnimation = timeline.toCancelAtCycleBreak;
-                                int loopsToLive = timeline.repeatCount;
-                                if (loopsToLive > 0) {
-                                    loopsToLive--;
-                                    stopLoopingAnimation = stopLoopingAnimation || (loopsToLive == 0);
-                                    timeline.repeatCount = loopsToLive;
-                                }
-                                if (stopLoopingAnimation) {
-                                    // end looping animation
-                                    hasEnded = true;
-                                    itTimeline.remove();
-                                } else {
-                                    if (timeline.getRepeatBehavior() ==
-                                            Timeline.RepeatBehavior.REVERSE) {
-                                        timeline.replaceState(TimelineState.PLAYING_REVERSE);
-                                        if (timeline.getCycleDelay() > 0) {
-                                            timeline.pushState(TimelineState.READY);
-                                            timeline.timeUntilPlay = timeline.getCycleDelay();
-                                        }
-                                        this.callbackCallTimelineStateChanged(timeline,
-                                                TimelineState.PLAYING_FORWARD);
-                                    } else {
-                                        timeline.durationFraction = 0.0f;
-                                        updateAndEnforceTimelinePosition(timeline);
-                                        if (timeline.getCycleDelay() > 0) {
-                                            timeline.pushState(TimelineState.READY);
-                                            timeline.timeUntilPlay = timeline.getCycleDelay();
-                                            this.callbackCallTimelineStateChanged(timeline,
-                                                    TimelineState.PLAYING_FORWARD);
-                                        } else {
-                                            // it's still playing forward, but lets
-                                            // the app code know
-                                            // that the new loop has begun
-                                            this.callbackCallTimelineStateChanged(timeline,
-                                                    TimelineState.PLAYING_FORWARD);
-                                        }
-                                    }
-                                }
-                            } else {
-                                hasEnded = true;
-                                itTimeline.remove();
-                            }
-                        }
-                        break;
-                    case PLAYING_REVERSE:
-                        if (!timelineWasInReadyState) {
-                            timeline.durationFraction = timeline.durationFraction
-                                    - (float) passedSinceLastIteration / (float) timeline.getDuration();
-                        }
-                        updateAndEnforceTimelinePosition(timeline);
-                        // state.timelinePosition = state.timelinePosition
-                        // - stepFactor
-                        // * state.fadeStep.getNextStep(state.timelineKind,
-                        // state.timelinePosition,
-                        // state.isPlayingForward, state.isLooping);
-                        if (DEBUG_MODE) {
-                            System.out.println("Timeline position: "
-                                    + ((long) (timeline.durationFraction * timeline.getDuration()))
-                                    + "/" + timeline.getDuration() + " = " + timeline.durationFraction);
-                        }
-                        if (timeline.durationFraction < 0) {
-                            timeline.durationFraction = 0.0f;
-                            updateAndEnforceTimelinePosition(timeline);
-                            if (timeline.isLooping) {
-                                boolean stopLoopingAnimation = timeline.toCancelAtCycleBreak;
-                                int loopsToLive = timeline.repeatCount;
-                                if (loopsToLive > 0) {
-                                    loopsToLive--;
-                                    stopLoopingAnimation = stopLoopingAnimation || (loopsToLive == 0);
-                                    timeline.repeatCount = loopsToLive;
-                                }
-                                if (stopLoopingAnimation) {
-                                    // end looping animation
-                                    hasEnded = true;
-                                    itTimeline.remove();
-                                } else {
-                                    timeline.replaceState(TimelineState.PLAYING_FORWARD);
-                                    if (timeline.getCycleDelay() > 0) {
-                                        timeline.pushState(TimelineState.READY);
-                                        timeline.timeUntilPlay = timeline.getCycleDelay();
-                                    }
-                                    this.callbackCallTimelineStateChanged(timeline,
-                                            TimelineState.PLAYING_REVERSE);
-                                }
-                            } else {
-                                hasEnded = true;
-                                itTimeline.remove();
-                            }
-                        }
-                        break;
-                    default:
-                        throw new IllegalStateException(
-                                "Timeline cannot be in " + timeline.getState() + " state");
-                }
-                if (hasEnded) {
-                    if (DEBUG_MODE) {
-                        System.out.println("Ending " + timeline.id + " on "
-                                // + timeline.timelineKind.toString()
-                                + " in state " + timeline.getState().name() + " at position "
-                                + timeline.durationFraction);
-                    }
-                    TimelineState oldState = timeline.getState();
-                    timeline.replaceState(TimelineState.DONE);
-                    this.callbackCallTimelineStateChanged(timeline, oldState);
-                    timeline.popState();
-                    if (timeline.getState() != TimelineState.IDLE) {
-                        throw new IllegalStateException("Timeline should be IDLE at this point");
-                    }
-                    this.callbackCallTimelineStateChanged(timeline, TimelineState.DONE);
-                } else {
-                    if (DEBUG_MODE) {
-                        System.out.println("Calling " + timeline.id + " on "
-                                // + timeline.timelineKind.toString() + " at "
-                                + timeline.durationFraction);
-                    }
-                    this.callbackCallTimelinePulse(timeline);
-                }
+    /**
+     * Updates all timelines that are currently registered with <code>this</code> tracker.
+     */
+    void updateTimelines() {
+        this.drainCommandQueue();
+
+        long now = System.nanoTime();
+        boolean hasScenarios;
+        synchronized (LOCK) {
+            hasScenarios = !this.runningScenarios.isEmpty();
+        }
+        if ((this.pulseTimelineCount == 0) && !hasScenarios) {
+            this.lastIterationTimeStamp = now;
+            return;
+        }
+
+        // Only consume whole milliseconds so that the sub-millisecond remainder
+        // carries over to the next iteration instead of being lost
+        long passedSinceLastIteration = (now - this.lastIterationTimeStamp) / 1000000L;
+        if (passedSinceLastIteration < 0) {
+            passedSinceLastIteration = 0;
+            this.lastIterationTimeStamp = now;
+        } else {
+            this.lastIterationTimeStamp += passedSinceLastIteration * 1000000L;
+        }
+        if (DEBUG_MODE) {
+            System.out.println(
+                    "Elapsed since last iteration: " + passedSinceLastIteration + "ms");
+        }
+
+        int index = 0;
+        while (index < this.pulseTimelineCount) {
+            Timeline timeline = this.pulseTimelines[index];
+            boolean isStillRunning;
+            synchronized (timeline.stateLock) {
+                isStillRunning = timeline.isRunning
+                        && this.updateTimeline(timeline, passedSinceLastIteration);
+            }
+            if (isStillRunning) {
+                index++;
+            } else {
+                this.removeFromPulse(index);
             }
+        }
 
-            if (!this.runningScenarios.isEmpty()) {
+        if (hasScenarios) {
+            // Scenario actors are played with their own callbacks. Flush the callbacks of
+            // this pass first to preserve the order.
+            this.flushCallbacks();
+            synchronized (LOCK) {
                 // System.err.println(Thread.currentThread().getName()
                 // + " : updating");
                 for (Iterator<TimelineScenario> it = this.runningScenarios.iterator(); it
@@ -432,127 +527,307 @@ class TimelineEngine {
                     Set<TimelineScenario.TimelineScenarioActor> readyActors = scenario
                             .getReadyActors();
                     if (readyActors != null) {
-                        // if (readyActors.size() > 0)
-                        // System.out.println("Scenario : " + scenario.state +
-                        // ":"
-                        // + readyActors.size());
                         for (TimelineScenario.TimelineScenarioActor readyActor : readyActors) {
                             readyActor.play();
                         }
                     }
                 }
             }
-            // System.err.println("Periodic update done");
-
-            // this.nothingTracked = (this.runningTimelines.size() == 0);
-            this.lastIterationTimeStamp = System.currentTimeMillis();
         }
+        // System.err.println("Periodic update done");
+
+        this.flushCallbacks();
     }
 
-    private void callbackCallTimelineStateChanged(final Timeline timeline,
-            final TimelineState oldState) {
-        final TimelineState newState = timeline.getState();
-        final float durationFraction = timeline.durationFraction;
-        final float timelinePosition = timeline.timelinePosition;
-        Runnable callbackRunnable = () -> {
-            boolean shouldRunOnUIThread = false;
-            Class<?> clazz = timeline.callbackChain.getClass();
-            while ((clazz != null) && !shouldRunOnUIThread) {
-                shouldRunOnUIThread = clazz.isAnnotationPresent(RunOnEventDispatchThread.class);
-                clazz = clazz.getSuperclass();
+    /**
+     * Advances a single running timeline. Must be called under the timeline's
+     * {@link Timeline#stateLock}.
+     *
+     * @param timeline                 Timeline to advance.
+     * @param passedSinceLastIteration Time (in milliseconds) since the last pass.
+     * @return <code>true</code> if the timeline is still running after this pass,
+     * <code>false</code> if it has ended.
+     */
+    private boolean updateTimeline(Timeline timeline, long passedSinceLastIteration) {
+        if (timeline.getState() == TimelineState.SUSPENDED)
+            return true;
+
+        boolean timelineWasInReadyState = false;
+        if (timeline.getState() == TimelineState.READY) {
+            if ((timeline.timeUntilPlay - passedSinceLastIteration) > 0) {
+                // still needs to wait in the READY state
+                timeline.timeUntilPlay -= passedSinceLastIteration;
+                return true;
+            }
+
+            // can go from READY to PLAYING
+            timelineWasInReadyState = true;
+            timeline.popState();
+            if (DEBUG_MODE) {
+                System.out.println("Moving " + timeline.id + " to READY");
             }
-            if (shouldRunOnUIThread && SwingUtils.isUiComponent(timeline.getMainObject())) {
+            this.callbackCallTimelineStateChanged(timeline, TimelineState.READY);
+        }
+
+        boolean hasEnded = false;
+        if (DEBUG_MODE) {
+            System.out.println("Processing " + timeline.id + "["
+                    + timeline.getMainObject().getClass().getSimpleName() + "] from "
+                    + timeline.durationFraction + ". Callback - "
+                    + (timeline.callbackChain == null ? "no" : "yes"));
+        }
+
+        // at this point, the timeline must be playing
+        switch (timeline.getState()) {
+            case PLAYING_FORWARD:
+                if (!timelineWasInReadyState) {
+                    timeline.durationFraction = timeline.durationFraction
+                            + (float) passedSinceLastIteration / (float) timeline.getDuration();
+                }
+                updateAndEnforceTimelinePosition(timeline);
                 if (DEBUG_MODE) {
-                    System.out.println("Scheduling callback state change from " + oldState.name()
-                            + " to " + newState.name() + " on timeline " + timeline.id);
+                    System.out.println("Timeline " + timeline.id + " position: "
+                            + ((long) (timeline.durationFraction * timeline.getDuration()))
+                            + "/" + timeline.getDuration() + " = " + timeline.durationFraction);
                 }
-                // System.out.println("Will update from " + oldState + " to " + newState);
-                SwingUtils.runOnEventDispatchThread(
-                        () -> timeline.callbackChain.onTimelineStateChanged(oldState, newState,
-                                durationFraction, timelinePosition));
-            } else {
+                if (timeline.durationFraction > 1.0f) {
+                    timeline.durationFraction = 1.0f;
+                    updateAndEnforceTimelinePosition(timeline);
+                    if (timeline.isLooping) {
+                        boolean stopLoopingAnimation = timeline.toCancelAtCycleBreak;
+                        int loopsToLive = timeline.repeatCount;
+                        if (loopsToLive > 0) {
+                            loopsToLive--;
+                            stopLoopingAnimation = stopLoopingAnimation || (loopsToLive == 0);
+                            timeline.repeatCount = loopsToLive;
+                        }
+                        if (stopLoopingAnimation) {
+                            // end looping animation
+                            hasEnded = true;
+                        } else {
+                            if (timeline.getRepeatBehavior() ==
+                                    Timeline.RepeatBehavior.REVERSE) {
+                                timeline.replaceState(TimelineState.PLAYING_REVERSE);
+                                if (timeline.getCycleDelay() > 0) {
+                                    timeline.pushState(TimelineState.READY);
+                                    timeline.timeUntilPlay = timeline.getCycleDelay();
+                                }
+                                this.callbackCallTimelineStateChanged(timeline,
+                                        TimelineState.PLAYING_FORWARD);
+                            } else {
+                                timeline.durationFraction = 0.0f;
+                                updateAndEnforceTimelinePosition(timeline);
+                                if (timeline.getCycleDelay() > 0) {
+                                    timeline.pushState(TimelineState.READY);
+                                    timeline.timeUntilPlay = timeline.getCycleDelay();
+                                    this.callbackCallTimelineStateChanged(timeline,
+                                            TimelineState.PLAYING_FORWARD);
+                                } else {
+                                    // it's still playing forward, but lets
+                                    // the app code know
+                                    // that the new loop has begun
+                                    this.callbackCallTimelineStateChanged(timeline,
+                                            TimelineState.PLAYING_FORWARD);
+                                }
+                            }
+                        }
+                    } else {
+                        hasEnded = true;
+                    }
+                }
+                break;
+            case PLAYING_REVERSE:
+                if (!timelineWasInReadyState) {
+                    timeline.durationFraction = timeline.durationFraction
+                            - (float) passedSinceLastIteration / (float) timeline.getDuration();
+                }
+                updateAndEnforceTimelinePosition(timeline);
                 if (DEBUG_MODE) {
-                    System.out.println("Calling callback state change from " + oldState.name()
-                            + " to " + newState.name() + " on timeline " + timeline.id);
+                    System.out.println("Timeline position: "
+                            + ((long) (timeline.durationFraction * timeline.getDuration()))
+                            + "/" + timeline.getDuration() + " = " + timeline.durationFraction);
+                }
+                if (timeline.durationFraction < 0) {
+                    timeline.durationFraction = 0.0f;
+                    updateAndEnforceTimelinePosition(timeline);
+                    if (timeline.isLooping) {
+                        boolean stopLoopingAnimation = timeline.toCancelAtCycleBreak;
+                        int loopsToLive = timeline.repeatCount;
+                        if (loopsToLive > 0) {
+                            loopsToLive--;
+                            stopLoopingAnimation = stopLoopingAnimation || (loopsToLive == 0);
+                            timeline.repeatCount = loopsToLive;
+                        }
+                        if (stopLoopingAnimation) {
+                            // end looping animation
+                            hasEnded = true;
+                        } else {
+                            timeline.replaceState(TimelineState.PLAYING_FORWARD);
+                            if (timeline.getCycleDelay() > 0) {
+                                timeline.pushState(TimelineState.READY);
+                                timeline.timeUntilPlay = timeline.getCycleDelay();
+                            }
+                            this.callbackCallTimelineStateChanged(timeline,
+                                    TimelineState.PLAYING_REVERSE);
+                        }
+                    } else {
+                        hasEnded = true;
+                    }
                 }
-                // System.out.println("Updating from " + oldState + " to " + newState);
-                timeline.callbackChain.onTimelineStateChanged(oldState, newState, durationFraction,
-                        timelinePosition);
+                break;
+            default:
+                throw new IllegalStateException(
+                        "Timeline cannot be in " + timeline.getState() + " state");
+        }
+        if (hasEnded) {
+            if (DEBUG_MODE) {
+                System.out.println("Ending " + timeline.id + " on "
+                        + " in state " + timeline.getState().name() + " at position "
+                        + timeline.durationFraction);
             }
-        };
+            timeline.isRunning = false;
+            TimelineState oldState = timeline.getState();
+            timeline.replaceState(TimelineState.DONE);
+            this.callbackCallTimelineStateChanged(timeline, oldState);
+            timeline.popState();
+            if (timeline.getState() != TimelineState.IDLE) {
+                throw new IllegalStateException("Timeline should be IDLE at this point");
+            }
+            this.callbackCallTimelineStateChanged(timeline, TimelineState.DONE);
+            return false;
+        }
+
         if (DEBUG_MODE) {
-            System.out.println("Scheduling callback runnable for " + oldState.name() + " to "
-                    + newState.name() + " on timeline " + timeline.id);
+            System.out.println("Calling " + timeline.id + " on "
+                    + timeline.durationFraction);
         }
-        this.callbackQueue.add(callbackRunnable);
+        this.callbackCallTimelinePulse(timeline);
+        return true;
     }
 
-    private void callbackCallTimelinePulse(final Timeline timeline) {
-        final float durationFraction = timeline.durationFraction;
-        final float timelinePosition = timeline.timelinePosition;
-        Runnable callbackRunnable = () -> {
-            boolean shouldRunOnUIThread = false;
-            Class<?> clazz = timeline.callbackChain.getClass();
-            while ((clazz != null) && !shouldRunOnUIThread) {
-                shouldRunOnUIThread = clazz.isAnnotationPresent(RunOnEventDispatchThread.class);
-                clazz = clazz.getSuperclass();
+    /**
+     * Applies all the commands submitted since the previous pulse. Only called from
+     * {@link #animatorThread}.
+     */
+    private void drainCommandQueue() {
+        boolean hasCancelledAll = false;
+        Object command;
+        while ((command = this.commandQueue.poll()) != null) {
+            if (command == CANCEL_ALL_COMMAND) {
+                hasCancelledAll = true;
+                for (int i = 0; i < this.pulseTimelineCount; i++) {
+                    Timeline timeline = this.pulseTimelines[i];
+                    synchronized (timeline.stateLock) {
+                        this.cancelTimeline(timeline);
+                    }
+                }
+                while (this.pulseTimelineCount > 0) {
+                    this.removeFromPulse(this.pulseTimelineCount - 1);
+                }
+                continue;
             }
-            if (shouldRunOnUIThread && SwingUtils.isUiComponent(timeline.getMainObject())) {
-                SwingUtils.runOnEventDispatchThread(
-                        () -> timeline.callbackChain.onTimelinePulse(durationFraction,
-                                timelinePosition));
-            } else {
-                timeline.callbackChain.onTimelinePulse(durationFraction, timelinePosition);
+            Timeline timeline = (Timeline) command;
+            if (timeline.isInPulseList) {
+                // Cancelled and played again before the previous pulse got to drop it
+                continue;
             }
-        };
-        this.callbackQueue.add(callbackRunnable);
+            if (this.pulseTimelineCount == this.pulseTimelines.length) {
+                this.pulseTimelines = Arrays.copyOf(this.pulseTimelines,
+                        2 * this.pulseTimelineCount);
+            }
+            this.pulseTimelines[this.pulseTimelineCount++] = timeline;
+            timeline.isInPulseList = true;
+        }
+        if (hasCancelledAll) {
+            // The engine might go idle right after this, deliver the cancellation
+            // notifications now
+            this.flushCallbacks();
+        }
+    }
+
+    private void removeFromPulse(int index) {
+        Timeline timeline = this.pulseTimelines[index];
+        timeline.isInPulseList = false;
+        int last = --this.pulseTimelineCount;
+        this.pulseTimelines[index] = this.pulseTimelines[last];
+        this.pulseTimelines[last] = null;
+    }
+
+    private boolean isIdle() {
+        if ((this.pulseTimelineCount > 0) || !this.commandQueue.isEmpty()) {
+            return false;
+        }
+        synchronized (LOCK) {
+            return this.runningScenarios.isEmpty();
+        }
+    }
+
+    private void signalWorkAvailable() {
+        RadianceAnimationCortex.getPulseSource().onWorkAvailable();
+    }
+
+    private void callbackCallTimelineStateChanged(final Timeline timeline,
+            final TimelineState oldState) {
+        if (DEBUG_MODE) {
+            System.out.println("Scheduling callback runnable for " + oldState.name() + " to "
+                    + timeline.getState().name() + " on timeline " + timeline.id);
+        }
+        synchronized (this.batchLock) {
+            this.getPendingBatch().add(timeline, timeline.callbackChain, oldState,
+                    timeline.getState(), timeline.durationFraction, timeline.timelinePosition);
+        }
+    }
+
+    private void callbackCallTimelinePulse(final Timeline timeline) {
+        synchronized (this.batchLock) {
+            this.getPendingBatch().add(timeline, timeline.callbackChain, null, null,
+                    timeline.durationFraction, timeline.timelinePosition);
+        }
     }
 
     private void callbackCallTimelineScenarioEnded(final TimelineScenario timelineScenario) {
         Runnable callbackRunnable = () -> timelineScenario.callback.onTimelineScenarioDone();
-        this.callbackQueue.offer(callbackRunnable);
+        synchronized (this.batchLock) {
+            // Preserve the order relative to the timeline callbacks scheduled so far
+            this.flushCallbacks();
+            this.callbackQueue.offer(callbackRunnable);
+        }
     }
 
     /**
-     * Returns an existing running timeline that matches the specified parameters.
+     * Returns an existing running timeline that matches the specified parameters. Must be
+     * called under the timeline's {@link Timeline#stateLock}.
      *
      * @param timeline Timeline.
      * @return An existing running timeline that matches the specified parameters.
      */
     private Timeline getRunningTimeline(Timeline timeline) {
-        synchronized (LOCK) {
-            if (this.runningTimelines.contains(timeline))
-                return timeline;
-            return null;
-        }
+        return timeline.isRunning ? timeline : null;
     }
 
     /**
-     * Adds the specified timeline.
+     * Adds the specified timeline. Must be called under the timeline's
+     * {@link Timeline#stateLock}.
      *
      * @param timeline Timeline to add.
      */
     private void addTimeline(Timeline timeline) {
-        synchronized (LOCK) {
-            FullObjectID cid = new FullObjectID(timeline.getMainObject(),
-                    timeline.getSecondaryId());
-            timeline.fullObjectID = cid;
-            this.runningTimelines.add(timeline);
-            // this.nothingTracked = false;
-            if (DEBUG_MODE) {
-                System.out.println(
-                        "Added (" + timeline.id + ") on [" + timeline.fullObjectID + "]. State - "
-                                // + timeline.timelineKind.toString() + " with state "
-                                + timeline.getState().name() + ". Callback - "
-                                + (timeline.callbackChain == null ? "no" : "yes"));
-            }
+        FullObjectID cid = new FullObjectID(timeline.getMainObject(),
+                timeline.getSecondaryId());
+        timeline.fullObjectID = cid;
+        timeline.isRunning = true;
+        this.commandQueue.offer(timeline);
+        if (DEBUG_MODE) {
+            System.out.println(
+                    "Added (" + timeline.id + ") on [" + timeline.fullObjectID + "]. State - "
+                            + timeline.getState().name() + ". Callback - "
+                            + (timeline.callbackChain == null ? "no" : "yes"));
         }
     }
 
     void play(Timeline timeline, boolean reset, long msToSkip) {
-        synchronized (LOCK) {
-            getAnimatorThread();
-
+        getAnimatorThread();
+        synchronized (timeline.stateLock) {
             // see if it's already tracked
             Timeline existing = this.getRunningTimeline(timeline);
             if (existing == null) {
@@ -570,6 +845,7 @@ class TimelineEngine {
                 timeline.pushState(TimelineState.PLAYING_FORWARD);
                 timeline.pushState(TimelineState.READY);
                 this.addTimeline(timeline);
+                this.signalWorkAvailable();
 
                 this.callbackCallTimelineStateChanged(timeline, oldState);
             } else {
@@ -593,6 +869,7 @@ class TimelineEngine {
                     this.callbackCallTimelinePulse(existing);
                 }
             }
+            this.flushCallbacks();
         }
     }
 
@@ -604,15 +881,17 @@ class TimelineEngine {
             // System.err.println(Thread.currentThread().getName() +
             // " : adding");
             this.runningScenarios.add(scenario);
+            this.signalWorkAvailable();
             for (TimelineScenario.TimelineScenarioActor readyActor : readyActors) {
                 readyActor.play();
             }
+            this.flushCallbacks();
         }
     }
 
     void playReverse(Timeline timeline, boolean reset, long msToSkip) {
-        synchronized (LOCK) {
-            getAnimatorThread();
+        getAnimatorThread();
+        synchronized (timeline.stateLock) {
             if (timeline.isLooping) {
                 throw new IllegalArgumentException("Timeline must not be marked as looping");
             }
@@ -635,6 +914,7 @@ class TimelineEngine {
                 timeline.pushState(TimelineState.READY);
 
                 this.addTimeline(timeline);
+                this.signalWorkAvailable();
                 this.callbackCallTimelineStateChanged(timeline, oldState);
             } else {
                 TimelineState oldState = existing.getState();
@@ -657,12 +937,13 @@ class TimelineEngine {
                     this.callbackCallTimelinePulse(existing);
                 }
             }
+            this.flushCallbacks();
         }
     }
 
     void playLoop(Timeline timeline, long msToSkip) {
-        synchronized (LOCK) {
-            getAnimatorThread();
+        getAnimatorThread();
+        synchronized (timeline.stateLock) {
             if (!timeline.isLooping) {
                 throw new IllegalArgumentException("Timeline must be marked as looping");
             }
@@ -686,34 +967,29 @@ class TimelineEngine {
                 timeline.toCancelAtCycleBreak = false;
 
                 this.addTimeline(timeline);
+                this.signalWorkAvailable();
                 this.callbackCallTimelineStateChanged(timeline, oldState);
             } else {
                 existing.toCancelAtCycleBreak = false;
                 existing.repeatCount = timeline.repeatCount;
             }
+            this.flushCallbacks();
         }
     }
 
     /**
      * Stops tracking of all timelines. Note that this function <b>does not</b> stop the timeline
      * engine thread ({@link #animatorThread}) and the timeline callback thread
-     * ({@link #callbackThread}).
+     * ({@link #callbackThread}). The running timelines are cancelled at the start of the next
+     * pulse, after all the timelines played so far.
      */
     public void cancelAllTimelines() {
+        getAnimatorThread();
         synchronized (LOCK) {
-            getAnimatorThread();
-            for (Timeline timeline : this.runningTimelines) {
-                TimelineState oldState = timeline.getState();
-                while (timeline.getState() != TimelineState.IDLE)
-                    timeline.popState();
-                timeline.pushState(TimelineState.CANCELLED);
-                this.callbackCallTimelineStateChanged(timeline, oldState);
-                timeline.popState();
-                this.callbackCallTimelineStateChanged(timeline, TimelineState.CANCELLED);
-            }
-            this.runningTimelines.clear();
             this.runningScenarios.clear();
         }
+        this.commandQueue.offer(CANCEL_ALL_COMMAND);
+        this.signalWorkAvailable();
     }
 
     /**
@@ -722,11 +998,18 @@ class TimelineEngine {
      * @return The animator thread.
      */
     private RadianceAnimationThread getAnimatorThread() {
-        if (this.animatorThread == null) {
-            this.animatorThread = new RadianceAnimationThread();
-            this.animatorThread.start();
+        RadianceAnimationThread result = this.animatorThread;
+        if (result == null) {
+            synchronized (LOCK) {
+                result = this.animatorThread;
+                if (result == null) {
+                    result = new RadianceAnimationThread();
+                    this.animatorThread = result;
+                    result.start();
+                }
+            }
         }
-        return this.animatorThread;
+        return result;
     }
 
     /**
@@ -737,6 +1020,7 @@ class TimelineEngine {
     private TimelineCallbackThread getCallbackThread() {
         if (this.callbackThread == null) {
             this.callbackThread = new TimelineCallbackThread();
+            SwingRepaintCoalescer.setCollectingThread(this.callbackThread);
             this.callbackThread.start();
         }
         return this.callbackThread;
@@ -749,8 +1033,8 @@ class TimelineEngine {
      */
     private void cancelTimeline(Timeline timeline) {
         getAnimatorThread();
-        if (this.runningTimelines.contains(timeline)) {
-            this.runningTimelines.remove(timeline);
+        if (timeline.isRunning) {
+            timeline.isRunning = false;
             TimelineState oldState = timeline.getState();
             while (timeline.getState() != TimelineState.IDLE)
                 timeline.popState();
@@ -768,8 +1052,8 @@ class TimelineEngine {
      */
     private void endTimeline(Timeline timeline) {
         getAnimatorThread();
-        if (this.runningTimelines.contains(timeline)) {
-            this.runningTimelines.remove(timeline);
+        if (timeline.isRunning) {
+            timeline.isRunning = false;
             TimelineState oldState = timeline.getState();
             float endPosition = timeline.timelinePosition;
             while (timeline.getState() != TimelineState.IDLE) {
@@ -797,8 +1081,8 @@ class TimelineEngine {
      */
     private void abortTimeline(Timeline timeline) {
         getAnimatorThread();
-        if (this.runningTimelines.contains(timeline)) {
-            this.runningTimelines.remove(timeline);
+        if (timeline.isRunning) {
+            timeline.isRunning = false;
             while (timeline.getState() != TimelineState.IDLE)
                 timeline.popState();
         }
@@ -811,7 +1095,7 @@ class TimelineEngine {
      */
     private void suspendTimeline(Timeline timeline) {
         getAnimatorThread();
-        if (this.runningTimelines.contains(timeline)) {
+        if (timeline.isRunning) {
             TimelineState oldState = timeline.getState();
             if ((oldState != TimelineState.PLAYING_FORWARD)
                     && (oldState != TimelineState.PLAYING_REVERSE)
@@ -830,11 +1114,12 @@ class TimelineEngine {
      */
     private void resumeTimeline(Timeline timeline) {
         getAnimatorThread();
-        if (this.runningTimelines.contains(timeline)) {
+        if (timeline.isRunning) {
             TimelineState oldState = timeline.getState();
             if (oldState != TimelineState.SUSPENDED)
                 return;
             timeline.popState();
+            this.signalWorkAvailable();
             this.callbackCallTimelineStateChanged(timeline, oldState);
         }
     }
@@ -842,26 +1127,30 @@ class TimelineEngine {
     @SuppressWarnings("incomplete-switch")
     void runTimelineOperation(Timeline timeline, TimelineOperationKind operationKind,
             Runnable operationRunnable) {
-        synchronized (LOCK) {
-            this.getAnimatorThread();
-            switch (operationKind) {
-                case CANCEL:
-                    this.cancelTimeline(timeline);
-                    return;
-                case END:
-                    this.endTimeline(timeline);
-                    return;
-                case RESUME:
-                    this.resumeTimeline(timeline);
-                    return;
-                case SUSPEND:
-                    this.suspendTimeline(timeline);
-                    return;
-                case ABORT:
-                    this.abortTimeline(timeline);
-                    return;
+        this.getAnimatorThread();
+        synchronized (timeline.stateLock) {
+            try {
+                switch (operationKind) {
+                    case CANCEL:
+                        this.cancelTimeline(timeline);
+                        return;
+                    case END:
+                        this.endTimeline(timeline);
+                        return;
+                    case RESUME:
+                        this.resumeTimeline(timeline);
+                        return;
+                    case SUSPEND:
+                        this.suspendTimeline(timeline);
+                        return;
+                    case ABORT:
+                        this.abortTimeline(timeline);
+                        return;
+                }
+                operationRunnable.run();
+            } finally {
+                this.flushCallbacks();
             }
-            operationRunnable.run();
         }
     }
 
@@ -869,6 +1158,7 @@ class TimelineEngine {
         synchronized (LOCK) {
             this.getAnimatorThread();
             timelineScenarioRunnable.run();
+            this.flushCallbacks();
         }
     }
 
@@ -891,5 +1181,9 @@ class TimelineEngine {
         }
     }
 
+    /**
+     * Guards the running scenarios and the state of {@link TimelineScenario}s. Timelines are
+     * guarded by their own {@link Timeline#stateLock}.
+     */
     static final Object LOCK = new Object();
 }
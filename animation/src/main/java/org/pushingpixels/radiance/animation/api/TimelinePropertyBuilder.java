@@ -32,10 +32,15 @@ package org.pushingpixels.radiance.animation.api;
 import org.pushingpixels.radiance.animation.api.interpolator.KeyFrames;
 import org.pushingpixels.radiance.animation.api.interpolator.PropertyInterpolator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 public class TimelinePropertyBuilder<T> {
@@ -66,15 +71,15 @@ public class TimelinePropertyBuilder<T> {
      * Default property setter.
      */
     public static class DefaultPropertySetter<T> implements PropertySetter<T> {
-        private Method setterMethod;
+        private MethodHandle setterHandle;
 
         public DefaultPropertySetter(Object obj, String fieldName) {
-            setterMethod = getSetter(obj, fieldName);
+            setterHandle = getSetter(obj, fieldName);
         }
 
         public void set(Object obj, String fieldName, T value) {
             try {
-                setterMethod.invoke(obj, value);
+                setterHandle.invokeExact(obj, (Object) value);
             } catch (Throwable t) {
                 throw new RuntimeException(
                         "Unable to set the value of the field '" + fieldName + "'", t);
@@ -86,16 +91,16 @@ public class TimelinePropertyBuilder<T> {
      * Default property getter.
      */
     public static class DefaultPropertyGetter<T> implements PropertyGetter<T> {
-        private Method getterMethod;
+        private MethodHandle getterHandle;
 
         public DefaultPropertyGetter(Object obj, String fieldName) {
-            getterMethod = getGetter(obj, fieldName);
+            getterHandle = getGetter(obj, fieldName);
         }
 
         @SuppressWarnings("unchecked")
         public T get(Object obj, String fieldName) {
             try {
-                return (T) getterMethod.invoke(obj);
+                return (T) (Object) getterHandle.invokeExact(obj);
             } catch (Throwable t) {
                 throw new RuntimeException(
                         "Unable to get the value of the field '" + fieldName + "'", t);
@@ -495,10 +500,74 @@ public class TimelinePropertyBuilder<T> {
         }
     }
 
-    private static Method getSetter(Object object, String propertyName) {
+    /**
+     * Resolved setter and getter handles, per class and per property name. Each handle is
+     * adapted to the generic <code>(Object, Object)void</code> and <code>(Object)Object</code>
+     * shapes so that invocation does not go through {@link Method#invoke(Object, Object...)}.
+     * Missing accessors are cached as {@link #MISSING}.
+     */
+    private static final ClassValue<Map<String, MethodHandle>> SETTERS =
+            new ClassValue<Map<String, MethodHandle>>() {
+                @Override
+                protected Map<String, MethodHandle> computeValue(Class<?> clazz) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<Map<String, MethodHandle>> GETTERS =
+            new ClassValue<Map<String, MethodHandle>>() {
+                @Override
+                protected Map<String, MethodHandle> computeValue(Class<?> clazz) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final MethodHandle MISSING = MethodHandles.constant(Object.class, null);
+
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    private static MethodHandle getSetter(Object object, String propertyName) {
+        MethodHandle result = SETTERS.get(object.getClass()).computeIfAbsent(propertyName,
+                name -> toHandle(findSetter(object.getClass(), name), SETTER_TYPE));
+        return (result == MISSING) ? null : result;
+    }
+
+    private static MethodHandle getGetter(Object object, String propertyName) {
+        MethodHandle result = GETTERS.get(object.getClass()).computeIfAbsent(propertyName,
+                name -> toHandle(findGetter(object.getClass(), name), GETTER_TYPE));
+        return (result == MISSING) ? null : result;
+    }
+
+    private static MethodHandle toHandle(Method method, MethodType type) {
+        if (method == null) {
+            return MISSING;
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException iae) {
+            // Public method declared in a non-public class. Go through reflection so that
+            // the invocation fails (or succeeds) the same way as before.
+            try {
+                handle = MethodHandles.publicLookup().findVirtual(Method.class, "invoke",
+                        MethodType.methodType(Object.class, Object.class, Object[].class))
+                        .bindTo(method)
+                        .asCollector(Object[].class, type.parameterCount() - 1);
+            } catch (ReflectiveOperationException roe) {
+                throw new IllegalStateException(roe);
+            }
+        }
+        return handle.asType(type);
+    }
+
+    private static Method findSetter(Class<?> clazz, String propertyName) {
         String setterMethodName = "set" + Character.toUpperCase(propertyName.charAt(0))
                 + propertyName.substring(1);
-        Class<?> oClazz = object.getClass();
+        Class<?> oClazz = clazz;
         while (oClazz != null) {
             for (Method m : oClazz.getMethods()) {
                 if (setterMethodName.equals(m.getName()) && (m.getParameterTypes().length == 1)
@@ -512,10 +581,10 @@ public class TimelinePropertyBuilder<T> {
         return null;
     }
 
-    private static Method getGetter(Object object, String propertyName) {
+    private static Method findGetter(Class<?> clazz, String propertyName) {
         String getterMethodName = "get" + Character.toUpperCase(propertyName.charAt(0))
                 + propertyName.substring(1);
-        Class<?> oClazz = object.getClass();
+        Class<?> oClazz = clazz;
         while (oClazz != null) {
             for (Method m : oClazz.getMethods()) {
                 if (getterMethodName.equals(m.getName()) && (m.getParameterTypes().length == 0)
@@ -31,6 +31,7 @@ package org.pushingpixels.radiance.animation.api.swing;
 
 import org.pushingpixels.radiance.animation.api.callback.TimelineCallbackAdapter;
 import org.pushingpixels.radiance.animation.api.Timeline.TimelineState;
+import org.pushingpixels.radiance.animation.internal.swing.SwingRepaintCoalescer;
 
 import java.awt.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -99,6 +100,11 @@ public class SwingRepaintCallback extends TimelineCallbackAdapter {
             }
         }
 
+        if (SwingRepaintCoalescer.addDirtyRegion(this.comp, this.rect)) {
+            // will be repainted along with all other dirty regions of this pulse
+            return;
+        }
+
         if (this.rect == null)
             this.comp.repaint();
         else
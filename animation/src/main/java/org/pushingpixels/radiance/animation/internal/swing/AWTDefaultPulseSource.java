@@ -35,22 +35,26 @@ import java.awt.*;
 import java.util.Arrays;
 
 /**
- * Default pulse source which derives the pulse delay from
- * the highest refresh rate of all local screen devices.
+ * Default pulse source which derives the pulse rate from
+ * the highest refresh rate of all local screen devices. The pulse thread
+ * is parked while there are no running timelines.
  *
  * @author Timotej Šulík.
  */
-public class AWTDefaultPulseSource extends RadianceAnimationCortex.FixedRatePulseSource {
+public class AWTDefaultPulseSource extends RadianceAnimationCortex.AdaptivePulseSource {
     /**
      * Refresh rate to use if none of the screen devices report a valid refresh rate.
      */
     private static final int REFRESH_RATE_FALLBACK = 60;
 
     public AWTDefaultPulseSource() {
-        super(1000 / getHighestDisplayRefreshRate());
+        super(getHighestDisplayRefreshRate());
     }
 
     private static int getHighestDisplayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return REFRESH_RATE_FALLBACK;
+        }
         GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
         return Arrays.stream(ge.getScreenDevices())
                 .mapToInt(rate -> rate.getDisplayMode().getRefreshRate())
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.animation.internal.swing;
+
+import java.awt.*;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects repaint requests issued by
+ * {@link org.pushingpixels.radiance.animation.api.swing.SwingRepaintCallback}s during a single
+ * pass of the timeline callback thread. The dirty regions are merged per component, and are
+ * handed over to the Event Dispatch Thread together with all other EDT-bound callbacks of that
+ * pass. This class is for internal use only.
+ *
+ * @author Kirill Grouchnikov
+ */
+public class SwingRepaintCoalescer {
+    private static volatile boolean isEnabled = false;
+
+    private static volatile Thread collectingThread;
+
+    /**
+     * Dirty regions collected on {@link #collectingThread}. A <code>null</code> value marks
+     * the entire component as dirty.
+     */
+    private static Map<Component, Rectangle> dirtyRegions = new IdentityHashMap<>();
+
+    public static void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public static void setCollectingThread(Thread thread) {
+        collectingThread = thread;
+    }
+
+    /**
+     * Registers the dirty region of the specified component if called on the collecting
+     * thread while coalescing is enabled.
+     *
+     * @param component Component to repaint.
+     * @param rect      Region to repaint, or <code>null</code> to repaint the entire component.
+     * @return <code>true</code> if the region has been registered, <code>false</code> if the
+     * caller should repaint the component itself.
+     */
+    public static boolean addDirtyRegion(Component component, Rectangle rect) {
+        if (!isEnabled || (Thread.currentThread() != collectingThread)) {
+            return false;
+        }
+        if (!dirtyRegions.containsKey(component)) {
+            dirtyRegions.put(component, (rect == null) ? null : new Rectangle(rect));
+            return true;
+        }
+        Rectangle existing = dirtyRegions.get(component);
+        if (existing != null) {
+            if (rect == null) {
+                dirtyRegions.put(component, null);
+            } else {
+                existing.add(rect);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if there are collected dirty regions. Must be called on the
+     * collecting thread.
+     */
+    public static boolean hasDirtyRegions() {
+        return !dirtyRegions.isEmpty();
+    }
+
+    /**
+     * Swaps the collected dirty regions with the passed empty map. Must be called on the
+     * collecting thread.
+     *
+     * @param empty Empty map that will collect the next dirty regions.
+     * @return The dirty regions collected so far.
+     */
+    public static Map<Component, Rectangle> swapDirtyRegions(Map<Component, Rectangle> empty) {
+        Map<Component, Rectangle> result = dirtyRegions;
+        dirtyRegions = empty;
+        return result;
+    }
+
+    /**
+     * Repaints all the dirty regions in the specified map, and clears it. Must be called on
+     * the Event Dispatch Thread.
+     *
+     * @param regions Dirty regions.
+     */
+    public static void repaint(Map<Component, Rectangle> regions) {
+        for (Map.Entry<Component, Rectangle> entry : regions.entrySet()) {
+            Rectangle rect = entry.getValue();
+            if (rect == null) {
+                entry.getKey().repaint();
+            } else {
+                entry.getKey().repaint(rect.x, rect.y, rect.width, rect.height);
+            }
+        }
+        regions.clear();
+    }
+}
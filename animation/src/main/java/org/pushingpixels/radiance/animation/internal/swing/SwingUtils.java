@@ -29,10 +29,34 @@
  */
 package org.pushingpixels.radiance.animation.internal.swing;
 
+import org.pushingpixels.radiance.animation.api.swing.RunOnEventDispatchThread;
+
 import javax.swing.*;
 import java.awt.*;
 
 public class SwingUtils {
+    /**
+     * Whether instances of a class (or any of its superclasses) are marked with
+     * {@link RunOnEventDispatchThread}. Resolved once per class.
+     */
+    private static final ClassValue<Boolean> RUNS_ON_EVENT_DISPATCH_THREAD =
+            new ClassValue<Boolean>() {
+                @Override
+                protected Boolean computeValue(Class<?> clazz) {
+                    while (clazz != null) {
+                        if (clazz.isAnnotationPresent(RunOnEventDispatchThread.class)) {
+                            return Boolean.TRUE;
+                        }
+                        clazz = clazz.getSuperclass();
+                    }
+                    return Boolean.FALSE;
+                }
+            };
+
+    public static boolean shouldRunOnEventDispatchThread(Object callback) {
+        return RUNS_ON_EVENT_DISPATCH_THREAD.get(callback.getClass());
+    }
+
     public static boolean isUiComponent(Object mainTimelineObject) {
         return (mainTimelineObject instanceof Component);
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.animation.api;
+
+import org.junit.jupiter.api.Test;
+import org.pushingpixels.radiance.animation.api.Timeline.TimelineState;
+import org.pushingpixels.radiance.animation.api.callback.TimelineCallbackAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TimelineEngine}.
+ */
+public class TimelineEngineTest {
+    private static final int TIMELINE_COUNT = 20;
+
+    /**
+     * Records the state changes of a single timeline.
+     */
+    private static class StateRecorder extends TimelineCallbackAdapter {
+        private final List<TimelineState> states = new ArrayList<>();
+
+        private final CountDownLatch runningLatch;
+
+        private final CountDownLatch idleLatch;
+
+        private StateRecorder(CountDownLatch runningLatch, CountDownLatch idleLatch) {
+            this.runningLatch = runningLatch;
+            this.idleLatch = idleLatch;
+        }
+
+        @Override
+        public synchronized void onTimelineStateChanged(TimelineState oldState,
+                TimelineState newState, float durationFraction, float timelinePosition) {
+            this.states.add(newState);
+            if (newState == TimelineState.PLAYING_FORWARD) {
+                this.runningLatch.countDown();
+            }
+            if ((oldState == TimelineState.CANCELLED) && (newState == TimelineState.IDLE)) {
+                this.idleLatch.countDown();
+            }
+        }
+
+        private synchronized List<TimelineState> getStates() {
+            return new ArrayList<>(this.states);
+        }
+    }
+
+    @Test
+    public void cancelAllTimelinesNotifiesAllCallbacks() throws InterruptedException {
+        CountDownLatch runningLatch = new CountDownLatch(TIMELINE_COUNT);
+        CountDownLatch idleLatch = new CountDownLatch(TIMELINE_COUNT);
+        List<StateRecorder> recorders = new ArrayList<>();
+        for (int i = 0; i < TIMELINE_COUNT; i++) {
+            StateRecorder recorder = new StateRecorder(runningLatch, idleLatch);
+            recorders.add(recorder);
+            Timeline.builder()
+                    .setDuration(60000)
+                    .addCallback(recorder)
+                    .play();
+        }
+        assertTrue(runningLatch.await(5, TimeUnit.SECONDS), "Timelines did not start playing");
+
+        TimelineEngine.getInstance().cancelAllTimelines();
+
+        // No other timeline activity from this point on
+        assertTrue(idleLatch.await(5, TimeUnit.SECONDS),
+                "Cancellation notifications were not delivered");
+        for (StateRecorder recorder : recorders) {
+            List<TimelineState> states = recorder.getStates();
+            int cancelledIndex = states.indexOf(TimelineState.CANCELLED);
+            assertTrue(cancelledIndex >= 0, "No CANCELLED notification in " + states);
+            assertEquals(TimelineState.IDLE, states.get(states.size() - 1));
+        }
+    }
+}
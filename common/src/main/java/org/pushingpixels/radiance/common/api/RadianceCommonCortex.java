@@ -264,6 +264,9 @@ public class RadianceCommonCortex {
     public static BufferedImage getBlankScaledImage(double scale, int width, int height) {
         if (scale > 1.0) {
             return JBHiDPIScaledImage.createScaled(scale, width, height, BufferedImage.TYPE_INT_ARGB);
+        } else if (GraphicsEnvironment.isHeadless()) {
+            // No screen device to be compatible with
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         } else {
             GraphicsEnvironment e = GraphicsEnvironment.getLocalGraphicsEnvironment();
             GraphicsDevice d = e.getDefaultScreenDevice();
@@ -282,6 +285,9 @@ public class RadianceCommonCortex {
     public static BufferedImage getBlankUnscaledImage(int width, int height) {
         if (UIUtil.getScaleFactor() > 1.0) {
             return JBHiDPIScaledImage.createUnscaled(width, height, BufferedImage.TYPE_INT_ARGB);
+        } else if (GraphicsEnvironment.isHeadless()) {
+            // No screen device to be compatible with
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         } else {
             GraphicsEnvironment e = GraphicsEnvironment.getLocalGraphicsEnvironment();
             GraphicsDevice d = e.getDefaultScreenDevice();
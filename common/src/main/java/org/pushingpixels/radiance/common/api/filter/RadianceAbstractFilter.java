@@ -39,6 +39,8 @@ import org.pushingpixels.radiance.common.internal.contrib.intellij.JBHiDPIScaled
 import java.awt.*;
 import java.awt.geom.*;
 import java.awt.image.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * <p>
@@ -51,6 +53,12 @@ import java.awt.image.*;
  */
 
 public abstract class RadianceAbstractFilter implements BufferedImageOp {
+    /**
+     * Number of pixels above which {@link #filterPixels(BufferedImage, BufferedImage, PixelFilter)}
+     * splits the work across the common fork-join pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 256 * 256;
+
     @Override
     public Rectangle2D getBounds2D(BufferedImage src) {
         return new Rectangle(0, 0, src.getWidth(), src.getHeight());
@@ -142,4 +150,125 @@ public abstract class RadianceAbstractFilter implements BufferedImageOp {
             img.setRGB(x, y, w, h, pixels, 0, w);
         }
     }
+
+    /**
+     * Returns the pixel array backing the specified image, or <code>null</code> if the image
+     * does not store its pixels in a single non-premultiplied ARGB array with no padding.
+     * Note that accessing the pixel array directly unmanages the image.
+     *
+     * @param img the image
+     * @return the pixel array backing the image, or <code>null</code> if the image pixels
+     * can not be accessed directly
+     */
+    protected static int[] getPixelData(BufferedImage img) {
+        if (img.getType() != BufferedImage.TYPE_INT_ARGB) {
+            return null;
+        }
+        WritableRaster raster = img.getRaster();
+        if ((raster.getSampleModelTranslateX() != 0) || (raster.getSampleModelTranslateY() != 0)
+                || !(raster.getDataBuffer() instanceof DataBufferInt)
+                || !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel)) {
+            return null;
+        }
+        DataBufferInt dataBuffer = (DataBufferInt) raster.getDataBuffer();
+        SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) raster.getSampleModel();
+        if ((dataBuffer.getNumBanks() != 1) || (dataBuffer.getOffset() != 0)
+                || (sampleModel.getScanlineStride() != img.getWidth())) {
+            return null;
+        }
+        return dataBuffer.getData();
+    }
+
+    /**
+     * <p>
+     * Filters the pixels of the source image into the destination image with the
+     * specified per-pixel operation. If <code>dst</code> is the same as <code>src</code>
+     * and stores its pixels in a plain ARGB array, the operation runs in place on that
+     * array with no intermediate copies (this unmanages the image). Images with more than
+     * {@link #PARALLEL_THRESHOLD} pixels are split by rows across the common fork-join pool,
+     * so the operation must be safe to call concurrently on disjoint ranges.
+     * </p>
+     *
+     * @param src         the source image
+     * @param dst         the destination image. If <code>null</code>, a new compatible
+     *                    image is created
+     * @param pixelFilter the per-pixel operation
+     * @return the destination image
+     */
+    protected BufferedImage filterPixels(BufferedImage src, BufferedImage dst,
+            PixelFilter pixelFilter) {
+        if (dst == null) {
+            dst = createCompatibleDestImage(src, null);
+        }
+
+        int width = src.getWidth();
+        int height = src.getHeight();
+        if ((width == 0) || (height == 0)) {
+            return dst;
+        }
+
+        int[] pixels = (src == dst) ? getPixelData(dst) : null;
+        boolean inPlace = (pixels != null);
+        if (!inPlace) {
+            pixels = getPixels(src, 0, 0, width, height, null);
+        }
+
+        int pixelCount = width * height;
+        if (pixelCount > PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new FilterRowsTask(pixelFilter, pixels, width, 0, height));
+        } else {
+            pixelFilter.filter(pixels, 0, pixelCount);
+        }
+
+        if (!inPlace) {
+            setPixels(dst, 0, 0, width, height, pixels);
+        }
+        return dst;
+    }
+
+    /**
+     * Operation that filters a range of ARGB pixels in place.
+     */
+    @FunctionalInterface
+    protected interface PixelFilter {
+        /**
+         * Filters the pixels in the specified range.
+         *
+         * @param pixels the pixels, stored as ARGB integers
+         * @param from   the index of the first pixel to filter (inclusive)
+         * @param to     the index of the last pixel to filter (exclusive)
+         */
+        void filter(int[] pixels, int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private static class FilterRowsTask extends RecursiveAction {
+        private final PixelFilter pixelFilter;
+        private final int[] pixels;
+        private final int width;
+        private final int fromRow;
+        private final int toRow;
+
+        private FilterRowsTask(PixelFilter pixelFilter, int[] pixels, int width,
+                int fromRow, int toRow) {
+            this.pixelFilter = pixelFilter;
+            this.pixels = pixels;
+            this.width = width;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = this.toRow - this.fromRow;
+            if ((rows == 1) || (rows * this.width <= PARALLEL_THRESHOLD / 4)) {
+                this.pixelFilter.filter(this.pixels, this.fromRow * this.width,
+                        this.toRow * this.width);
+                return;
+            }
+            int middleRow = this.fromRow + rows / 2;
+            invokeAll(new FilterRowsTask(this.pixelFilter, this.pixels, this.width, this.fromRow, middleRow),
+                    new FilterRowsTask(this.pixelFilter, this.pixels, this.width, middleRow, this.toRow));
+        }
+    }
 }
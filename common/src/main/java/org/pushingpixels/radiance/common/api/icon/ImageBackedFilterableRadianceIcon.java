@@ -37,6 +37,8 @@ import org.pushingpixels.radiance.common.api.filter.RadianceAbstractFilter;
 import javax.swing.event.EventListenerList;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Implementation of the {@link RadianceIcon} interface that supports color filtering of content
@@ -55,9 +57,38 @@ public class ImageBackedFilterableRadianceIcon implements RadianceIcon, Asynchro
     private ColorFilter colorFilter;
     private BufferedImage currColorized;
 
-    private class InternalColorFilter extends RadianceAbstractFilter {
+    /**
+     * Unfiltered content of the delegate icon at the current size.
+     */
+    private BufferedImage currFlat;
+
+    /**
+     * Maximum number of colorized images kept in {@link #colorizedCache}.
+     */
+    private static final int MAX_CACHED_COLORIZED = 4;
+
+    /**
+     * Colorized images of {@link #currFlat}, keyed by the color filter that created them.
+     */
+    private final Map<ColorFilter, BufferedImage> colorizedCache =
+            new LinkedHashMap<ColorFilter, BufferedImage>(8, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ColorFilter, BufferedImage> eldest) {
+                    return this.size() > MAX_CACHED_COLORIZED;
+                }
+            };
+
+    private static class InternalColorFilter extends RadianceAbstractFilter {
         private RadianceIcon.ColorFilter colorFilter;
 
+        // Open-addressed map from source ARGB values to filtered ARGB values. Icons
+        // usually have only a handful of distinct colors, so the user color filter is
+        // called once per distinct color and not once per pixel.
+        private int[] lookupKeys = new int[64];
+        private int[] lookupValues = new int[64];
+        private boolean[] lookupUsed = new boolean[64];
+        private int lookupSize;
+
         public InternalColorFilter(RadianceIcon.ColorFilter colorFilter) {
             this.colorFilter = colorFilter;
         }
@@ -71,25 +102,78 @@ public class ImageBackedFilterableRadianceIcon implements RadianceIcon, Asynchro
             int width = src.getWidth();
             int height = src.getHeight();
 
-            int[] pixels = new int[width * height];
-            getPixels(src, 0, 0, width, height, pixels);
+            int[] srcPixels = getPixelData(src);
+            if (srcPixels == null) {
+                srcPixels = getPixels(src, 0, 0, width, height, null);
+            }
 
+            int[] pixels = new int[width * height];
             for (int i = 0; i < pixels.length; i++) {
-                int argb = pixels[i];
-                int a = (argb >>> 24) & 0xFF;
-                int r = (argb >>> 16) & 0xFF;
-                int g = (argb >>> 8) & 0xFF;
-                int b = (argb >>> 0) & 0xFF;
-
-                Color filtered = this.colorFilter.filter(new Color(r, g, b, a));
-
-                pixels[i] = (a * filtered.getAlpha() / 256) << 24 | filtered.getRed() << 16 |
-                        filtered.getGreen() << 8 | filtered.getBlue();
+                pixels[i] = this.getFiltered(srcPixels[i]);
             }
             setPixels(dst, 0, 0, width, height, pixels);
 
             return dst;
         }
+
+        private int getFiltered(int argb) {
+            int mask = this.lookupKeys.length - 1;
+            int index = getLookupIndex(argb, mask);
+            while (this.lookupUsed[index]) {
+                if (this.lookupKeys[index] == argb) {
+                    return this.lookupValues[index];
+                }
+                index = (index + 1) & mask;
+            }
+
+            int a = (argb >>> 24) & 0xFF;
+            int r = (argb >>> 16) & 0xFF;
+            int g = (argb >>> 8) & 0xFF;
+            int b = (argb >>> 0) & 0xFF;
+
+            Color filtered = this.colorFilter.filter(new Color(r, g, b, a));
+
+            int result = (a * filtered.getAlpha() / 256) << 24 | filtered.getRed() << 16 |
+                    filtered.getGreen() << 8 | filtered.getBlue();
+
+            this.lookupKeys[index] = argb;
+            this.lookupValues[index] = result;
+            this.lookupUsed[index] = true;
+            this.lookupSize++;
+            if (2 * this.lookupSize > this.lookupKeys.length) {
+                this.growLookup();
+            }
+            return result;
+        }
+
+        private static int getLookupIndex(int argb, int mask) {
+            int hash = argb * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+
+        private void growLookup() {
+            int[] oldKeys = this.lookupKeys;
+            int[] oldValues = this.lookupValues;
+            boolean[] oldUsed = this.lookupUsed;
+
+            int capacity = 2 * oldKeys.length;
+            this.lookupKeys = new int[capacity];
+            this.lookupValues = new int[capacity];
+            this.lookupUsed = new boolean[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (!oldUsed[i]) {
+                    continue;
+                }
+                int index = getLookupIndex(oldKeys[i], mask);
+                while (this.lookupUsed[index]) {
+                    index = (index + 1) & mask;
+                }
+                this.lookupKeys[index] = oldKeys[i];
+                this.lookupValues[index] = oldValues[i];
+                this.lookupUsed[index] = true;
+            }
+        }
     }
 
     public ImageBackedFilterableRadianceIcon(RadianceIcon.Factory sourceFactory, ColorFilter colorFilter) {
@@ -107,6 +191,8 @@ public class ImageBackedFilterableRadianceIcon implements RadianceIcon, Asynchro
             throw new IllegalStateException("Do not use this class for icons that support color filter directly");
         }
         this.currDelegate.setDimension(newDimension);
+        this.currFlat = null;
+        this.colorizedCache.clear();
         AsynchronousLoading async = (AsynchronousLoading) this.currDelegate;
         if (async.isLoading()) {
             this.currColorized = null;
@@ -148,11 +234,25 @@ public class ImageBackedFilterableRadianceIcon implements RadianceIcon, Asynchro
     }
 
     private void makeColorized() {
-        BufferedImage flat = RadianceCommonCortex.getBlankScaledImage(
-                RadianceCommonCortex.getScaleFactor(null),
-                this.width, this.height);
-        this.currDelegate.paintIcon(null, flat.getGraphics(), 0, 0);
-        this.currColorized = new InternalColorFilter(this.colorFilter).filter(flat, null);
+        if (this.currFlat == null) {
+            this.currFlat = RadianceCommonCortex.getBlankScaledImage(
+                    RadianceCommonCortex.getScaleFactor(null),
+                    this.width, this.height);
+            Graphics2D g2d = this.currFlat.createGraphics();
+            this.currDelegate.paintIcon(null, g2d, 0, 0);
+            g2d.dispose();
+            this.colorizedCache.clear();
+        }
+        if (this.colorFilter == null) {
+            this.currColorized = this.currFlat;
+            return;
+        }
+        BufferedImage colorized = this.colorizedCache.get(this.colorFilter);
+        if (colorized == null) {
+            colorized = new InternalColorFilter(this.colorFilter).filter(this.currFlat, null);
+            this.colorizedCache.put(this.colorFilter, colorized);
+        }
+        this.currColorized = colorized;
     }
 
     @Override
@@ -189,6 +289,6 @@ public class ImageBackedFilterableRadianceIcon implements RadianceIcon, Asynchro
     @Override
     public boolean isLoading() {
         return (this.currDelegate != null) &&
-                ((AsynchronousLoading) this.currColorized).isLoading();
+                ((AsynchronousLoading) this.currDelegate).isLoading();
     }
 }
@@ -33,6 +33,7 @@ import org.pushingpixels.radiance.common.api.AsynchronousLoading;
 import org.pushingpixels.radiance.common.api.icon.RadianceIcon;
 import org.pushingpixels.radiance.component.api.bcb.BreadcrumbItem;
 import org.pushingpixels.radiance.component.api.common.icon.EmptyRadianceIcon;
+import org.pushingpixels.radiance.component.api.common.model.BaseCommand;
 import org.pushingpixels.radiance.component.api.common.model.Command;
 import org.pushingpixels.radiance.component.api.common.model.CommandGroup;
 import org.pushingpixels.radiance.component.api.common.model.CommandPanelContentModel;
@@ -40,10 +41,16 @@ import org.pushingpixels.radiance.component.api.common.model.CommandPanelPresent
 import org.pushingpixels.radiance.component.api.common.projection.CommandPanelProjection;
 
 import javax.swing.*;
+import javax.swing.event.ChangeListener;
 import java.awt.*;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Panel that hosts file-related command buttons with progress indication and cancellation
@@ -64,9 +71,36 @@ public abstract class AbstractFileViewPanel<T> extends JCommandButtonPanel {
     private Set<Command> loadedSet;
 
     /**
-     * The main worker that loads the images off EDT.
+     * Maximum number of leaves of a single folder that are loaded in parallel.
      */
-    private SwingWorker<Void, Leaf> mainWorker;
+    private static final int LEAF_LOADING_PARALLELISM =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * Bounded pool shared by all file view panels to load the leaves off EDT.
+     */
+    private static final ExecutorService LEAF_LOADING_EXECUTOR =
+            Executors.newFixedThreadPool(LEAF_LOADING_PARALLELISM, runnable -> {
+                Thread thread = new Thread(runnable, "Radiance file view panel loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Loading of the leaves of the current folder.
+     */
+    private LeafLoading leafLoading;
+
+    /**
+     * The viewport that hosts this panel. Can be <code>null</code>.
+     */
+    private JViewport viewport;
+
+    /**
+     * Listener on the viewport that hosts this panel to reprioritize the leaf loading
+     * on scrolling.
+     */
+    private ChangeListener viewportChangeListener;
 
     /**
      * Information on the specific file. Depending on the actual type of the file repository, the
@@ -172,18 +206,19 @@ public abstract class AbstractFileViewPanel<T> extends JCommandButtonPanel {
      * matching entry determined by the {@link #toShowFile(BreadcrumbItem)} call, a new
      * {@link JCommandButton} with matching implementation of {@link RadianceIcon} from
      * {@link #getRadianceIcon(Leaf, InputStream, CommandButtonPresentationState, Dimension)} is
-     * added to the panel.
+     * added to the panel. The icons of the entries shown in the viewport are loaded first, and
+     * the icons of the entries scrolled far out of view are loaded last.
      *
      * @param leaves Information on the entries to show in the panel.
      */
     public void setFolder(final List<BreadcrumbItem<T>> leaves) {
-        final CommandPanelContentModel contentModel = this.getProjection().getContentModel();
-        contentModel.removeAllCommandGroups();
+        this.cancelMainWorker();
 
-        CommandGroup commandGroup = new CommandGroup();
-        contentModel.addCommandGroup(commandGroup);
+        final CommandPanelContentModel contentModel = this.getProjection().getContentModel();
 
-        int fileCount = 0;
+        // Each command is mapped directly to its leaf so that the loaded icons do not need
+        // to look up the matching command in the content model
+        Map<Command, BreadcrumbItem<T>> leafItems = new LinkedHashMap<>();
         for (BreadcrumbItem<T> leaf : leaves) {
             if (!toShowFile(leaf)) {
                 continue;
@@ -191,82 +226,336 @@ public abstract class AbstractFileViewPanel<T> extends JCommandButtonPanel {
 
             // Create a command with empty icon factory. The icons will be loaded off the EDT / UI thread
             // a bit later in this method
-            Command command = Command.builder()
+            leafItems.put(Command.builder()
                     .setText(leaf.getDisplayName())
                     .setIconFactory(EmptyRadianceIcon.factory())
-                    .build();
+                    .build(), leaf);
+        }
 
+        // Replace the content as a single batch so that the panel syncs its buttons once
+        // instead of once for every file
+        contentModel.performBatchUpdate(() -> {
+            contentModel.removeAllCommandGroups();
             // We only have one command group in this projection's content model
-            commandGroup.addCommand(command);
-
-            fileCount++;
+            contentModel.addCommandGroup(new CommandGroup(new ArrayList<>(leafItems.keySet())));
+        });
+        synchronized (this) {
+            this.loadedSet.clear();
         }
         this.doLayout();
         this.repaint();
 
-        final int totalCount = fileCount;
-        this.mainWorker = new SwingWorker<>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                if ((totalCount > 0) && (progressListener != null)) {
-                    progressListener.onProgress(
-                            new ProgressEvent(AbstractFileViewPanel.this, 0, totalCount, 0));
+        this.leafLoading = new LeafLoading(leafItems);
+        this.leafLoading.start();
+    }
+
+    /**
+     * Loading of the leaves of a single folder. The leaves are loaded on the shared bounded
+     * pool, with the leaves shown in the viewport (and next to it) of this panel loaded first.
+     * Leaves that have not started loading yet are reprioritized every time this panel is
+     * laid out or scrolled, and are not loaded at all if the loading is cancelled.
+     */
+    private class LeafLoading {
+        private final Map<Command, BreadcrumbItem<T>> leafItems;
+
+        /**
+         * Commands with leaves that have not started loading yet, in folder order. Access
+         * to this set, to {@link #deferredCommands} and to {@link #activeLoaderCount} is
+         * guarded by synchronizing on this set.
+         */
+        private final Set<Command> pendingCommands;
+
+        /**
+         * Commands with leaves that have not started loading yet and that are scrolled far
+         * out of view. These are loaded after all the {@link #pendingCommands}, and are moved
+         * back to {@link #pendingCommands} when they come back close to the viewport.
+         */
+        private final Set<Command> deferredCommands;
+
+        /**
+         * Number of loaders of this folder currently running on the shared pool.
+         */
+        private int activeLoaderCount;
+
+        /**
+         * Commands shown in the viewport of this panel, followed by the commands next to
+         * the viewport. Updated on EDT.
+         */
+        private volatile List<BaseCommand<?>> priorityCommands;
+
+        /**
+         * Leaves loaded off EDT that are waiting to be wired to their commands on EDT.
+         */
+        private final Queue<LoadedLeaf> loadedLeaves;
+
+        private final AtomicBoolean isWiringScheduled;
+
+        private volatile boolean isCancelled;
+
+        private final CommandButtonPresentationState presentationState;
+
+        private final Dimension iconDimension;
+
+        private LeafLoading(Map<Command, BreadcrumbItem<T>> leafItems) {
+            this.leafItems = leafItems;
+            this.pendingCommands = new LinkedHashSet<>(leafItems.keySet());
+            this.deferredCommands = new HashSet<>();
+            this.priorityCommands = Collections.emptyList();
+            this.loadedLeaves = new ConcurrentLinkedQueue<>();
+            this.isWiringScheduled = new AtomicBoolean(false);
+            this.presentationState = getProjection().getPresentationModel().getCommandPresentationState();
+            this.iconDimension = getProjection().getPresentationModel().getCommandIconDimension();
+        }
+
+        private void start() {
+            int totalCount = this.leafItems.size();
+            if ((totalCount > 0) && (progressListener != null)) {
+                progressListener.onProgress(
+                        new ProgressEvent(AbstractFileViewPanel.this, 0, totalCount, 0));
+            }
+            updateLeafLoadingPriorities();
+            synchronized (this.pendingCommands) {
+                this.startLoaders();
+            }
+        }
+
+        /**
+         * Starts as many loaders as there are pending and deferred leaves, up to the pool
+         * parallelism. Must be called while holding the lock on {@link #pendingCommands}.
+         */
+        private void startLoaders() {
+            int toStart = Math.min(LEAF_LOADING_PARALLELISM - this.activeLoaderCount,
+                    this.pendingCommands.size() + this.deferredCommands.size());
+            for (int i = 0; i < toStart; i++) {
+                this.activeLoaderCount++;
+                LEAF_LOADING_EXECUTOR.execute(this::loadLeaves);
+            }
+        }
+
+        private boolean hasPendingLeaves() {
+            synchronized (this.pendingCommands) {
+                return !this.pendingCommands.isEmpty() || !this.deferredCommands.isEmpty();
+            }
+        }
+
+        /**
+         * Updates the loading priorities of this folder.
+         *
+         * @param priorityCommands Commands to load first, in the order of loading.
+         * @param farCommands      Commands scrolled far out of view. Those that have not
+         *                         started loading are loaded last.
+         */
+        private void updatePriorities(List<BaseCommand<?>> priorityCommands,
+                Set<BaseCommand<?>> farCommands) {
+            this.priorityCommands = priorityCommands;
+            synchronized (this.pendingCommands) {
+                if (this.isCancelled) {
+                    return;
                 }
-                for (final BreadcrumbItem<T> leafItem : leaves) {
-                    if (isCancelled()) {
-                        break;
+                for (Iterator<Command> it = this.deferredCommands.iterator(); it.hasNext(); ) {
+                    Command deferredCommand = it.next();
+                    if (!farCommands.contains(deferredCommand)) {
+                        it.remove();
+                        this.pendingCommands.add(deferredCommand);
                     }
-                    if (!toShowFile(leafItem)) {
-                        continue;
+                }
+                for (Iterator<Command> it = this.pendingCommands.iterator(); it.hasNext(); ) {
+                    Command pendingCommand = it.next();
+                    if (farCommands.contains(pendingCommand)) {
+                        it.remove();
+                        this.deferredCommands.add(pendingCommand);
                     }
-                    InputStream stream = getLeafContent(leafItem.getData());
-                    Leaf leaf = new Leaf(leafItem.getDisplayName(), stream);
-                    publish(leaf);
                 }
-                return null;
+                this.startLoaders();
             }
+        }
 
-            @Override
-            protected void process(List<Leaf> leaves) {
-                for (final Leaf leaf : leaves) {
-                    final String name = leaf.getLeafName();
-                    InputStream stream = leaf.getLeafStream();
-                    Dimension dim = getProjection().getPresentationModel().getCommandIconDimension();
-                    final RadianceIcon icon = getRadianceIcon(leaf, stream,
-                            getProjection().getPresentationModel().getCommandPresentationState(),
-                            dim);
+        private Command pollNextCommand() {
+            synchronized (this.pendingCommands) {
+                if (this.isCancelled) {
+                    this.activeLoaderCount--;
+                    return null;
+                }
+                for (BaseCommand<?> priorityCommand : this.priorityCommands) {
+                    if (this.pendingCommands.remove(priorityCommand)) {
+                        return (Command) priorityCommand;
+                    }
+                }
+                Iterator<Command> pendingIterator = this.pendingCommands.iterator();
+                if (!pendingIterator.hasNext()) {
+                    // Nothing left close to the viewport, load the leaves far out of view
+                    pendingIterator = this.deferredCommands.iterator();
+                }
+                if (!pendingIterator.hasNext()) {
+                    this.activeLoaderCount--;
+                    return null;
+                }
+                Command next = pendingIterator.next();
+                pendingIterator.remove();
+                return next;
+            }
+        }
+
+        private void loadLeaves() {
+            while (true) {
+                Command command = this.pollNextCommand();
+                if (command == null) {
+                    return;
+                }
+
+                BreadcrumbItem<T> leafItem = this.leafItems.get(command);
+                InputStream stream = null;
+                boolean isStreamOwnedByIcon = false;
+                try {
+                    stream = getLeafContent(leafItem.getData());
+                    Leaf leaf = new Leaf(leafItem.getDisplayName(), stream);
+                    RadianceIcon icon = getRadianceIcon(leaf, stream, this.presentationState,
+                            this.iconDimension);
                     if (icon == null) {
                         continue;
                     }
-                    // Find the matching command so that we can set the icon factory based on the newly
-                    // loaded SVG content. The assumption here is that the underlying file system (local
-                    // or remote) enforces unique file names in the same folder.
-                    final Command matchingCommand = contentModel.findFirstMatch(
-                            command -> name.equals(command.getText()));
-                    matchingCommand.setIconFactory(() -> icon);
-
-                    if (icon instanceof AsynchronousLoading) {
-                        ((AsynchronousLoading) icon)
-                                .addAsynchronousLoadListener((boolean success) -> {
-                                    synchronized (AbstractFileViewPanel.this) {
-                                        if (loadedSet.contains(matchingCommand)) {
-                                            return;
-                                        }
-                                        loadedSet.add(matchingCommand);
-                                        if (progressListener != null) {
-                                            progressListener.onProgress(
-                                                    new ProgressEvent(AbstractFileViewPanel.this, 0,
-                                                            totalCount, loadedSet.size()));
-                                        }
-                                    }
-                                });
+
+                    // The icon might read the stream after it is returned (asynchronous loading)
+                    isStreamOwnedByIcon = true;
+                    this.loadedLeaves.add(new LoadedLeaf(leaf, command, icon));
+                    if (this.isWiringScheduled.compareAndSet(false, true)) {
+                        SwingUtilities.invokeLater(this::wireLoadedLeaves);
+                    }
+                } catch (Throwable exc) {
+                    // Do not let a single failing leaf stop the loading of the rest
+                    exc.printStackTrace(System.err);
+                } finally {
+                    if ((stream != null) && !isStreamOwnedByIcon) {
+                        try {
+                            stream.close();
+                        } catch (IOException ioe) {
+                            ioe.printStackTrace(System.err);
+                        }
                     }
+                }
+            }
+        }
+
+        private void wireLoadedLeaves() {
+            this.isWiringScheduled.set(false);
+            final int totalCount = this.leafItems.size();
+            LoadedLeaf loadedLeaf;
+            while ((loadedLeaf = this.loadedLeaves.poll()) != null) {
+                if (this.isCancelled) {
+                    this.loadedLeaves.clear();
+                    return;
+                }
 
-                    configureCommand(leaf, matchingCommand, icon);
+                final Command matchingCommand = loadedLeaf.command;
+                final RadianceIcon icon = loadedLeaf.icon;
+                matchingCommand.setIconFactory(() -> icon);
+
+                if (icon instanceof AsynchronousLoading) {
+                    ((AsynchronousLoading) icon)
+                            .addAsynchronousLoadListener((boolean success) -> {
+                                synchronized (AbstractFileViewPanel.this) {
+                                    if (this.isCancelled || loadedSet.contains(matchingCommand)) {
+                                        return;
+                                    }
+                                    loadedSet.add(matchingCommand);
+                                    if (progressListener != null) {
+                                        progressListener.onProgress(
+                                                new ProgressEvent(AbstractFileViewPanel.this, 0,
+                                                        totalCount, loadedSet.size()));
+                                    }
+                                }
+                            });
                 }
+
+                configureCommand(loadedLeaf.leaf, matchingCommand, icon);
+            }
+        }
+
+        private void cancel() {
+            this.isCancelled = true;
+            synchronized (this.pendingCommands) {
+                this.pendingCommands.clear();
+                this.deferredCommands.clear();
             }
-        };
-        mainWorker.execute();
+        }
+    }
+
+    private static class LoadedLeaf {
+        private final Leaf leaf;
+        private final Command command;
+        private final RadianceIcon icon;
+
+        private LoadedLeaf(Leaf leaf, Command command, RadianceIcon icon) {
+            this.leaf = leaf;
+            this.command = command;
+            this.icon = icon;
+        }
+    }
+
+    /**
+     * Updates the loading priorities of the current folder so that the leaves shown in the
+     * viewport are loaded first, followed by the leaves within one viewport length of it.
+     * Leaves further away that have not started loading are loaded last.
+     */
+    private void updateLeafLoadingPriorities() {
+        LeafLoading loading = this.leafLoading;
+        if ((loading == null) || !loading.hasPendingLeaves()) {
+            return;
+        }
+        Rectangle visibleRect = this.getVisibleRect();
+        if (visibleRect.isEmpty()) {
+            return;
+        }
+        Rectangle nearbyRect = new Rectangle(visibleRect.x - visibleRect.width,
+                visibleRect.y - visibleRect.height, 3 * visibleRect.width,
+                3 * visibleRect.height);
+
+        List<BaseCommand<?>> visibleCommands = new ArrayList<>();
+        List<BaseCommand<?>> nearbyCommands = new ArrayList<>();
+        Set<BaseCommand<?>> farCommands = new HashSet<>();
+        for (int i = 0; i < this.getComponentCount(); i++) {
+            Component component = this.getComponent(i);
+            if (!(component instanceof JCommandButton)) {
+                continue;
+            }
+            Rectangle buttonBounds = component.getBounds();
+            if (buttonBounds.intersects(visibleRect)) {
+                visibleCommands.add(((JCommandButton) component).getContentModel());
+            } else if (buttonBounds.intersects(nearbyRect)) {
+                nearbyCommands.add(((JCommandButton) component).getContentModel());
+            } else if (!buttonBounds.isEmpty()) {
+                farCommands.add(((JCommandButton) component).getContentModel());
+            }
+        }
+        visibleCommands.addAll(nearbyCommands);
+        loading.updatePriorities(visibleCommands, farCommands);
+    }
+
+    @Override
+    public void doLayout() {
+        super.doLayout();
+        this.updateLeafLoadingPriorities();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (this.getParent() instanceof JViewport) {
+            if (this.viewportChangeListener == null) {
+                this.viewportChangeListener = changeEvent -> updateLeafLoadingPriorities();
+            }
+            this.viewport = (JViewport) this.getParent();
+            this.viewport.addChangeListener(this.viewportChangeListener);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (this.viewport != null) {
+            this.viewport.removeChangeListener(this.viewportChangeListener);
+            this.viewport = null;
+        }
+        super.removeNotify();
     }
 
     /**
@@ -279,16 +568,15 @@ public abstract class AbstractFileViewPanel<T> extends JCommandButtonPanel {
     }
 
     /**
-     * Cancels the pending processing.
+     * Cancels the pending processing. Leaves that have not started loading are not loaded,
+     * and icons that have already been loaded are not set on their commands.
      */
     public void cancelMainWorker() {
-        if (this.mainWorker == null) {
-            return;
-        }
-        if (this.mainWorker.isDone() || this.mainWorker.isCancelled()) {
+        if (this.leafLoading == null) {
             return;
         }
-        this.mainWorker.cancel(false);
+        // Always cancel, as leaves that are being loaded right now are not tracked as pending
+        this.leafLoading.cancel();
     }
 
     /**
@@ -301,7 +589,10 @@ public abstract class AbstractFileViewPanel<T> extends JCommandButtonPanel {
     protected abstract boolean toShowFile(BreadcrumbItem<T> item);
 
     /**
-     * Returns the icon for the specified parameters.
+     * Returns the icon for the specified parameters. This method is called off EDT, and can
+     * be called concurrently for different leaves of the same folder. If this method returns
+     * <code>null</code> or throws an exception, the stream is closed by this panel. Otherwise
+     * the returned icon is responsible for the stream.
      *
      * @param leaf      Information on the file.
      * @param stream    Input stream with the file contents.
@@ -59,6 +59,16 @@ public class CommandPanelContentModel implements ContentModel, ChangeAware {
 
     private Command selectedCommand;
 
+    /**
+     * Nesting depth of the currently running {@link #performBatchUpdate(Runnable)} calls.
+     */
+    private int batchUpdateDepth;
+
+    /**
+     * Indicates whether a change event was suppressed during the current batch update.
+     */
+    private boolean hasPendingStateChange;
+
     public CommandPanelContentModel(List<CommandGroup> commands) {
         this.weakChangeSupport = new WeakChangeSupport(this);
         this.commandGroups = new ArrayList<>(commands);
@@ -141,6 +151,28 @@ public class CommandPanelContentModel implements ContentModel, ChangeAware {
         }
     }
 
+    /**
+     * Runs the specified updates as a single batch. Change listeners registered on this
+     * model are notified at most once, after all the updates have been applied, instead
+     * of once for every command or command group added to or removed from this model.
+     * Batch updates can be nested, in which case the notification is deferred until the
+     * outermost batch completes.
+     *
+     * @param updates Updates to apply to this model and its command groups.
+     */
+    public void performBatchUpdate(Runnable updates) {
+        this.batchUpdateDepth++;
+        try {
+            updates.run();
+        } finally {
+            this.batchUpdateDepth--;
+            if ((this.batchUpdateDepth == 0) && this.hasPendingStateChange) {
+                this.hasPendingStateChange = false;
+                this.weakChangeSupport.fireStateChanged();
+            }
+        }
+    }
+
     public List<CommandGroup> getCommandGroups() {
         return Collections.unmodifiableList(this.commandGroups);
     }
@@ -232,6 +264,10 @@ public class CommandPanelContentModel implements ContentModel, ChangeAware {
     }
 
     private void fireStateChanged() {
+        if (this.batchUpdateDepth > 0) {
+            this.hasPendingStateChange = true;
+            return;
+        }
         this.weakChangeSupport.fireStateChanged();
     }
 }
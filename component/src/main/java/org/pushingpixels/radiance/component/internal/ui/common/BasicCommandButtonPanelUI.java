@@ -44,7 +44,7 @@ import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import javax.swing.plaf.UIResource;
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.*;
 import java.util.List;
 
 /**
@@ -91,6 +91,17 @@ public abstract class BasicCommandButtonPanelUI extends CommandButtonPanelUI {
 
     private ChangeListener contentModelChangeListener;
 
+    /**
+     * Indicates whether a content sync has already been scheduled on the EDT. Used to
+     * coalesce a burst of content model change events into a single sync pass.
+     */
+    private boolean isContentSyncScheduled;
+
+    /**
+     * The command preview listener wired into the current command buttons.
+     */
+    private Command.CommandActionPreview wiredCommandPreviewListener;
+
     private ChangeListener presentationModelChangeListener;
 
     private CommandButtonPanelLayout layoutManager;
@@ -124,7 +135,7 @@ public abstract class BasicCommandButtonPanelUI extends CommandButtonPanelUI {
         this.buttons = new ArrayList<>();
         this.groupTitles = new ArrayList<>();
 
-        this.syncContent();
+        this.syncContent(true);
     }
 
     /**
@@ -134,7 +145,7 @@ public abstract class BasicCommandButtonPanelUI extends CommandButtonPanelUI {
         this.presentationModelChangeListener = (ChangeEvent event) ->
                 SwingUtilities.invokeLater(() -> {
                     if (buttonPanel != null) {
-                        syncContent();
+                        syncContent(true);
 
                         updateLayoutManager();
                         buttonPanel.revalidate();
@@ -144,15 +155,21 @@ public abstract class BasicCommandButtonPanelUI extends CommandButtonPanelUI {
         this.buttonPanel.getProjection().getPresentationModel().addChangeListener(
                 this.presentationModelChangeListener);
 
-        this.contentModelChangeListener = changeEvent ->
-                SwingUtilities.invokeLater(() -> {
-                    if (buttonPanel != null) {
-                        syncContent();
-
-                        buttonPanel.revalidate();
-                        buttonPanel.doLayout();
-                    }
-                });
+        this.contentModelChangeListener = changeEvent -> {
+            if (isContentSyncScheduled) {
+                return;
+            }
+            isContentSyncScheduled = true;
+            SwingUtilities.invokeLater(() -> {
+                isContentSyncScheduled = false;
+                if (buttonPanel != null) {
+                    syncContent(false);
+
+                    buttonPanel.revalidate();
+                    buttonPanel.doLayout();
+                }
+            });
+        };
         this.buttonPanel.getProjection().getContentModel().addChangeListener(this.contentModelChangeListener);
     }
 
@@ -758,67 +775,87 @@ public abstract class BasicCommandButtonPanelUI extends CommandButtonPanelUI {
                 .build();
     }
 
-    private void syncContent() {
-        this.groupTitles.clear();
-        this.buttons.clear();
-        this.buttonPanel.removeAll();
-
+    /**
+     * Syncs the command buttons of the associated button panel with its content model.
+     *
+     * @param toRebuildAll If <code>true</code>, all command buttons are rebuilt. Otherwise,
+     *                     buttons of commands that are still in the content model are kept,
+     *                     and only buttons of added commands are created and only buttons
+     *                     of removed commands are removed from the panel.
+     */
+    private void syncContent(boolean toRebuildAll) {
         Projection<JCommandButtonPanel, CommandPanelContentModel, CommandPanelPresentationModel> projection =
                 this.buttonPanel.getProjection();
         CommandPanelContentModel panelContentModel = projection.getContentModel();
-        if (panelContentModel.isSingleSelectionMode()) {
-            this.buttonGroup = new CommandToggleGroupModel();
-        } else {
-            this.buttonGroup = null;
+        Command.CommandActionPreview commandPreviewListener =
+                panelContentModel.getCommandPreviewListener();
+        if (commandPreviewListener != this.wiredCommandPreviewListener) {
+            // The preview listener is wired into each button when it is created
+            toRebuildAll = true;
+            this.wiredCommandPreviewListener = commandPreviewListener;
+        }
+
+        // Map the commands to the buttons that can be reused in this sync pass
+        List<JCommandButton> previousButtons = new ArrayList<>();
+        Map<BaseCommand<?>, JCommandButton> reusableButtons = new HashMap<>();
+        for (List<JCommandButton> groupButtons : this.buttons) {
+            for (JCommandButton button : groupButtons) {
+                previousButtons.add(button);
+                if (!toRebuildAll) {
+                    reusableButtons.putIfAbsent(button.getContentModel(), button);
+                }
+            }
         }
 
+        this.groupTitles.clear();
+        this.buttons.clear();
+
+        Set<JCommandButton> retainedButtons = new HashSet<>();
+        List<JCommandButton> createdButtons = new ArrayList<>();
+        Set<Command> toggleCommands = new LinkedHashSet<>();
+        CommandButtonPresentationModel baseCommandPresentation = null;
         int groupIndex = 0;
-        CommandButtonPresentationModel baseCommandPresentation = createBaseCommandPresentation();
-        Command.CommandActionPreview commandPreviewListener =
-                panelContentModel.getCommandPreviewListener();
         for (CommandGroup groupModel : panelContentModel.getCommandGroups()) {
             this.groupTitles.add(groupIndex, groupModel.getTitle());
             List<JCommandButton> list = new ArrayList<>();
             this.buttons.add(groupIndex, list);
 
             for (Command command : groupModel.getCommands()) {
-                // Apply overlay if we have it in the top-level projection
-                CommandButtonPresentationModel commandPresentation =
-                        projection.getCommandOverlays().containsKey(command)
-                                ? baseCommandPresentation.overlayWith(
-                                projection.getCommandOverlays().get(command))
-                                : baseCommandPresentation;
-
-                CommandButtonProjection<Command> commandProjection = command.project(commandPresentation);
-                // Propagate command overlays so that key tips are properly displayed
-                // on secondary content of this command's projection
-                commandProjection.setCommandOverlays(projection.getCommandOverlays());
-                JCommandButton button = commandProjection.buildComponent();
-
-                // Wire preview listener is configured on the panel content model
-                if (commandPreviewListener != null) {
-                    button.getActionModel().addChangeListener(new ChangeListener() {
-                        boolean wasRollover = false;
-
-                        @Override
-                        public void stateChanged(ChangeEvent e) {
-                            boolean isRollover = button.getActionModel().isRollover();
-                            if (wasRollover && !isRollover) {
-                                commandPreviewListener.onCommandPreviewCanceled(command);
-                            }
-                            if (!wasRollover && isRollover) {
-                                commandPreviewListener.onCommandPreviewActivated(command);
-                            }
-                            wasRollover = isRollover;
-                        }
-                    });
+                JCommandButton button = reusableButtons.remove(command);
+                if (button != null) {
+                    retainedButtons.add(button);
+                } else {
+                    if (baseCommandPresentation == null) {
+                        baseCommandPresentation = createBaseCommandPresentation();
+                    }
+                    button = this.createCommandButton(command, baseCommandPresentation);
+                    createdButtons.add(button);
+                }
+                list.add(button);
+                if (command.isToggle()) {
+                    toggleCommands.add(command);
                 }
-
-                this.addButtonToLastGroup(command, button);
             }
             groupIndex++;
         }
 
+        // Remove the buttons of commands that are no longer in the content model, and add
+        // the buttons of commands that are new to the content model
+        if (retainedButtons.isEmpty()) {
+            this.buttonPanel.removeAll();
+        } else {
+            for (JCommandButton previousButton : previousButtons) {
+                if (!retainedButtons.contains(previousButton)) {
+                    this.buttonPanel.remove(previousButton);
+                }
+            }
+        }
+        for (JCommandButton createdButton : createdButtons) {
+            this.buttonPanel.add(createdButton);
+        }
+
+        this.syncButtonGroup(panelContentModel.isSingleSelectionMode(), toggleCommands, toRebuildAll);
+
         if (this.groupLabels != null) {
             for (JLabel groupLabel : this.groupLabels) {
                 this.buttonPanel.remove(groupLabel);
@@ -838,28 +875,81 @@ public abstract class BasicCommandButtonPanelUI extends CommandButtonPanelUI {
         }
     }
 
-    private void addButtonToLastGroup(Command command, JCommandButton commandButton) {
-        if (this.groupTitles.isEmpty()) {
+    /**
+     * Syncs the toggle group model of the single selection mode with the toggle commands
+     * of the content model.
+     *
+     * @param isSingleSelectionMode Whether the content model is in single selection mode.
+     * @param toggleCommands        Toggle commands of the content model, in model order.
+     * @param toRecreate            If <code>true</code>, the toggle group model is recreated.
+     */
+    private void syncButtonGroup(boolean isSingleSelectionMode, Set<Command> toggleCommands,
+            boolean toRecreate) {
+        if (toRecreate || (isSingleSelectionMode != (this.buttonGroup != null))) {
+            if (this.buttonGroup != null) {
+                for (BaseCommand<?> command : new ArrayList<>(this.buttonGroup.getCommands())) {
+                    this.buttonGroup.remove(command);
+                }
+            }
+            this.buttonGroup = isSingleSelectionMode ? new CommandToggleGroupModel() : null;
+        }
+        if (this.buttonGroup == null) {
             return;
         }
-        int groupIndex = this.groupTitles.size() - 1;
-        this.addButtonToGroup(this.groupTitles.get(groupIndex),
-                this.buttons.get(groupIndex).size(), command, commandButton);
-    }
 
-    private void addButtonToGroup(String buttonGroupName, int indexInGroup,
-            Command command, JCommandButton commandButton) {
-        int groupIndex = this.groupTitles.indexOf(buttonGroupName);
-        if (groupIndex < 0) {
-            return;
+        Set<BaseCommand<?>> groupCommands = new HashSet<>();
+        for (BaseCommand<?> groupCommand : this.buttonGroup.getCommands()) {
+            groupCommands.add(groupCommand);
+        }
+        for (BaseCommand<?> groupCommand : groupCommands) {
+            if (!toggleCommands.contains(groupCommand)) {
+                this.buttonGroup.remove(groupCommand);
+            }
         }
+        for (Command toggleCommand : toggleCommands) {
+            if (!groupCommands.contains(toggleCommand)) {
+                this.buttonGroup.add(toggleCommand);
+            }
+        }
+    }
 
-        this.buttonPanel.add(commandButton);
-        this.buttons.get(groupIndex).add(indexInGroup, commandButton);
-        if (this.buttonPanel.getProjection().getContentModel().isSingleSelectionMode() &&
-                command.isToggle()) {
-            this.buttonGroup.add(command);
+    private JCommandButton createCommandButton(Command command,
+            CommandButtonPresentationModel baseCommandPresentation) {
+        Projection<JCommandButtonPanel, CommandPanelContentModel, CommandPanelPresentationModel> projection =
+                this.buttonPanel.getProjection();
+        // Apply overlay if we have it in the top-level projection
+        CommandButtonPresentationModel commandPresentation =
+                projection.getCommandOverlays().containsKey(command)
+                        ? baseCommandPresentation.overlayWith(
+                        projection.getCommandOverlays().get(command))
+                        : baseCommandPresentation;
+
+        CommandButtonProjection<Command> commandProjection = command.project(commandPresentation);
+        // Propagate command overlays so that key tips are properly displayed
+        // on secondary content of this command's projection
+        commandProjection.setCommandOverlays(projection.getCommandOverlays());
+        JCommandButton button = commandProjection.buildComponent();
+
+        // Wire preview listener is configured on the panel content model
+        Command.CommandActionPreview commandPreviewListener = this.wiredCommandPreviewListener;
+        if (commandPreviewListener != null) {
+            button.getActionModel().addChangeListener(new ChangeListener() {
+                boolean wasRollover = false;
+
+                @Override
+                public void stateChanged(ChangeEvent e) {
+                    boolean isRollover = button.getActionModel().isRollover();
+                    if (wasRollover && !isRollover) {
+                        commandPreviewListener.onCommandPreviewCanceled(command);
+                    }
+                    if (!wasRollover && isRollover) {
+                        commandPreviewListener.onCommandPreviewActivated(command);
+                    }
+                    wasRollover = isRollover;
+                }
+            });
         }
+        return button;
     }
 
     @Override
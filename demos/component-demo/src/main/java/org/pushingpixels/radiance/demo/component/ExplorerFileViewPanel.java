@@ -47,8 +47,8 @@ import java.awt.*;
 import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Panel that hosts image-based buttons.
@@ -59,7 +59,7 @@ import java.util.Map;
 public class ExplorerFileViewPanel<T> extends AbstractFileViewPanel<T> {
     private JBreadcrumbBar<T> bar;
 
-    private static Map<String, RadianceIcon> iconMapping = new HashMap<>();
+    private static Map<String, RadianceIcon> iconMapping = new ConcurrentHashMap<>();
 
     private boolean useNativeIcons;
 
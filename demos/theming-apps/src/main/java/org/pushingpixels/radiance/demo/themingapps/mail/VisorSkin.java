@@ -56,8 +56,8 @@ public class VisorSkin extends RadianceSkin {
      */
     public VisorSkin() {
         ColorSchemes visorSchemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/demo/themingapps/mail/skin/visor.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/demo/themingapps/mail/skin/visor.colorschemes");
 
         RadianceColorScheme activeScheme = visorSchemes.get("Visor Active");
         RadianceColorScheme enabledScheme = visorSchemes.get("Visor Enabled");
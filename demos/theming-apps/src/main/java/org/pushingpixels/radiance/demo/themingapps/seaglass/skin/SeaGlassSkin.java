@@ -55,8 +55,8 @@ public class SeaGlassSkin extends RadianceSkin {
 	 */
 	public SeaGlassSkin() {
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/demo/themingapps/seaglass/skin/seaglass.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/demo/themingapps/seaglass/skin/seaglass.colorschemes");
 
 		RadianceColorScheme activeScheme = schemes.get("Sea Glass Active");
 		RadianceColorScheme enabledScheme = schemes.get("Sea Glass Enabled");
@@ -0,0 +1,41 @@
+#
+#  Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+#
+#  Redistribution and use in source and binary forms, with or without
+#  modification, are permitted provided that the following conditions are met:
+#
+#   o Redistributions of source code must retain the above copyright notice,
+#     this list of conditions and the following disclaimer.
+#
+#   o Redistributions in binary form must reproduce the above copyright notice,
+#     this list of conditions and the following disclaimer in the documentation
+#     and/or other materials provided with the distribution.
+#
+#   o Neither the name of the copyright holder nor the names of
+#     its contributors may be used to endorse or promote products derived
+#     from this software without specific prior written permission.
+#
+#  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+#  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+#  THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+#  PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+#  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+#  EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+#  PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+#  OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+#  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+#  OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+#  EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+# Runs the dynamic scenarios under a number of Radiance skins without any user interaction,
+# and writes the measurements to dynamic-radiance.json and dynamic-radiance.csv. On a machine
+# without a display, run this script under Xvfb (for example, with xvfb-run).
+
+RADIANCE_VERSION=7.0-SNAPSHOT
+CLASSPATH=../../drop/$RADIANCE_VERSION/tools/radiance-laf-benchmark-$RADIANCE_VERSION.jar:../../build/libs-tools/jgoodies-forms-1.9.0.jar:../../build/libs-tools/jgoodies-common-1.8.1.jar
+RADIANCE_CLASSPATH=../../drop/$RADIANCE_VERSION/core/radiance-theming-$RADIANCE_VERSION.jar:../../drop/$RADIANCE_VERSION/core/radiance-animation-$RADIANCE_VERSION.jar:../../drop/$RADIANCE_VERSION/core/radiance-common-$RADIANCE_VERSION.jar
+SKINS=org.pushingpixels.radiance.theming.api.skin.RadianceGeminiLookAndFeel,org.pushingpixels.radiance.theming.api.skin.RadianceBusinessLookAndFeel,org.pushingpixels.radiance.theming.api.skin.RadianceGraphiteLookAndFeel,org.pushingpixels.radiance.theming.api.skin.RadianceNebulaLookAndFeel
+
+java -cp $CLASSPATH:$RADIANCE_CLASSPATH org.pushingpixels.radiance.tools.lafbenchmark.DynamicPerformanceRunner \
+    --laf $SKINS --warmup 5 --iterations 10 \
+    --json dynamic-radiance.json --csv dynamic-radiance.csv
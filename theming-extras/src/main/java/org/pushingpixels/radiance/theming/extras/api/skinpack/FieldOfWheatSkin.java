@@ -62,8 +62,8 @@ public class FieldOfWheatSkin extends RadianceSkin {
      */
     public FieldOfWheatSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/extras/api/skinpack/fieldofwheat.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/extras/api/skinpack/fieldofwheat.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Field Of Wheat Active");
         RadianceColorScheme enabledScheme = new BrownColorScheme();
         RadianceColorScheme disabledScheme = schemes.get("Field Of Wheat Disabled");
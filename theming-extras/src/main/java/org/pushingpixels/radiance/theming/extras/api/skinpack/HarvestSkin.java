@@ -63,8 +63,8 @@ public class HarvestSkin extends RadianceSkin {
      */
     public HarvestSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/extras/api/skinpack/harvest.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/extras/api/skinpack/harvest.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Harvest Active");
         RadianceColorScheme enabledScheme = schemes.get("Harvest Enabled");
         RadianceColorScheme disabledScheme = schemes.get("Harvest Disabled");
@@ -60,8 +60,8 @@ public class MagmaSkin extends RadianceSkin {
      */
     public MagmaSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/extras/api/skinpack/magma.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/extras/api/skinpack/magma.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Magma Active");
         RadianceColorScheme enabledScheme = new CharcoalColorScheme();
         RadianceColorScheme disabledScheme = schemes.get("Magma Disabled");
@@ -61,8 +61,8 @@ public class OfficeBlack2007Skin extends RadianceSkin {
      */
     public OfficeBlack2007Skin() {
         ColorSchemes colorSchemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/extras/api/skinpack/office2007.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/extras/api/skinpack/office2007.colorschemes");
 
         RadianceColorScheme activeScheme = colorSchemes.get("Office Silver Active");
         RadianceColorScheme enabledScheme = colorSchemes.get("Office Black Enabled");
@@ -64,8 +64,8 @@ public class OfficeSilver2007Skin extends RadianceSkin {
      */
     public OfficeSilver2007Skin() {
         ColorSchemes colorSchemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/extras/api/skinpack/office2007.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/extras/api/skinpack/office2007.colorschemes");
 
         RadianceColorScheme activeScheme =
                 colorSchemes.get("Office Silver Active");
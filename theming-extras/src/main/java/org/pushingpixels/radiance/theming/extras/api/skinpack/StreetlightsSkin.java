@@ -61,8 +61,8 @@ public class StreetlightsSkin extends RadianceSkin {
      */
     public StreetlightsSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/extras/api/skinpack/streetlights.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/extras/api/skinpack/streetlights.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Streetlights Active");
         RadianceColorScheme enabledScheme = schemes.get("Streetlights Enabled");
         RadianceColorScheme disabledScheme = schemes.get("Streetlights Disabled");
@@ -161,6 +161,11 @@ import java.util.*;
 public final class ComponentState {
     private static Set<ComponentState> allStates = new HashSet<>();
 
+    /**
+     * Canonical state for each ordinal.
+     */
+    private static final List<ComponentState> statesByOrdinal = new ArrayList<>();
+
     /**
      * Disabled default. Used for disabled buttons that have been marked as
      * <code>default</code> with {@link JRootPane#setDefaultButton(JButton)}
@@ -358,7 +363,29 @@ public final class ComponentState {
      */
     private Set<RadianceThemingSlices.ComponentStateFacet> facetsTurnedOff;
 
-    private Map<RadianceThemingSlices.ComponentStateFacet, Boolean> mappingOn;
+    /**
+     * Bitmask of the facets that are turned on for this state. Only has bits for facets
+     * that can be encoded in a bitmask, see {@link #hasUnmaskedFacets}.
+     */
+    private long facetsOnMask;
+
+    /**
+     * Bitmask of the facets that are turned off for this state. Only has bits for facets
+     * that can be encoded in a bitmask, see {@link #hasUnmaskedFacets}.
+     */
+    private long facetsOffMask;
+
+    /**
+     * Indicates whether this state has facets that could not be encoded in
+     * {@link #facetsOnMask} / {@link #facetsOffMask}.
+     */
+    private boolean hasUnmaskedFacets;
+
+    /**
+     * Dense ordinal of this state. Equal states (same on and off facets) share the same
+     * ordinal.
+     */
+    private int ordinal;
 
     private String name;
 
@@ -416,8 +443,51 @@ public final class ComponentState {
         if (facetsOff != null) {
             Collections.addAll(this.facetsTurnedOff, facetsOff);
         }
-        this.mappingOn = new HashMap<>();
-        allStates.add(this);
+        for (RadianceThemingSlices.ComponentStateFacet on : this.facetsTurnedOn) {
+            this.facetsOnMask |= on.mask;
+            this.hasUnmaskedFacets |= (on.mask == 0L);
+        }
+        for (RadianceThemingSlices.ComponentStateFacet off : this.facetsTurnedOff) {
+            this.facetsOffMask |= off.mask;
+            this.hasUnmaskedFacets |= (off.mask == 0L);
+        }
+        synchronized (ComponentState.class) {
+            this.ordinal = -1;
+            for (ComponentState existing : statesByOrdinal) {
+                if (this.hasSameFacets(existing)) {
+                    this.ordinal = existing.ordinal;
+                    break;
+                }
+            }
+            if (this.ordinal < 0) {
+                this.ordinal = statesByOrdinal.size();
+                statesByOrdinal.add(this);
+            }
+            allStates.add(this);
+        }
+    }
+
+    private boolean hasSameFacets(ComponentState other) {
+        if ((this.facetsOnMask != other.facetsOnMask)
+                || (this.facetsOffMask != other.facetsOffMask)) {
+            return false;
+        }
+        if (!this.hasUnmaskedFacets && !other.hasUnmaskedFacets) {
+            return true;
+        }
+        return this.facetsTurnedOn.equals(other.facetsTurnedOn)
+                && this.facetsTurnedOff.equals(other.facetsTurnedOff);
+    }
+
+    /**
+     * Returns the dense ordinal of this state. States that have the same on and off facets
+     * have the same ordinal, and ordinals are allocated sequentially starting from 0. This
+     * can be used to key array-backed lookups by component state.
+     *
+     * @return The dense ordinal of this state.
+     */
+    public int getOrdinal() {
+        return this.ordinal;
     }
 
     @Override
@@ -461,16 +531,10 @@ public final class ComponentState {
      * otherwise.
      */
     public boolean isFacetActive(RadianceThemingSlices.ComponentStateFacet stateFacet) {
-        Boolean result = this.mappingOn.get(stateFacet);
-        if (result != null) {
-            return result;
-        }
-        if ((facetsTurnedOn != null) && facetsTurnedOn.contains(stateFacet)) {
-            this.mappingOn.put(stateFacet, Boolean.TRUE);
-            return true;
+        if (stateFacet.mask != 0L) {
+            return (this.facetsOnMask & stateFacet.mask) != 0L;
         }
-        this.mappingOn.put(stateFacet, Boolean.FALSE);
-        return false;
+        return this.facetsTurnedOn.contains(stateFacet);
     }
 
     /**
@@ -760,38 +824,7 @@ public final class ComponentState {
 
     @Override
     public int hashCode() {
-        if (this.facetsTurnedOn.isEmpty() && this.facetsTurnedOff.isEmpty()) {
-            return 0;
-        }
-
-        if (this.facetsTurnedOn.isEmpty()) {
-            boolean isFirst = true;
-            int result = 0;
-            for (RadianceThemingSlices.ComponentStateFacet off : this.facetsTurnedOff) {
-                if (isFirst) {
-                    result = ~off.hashCode();
-                    isFirst = false;
-                } else {
-                    result = result & ~off.hashCode();
-                }
-            }
-            return result;
-        } else {
-            boolean isFirst = true;
-            int result = 0;
-            for (RadianceThemingSlices.ComponentStateFacet on : this.facetsTurnedOn) {
-                if (isFirst) {
-                    result = on.hashCode();
-                    isFirst = false;
-                } else {
-                    result = result & on.hashCode();
-                }
-            }
-            for (RadianceThemingSlices.ComponentStateFacet off : this.facetsTurnedOff) {
-                result = result & ~off.hashCode();
-            }
-            return result;
-        }
+        return this.ordinal;
     }
 
     @Override
@@ -800,21 +833,6 @@ public final class ComponentState {
             return false;
         }
 
-        ComponentState second = (ComponentState) obj;
-        if (this.facetsTurnedOn.size() != second.facetsTurnedOn.size()) {
-            return false;
-        }
-        if (this.facetsTurnedOff.size() != second.facetsTurnedOff.size()) {
-            return false;
-        }
-
-        if (!this.facetsTurnedOn.containsAll(second.facetsTurnedOn)) {
-            return false;
-        }
-        if (!this.facetsTurnedOff.containsAll(second.facetsTurnedOff)) {
-            return false;
-        }
-
-        return true;
+        return this.ordinal == ((ComponentState) obj).ordinal;
     }
 }
@@ -31,6 +31,7 @@ package org.pushingpixels.radiance.theming.api;
 
 import org.pushingpixels.radiance.theming.api.colorscheme.ColorSchemeTransform;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
+import org.pushingpixels.radiance.theming.internal.utils.ComponentStateMap;
 
 import java.util.*;
 
@@ -151,17 +152,17 @@ public class RadianceColorSchemeBundle {
         this.activeColorScheme = activeColorScheme;
         this.enabledColorScheme = enabledColorScheme;
         this.disabledColorScheme = disabledColorScheme;
-        this.stateAlphaMap = new HashMap<>();
-        this.stateHighlightAlphaMap = new HashMap<>();
+        this.stateAlphaMap = new ComponentStateMap<>();
+        this.stateHighlightAlphaMap = new ComponentStateMap<>();
 
         this.colorSchemeMap = new HashMap<>();
         for (RadianceThemingSlices.ColorSchemeAssociationKind associationKind : RadianceThemingSlices.ColorSchemeAssociationKind.values()) {
-            this.colorSchemeMap.put(associationKind, new HashMap<>());
+            this.colorSchemeMap.put(associationKind, new ComponentStateMap<>());
         }
 
         this.bestFillMap = new HashMap<>();
         for (RadianceThemingSlices.ColorSchemeAssociationKind associationKind : RadianceThemingSlices.ColorSchemeAssociationKind.values()) {
-            this.bestFillMap.put(associationKind, new HashMap<>());
+            this.bestFillMap.put(associationKind, new ComponentStateMap<>());
         }
     }
 
@@ -513,12 +514,12 @@ public class RadianceColorSchemeBundle {
 
         // alphas are the same
         if (this.stateAlphaMap != null) {
-            result.stateAlphaMap = new HashMap<>(this.stateAlphaMap);
+            result.stateAlphaMap = new ComponentStateMap<>(this.stateAlphaMap);
         }
 
         // highlight alphas are the same
         if (this.stateHighlightAlphaMap != null) {
-            result.stateHighlightAlphaMap = new HashMap<>(this.stateHighlightAlphaMap);
+            result.stateHighlightAlphaMap = new ComponentStateMap<>(this.stateHighlightAlphaMap);
         }
         return result;
     }
@@ -37,6 +37,7 @@ import org.pushingpixels.radiance.theming.internal.ui.*;
 import org.pushingpixels.radiance.theming.internal.utils.LazyResettableHashMap;
 import org.pushingpixels.radiance.theming.internal.utils.MemoryAnalyzer;
 import org.pushingpixels.radiance.theming.internal.utils.RadianceCoreUtilities;
+import org.pushingpixels.radiance.theming.internal.utils.ResolvedComponentStyle;
 
 import javax.swing.*;
 import javax.swing.plaf.basic.BasicLookAndFeel;
@@ -243,6 +244,7 @@ public abstract class RadianceLookAndFeel extends BasicLookAndFeel {
 
         // clear caches
         LazyResettableHashMap.reset();
+        ResolvedComponentStyle.invalidateAll();
     }
 
     @Override
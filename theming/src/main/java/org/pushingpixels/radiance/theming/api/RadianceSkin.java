@@ -39,6 +39,7 @@ import org.pushingpixels.radiance.theming.api.painter.fill.RadianceFillPainter;
 import org.pushingpixels.radiance.theming.api.painter.overlay.RadianceOverlayPainter;
 import org.pushingpixels.radiance.theming.api.shaper.RadianceButtonShaper;
 import org.pushingpixels.radiance.theming.api.trait.RadianceTrait;
+import org.pushingpixels.radiance.theming.internal.utils.ComponentStateMap;
 import org.pushingpixels.radiance.theming.internal.utils.RadianceColorSchemeUtilities;
 import org.pushingpixels.radiance.theming.internal.utils.SkinUtilities;
 
@@ -81,7 +82,7 @@ public abstract class RadianceSkin implements RadianceTrait {
 
             public AccentBuilder withAccentResource(String colorSchemeResourceName) {
                 this.accentColorSchemes = RadianceSkin.getColorSchemes(
-                        AccentBuilder.class.getClassLoader().getResourceAsStream(colorSchemeResourceName));
+                        AccentBuilder.class.getClassLoader(), colorSchemeResourceName);
                 return this;
             }
 
@@ -273,7 +274,7 @@ public abstract class RadianceSkin implements RadianceTrait {
         this.optionPaneIconColorSchemeMap.put(JOptionPane.INFORMATION_MESSAGE, steelBlue);
         this.optionPaneIconColorSchemeMap.put(JOptionPane.QUESTION_MESSAGE, steelBlue);
 
-        this.statesWithAlpha = new HashSet<>();
+        this.statesWithAlpha = Collections.newSetFromMap(new ComponentStateMap<>());
     }
 
     /**
@@ -891,7 +892,7 @@ public abstract class RadianceSkin implements RadianceTrait {
         }
         Map<RadianceThemingSlices.DecorationAreaType, Map<ComponentState, Color>> forOverlay = this.colorOverlayMap.get(colorOverlayType);
         if (!forOverlay.containsKey(decorationAreaType)) {
-            forOverlay.put(decorationAreaType, new HashMap<>());
+            forOverlay.put(decorationAreaType, new ComponentStateMap<>());
         }
         Map<ComponentState, Color> forDecorationArea = forOverlay.get(decorationAreaType);
         for (ComponentState componentState : componentStates) {
@@ -999,4 +1000,23 @@ public abstract class RadianceSkin implements RadianceTrait {
         }
         return RadianceColorSchemeUtilities.getColorSchemes(inputStream);
     }
+
+    /**
+     * Returns the collection of color schemes in the specified resource. The parsed color
+     * schemes are cached per resource for the lifetime of the process, so that creating
+     * multiple skins that use the same resource does not parse it again. If a precompiled
+     * binary version of the resource (with the same name and an additional <code>.bin</code>
+     * suffix) is available, it is loaded instead of the text version.
+     *
+     * @param classLoader  Class loader to load the resource.
+     * @param resourceName Name of the resource containing the description of Radiance color
+     *                     schemes.
+     * @return The collection of color schemes in the specified resource.
+     */
+    public static ColorSchemes getColorSchemes(ClassLoader classLoader, String resourceName) {
+        if ((classLoader == null) || (resourceName == null)) {
+            throw new IllegalArgumentException("Can't read color schemes from a null resource");
+        }
+        return RadianceColorSchemeUtilities.getColorSchemes(classLoader, resourceName);
+    }
 }
@@ -61,6 +61,7 @@ import javax.swing.text.JTextComponent;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class is the only officially-supported entry point into configuring the behavior of
@@ -184,13 +185,18 @@ public class RadianceThemingCortex {
                     return false;
                 }
 
+                RadianceSkin oldSkin = currentSkin;
                 UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+                Map<Object, Object> oldLayoutDefaults = null;
+                Map<Object, Object> newLayoutDefaults = null;
                 // The table will be null when the skin is set using a custom LAF
                 if (lafDefaults != null) {
+                    oldLayoutDefaults = SkinUtilities.getLayoutDefaults(lafDefaults);
                     initFontDefaults(lafDefaults, getFontPolicy().getFontSet());
                     newSkin.addCustomEntriesToTable(lafDefaults);
                     RadiancePluginRepository.getInstance()
                             .processAllDefaultsEntriesComponentPlugins(lafDefaults, newSkin);
+                    newLayoutDefaults = SkinUtilities.getLayoutDefaults(lafDefaults);
                 }
 
                 // file chooser strings go to the main UIManager table
@@ -207,9 +213,17 @@ public class RadianceThemingCortex {
                 LazyResettableHashMap.reset();
 
                 currentSkin = newSkin;
+                ResolvedComponentStyle.invalidateAll();
 
                 if (toUpdateWindows) {
-                    RadianceCoreUtilities.updateActiveUi();
+                    if (Boolean.TRUE.equals(UIManager.get(RadianceSynapse.INCREMENTAL_SKIN_SWITCH))
+                            && SkinUtilities.canSwitchIncrementally(oldSkin, newSkin,
+                            oldLayoutDefaults, newLayoutDefaults)) {
+                        // Keep the UI delegates installed and only refresh the colors
+                        RadianceCoreUtilities.updateActiveUiColors();
+                    } else {
+                        RadianceCoreUtilities.updateActiveUi();
+                    }
                 }
 
                 for (SkinChangeListener skinChangeListener : skinChangeListeners) {
@@ -224,6 +238,7 @@ public class RadianceThemingCortex {
 
         static void unsetSkin() {
             currentSkin = null;
+            ResolvedComponentStyle.invalidateAll();
         }
 
         /**
@@ -285,6 +300,28 @@ public class RadianceThemingCortex {
             }
         }
 
+        /**
+         * Computes the skin-derived data that can be reused by a later call to
+         * {@link #setSkin(RadianceSkin)} on a background thread. This includes the interpolated
+         * colors of the color schemes used in all decoration areas of the skin, as well as the
+         * colorized texture tiles of image-based decoration painters such as
+         * {@link org.pushingpixels.radiance.theming.api.painter.decoration.MarbleNoiseDecorationPainter}.
+         * Color scheme resources and noise textures are already computed and cached when the
+         * skin is created, and skins can be created on the same background thread before
+         * calling this method. Pass the same skin instance to {@link #setSkin(RadianceSkin)} so
+         * that it can find its colorized tiles. This method can be called on any thread.
+         *
+         * @param skin Skin to prewarm.
+         * @return A future that completes when the skin has been prewarmed.
+         * @see #setSkin(RadianceSkin)
+         */
+        public static CompletableFuture<Void> prewarmSkin(RadianceSkin skin) {
+            if (skin == null) {
+                throw new IllegalArgumentException("Cannot prewarm a null skin");
+            }
+            return CompletableFuture.runAsync(() -> SkinUtilities.prewarmSkin(skin));
+        }
+
         /**
          * Returns the current global skin. If the current look-and-feel is not Radiance, this
          * method returns <code>null</code>.
@@ -1088,6 +1125,42 @@ public class RadianceThemingCortex {
             UIManager.put(RadianceSynapse.BUTTON_NO_MIN_SIZE, buttonIgnoreMinimumSize);
         }
 
+        /**
+         * Specifies whether the rendered backgrounds of buttons should be cached and reused. When
+         * enabled, buttons that are not in the middle of a state transition animation paint their
+         * background from a cached image that is shared by all buttons with the same size, shape,
+         * painters and color schemes. This speeds up the repaints of toolbars and forms with
+         * a large number of buttons. Custom fill and border painters must only depend on the
+         * passed parameters and not on the specific button when this cache is enabled. The
+         * cache is disabled by default.
+         *
+         * @param buttonBackgroundCacheEnabled If <code>true</code>, the rendered backgrounds of
+         *                                     buttons will be cached. Pass <code>null</code> to
+         *                                     reset to the default behavior.
+         */
+        public static void setButtonBackgroundCacheEnabled(Boolean buttonBackgroundCacheEnabled) {
+            UIManager.put(RadianceSynapse.BUTTON_BACKGROUND_CACHE, buttonBackgroundCacheEnabled);
+        }
+
+        /**
+         * Specifies whether switching skins with {@link #setSkin(RadianceSkin)} should keep the
+         * installed UI delegates. When enabled, and the new skin does not change fonts, insets or
+         * the button shaper, the skin switch refreshes the colors of all components in place
+         * and repaints all windows instead of calling
+         * {@link SwingUtilities#updateComponentTreeUI(Component)} on them. Components whose UI
+         * delegates do not have background or foreground colors in {@link UIManager} get their
+         * UI delegates reinstalled. Applications with custom UI delegates that install other
+         * skin-dependent settings should not enable this. The incremental skin switch is
+         * disabled by default.
+         *
+         * @param incrementalSkinSwitchEnabled If <code>true</code>, skin switches will keep the
+         *                                     installed UI delegates when possible. Pass
+         *                                     <code>null</code> to reset to the default behavior.
+         */
+        public static void setIncrementalSkinSwitchEnabled(Boolean incrementalSkinSwitchEnabled) {
+            UIManager.put(RadianceSynapse.INCREMENTAL_SKIN_SWITCH, incrementalSkinSwitchEnabled);
+        }
+
         /**
          * Specifies when components should draw their background.
          *
@@ -1171,6 +1244,7 @@ public class RadianceThemingCortex {
          */
         public static void setColorizationFactor(double colorizationFactor) {
             UIManager.put(RadianceSynapse.COLORIZATION_FACTOR, Double.valueOf(colorizationFactor));
+            ResolvedComponentStyle.invalidateAll();
         }
 
         /**
@@ -1278,6 +1352,20 @@ public class RadianceThemingCortex {
             UIManager.put(RadianceSynapse.TRACE_FILE, traceFilename);
         }
 
+        /**
+         * Specifies the folder for caching noise textures used by decoration painters such as
+         * {@link org.pushingpixels.radiance.theming.api.painter.decoration.MarbleNoiseDecorationPainter}.
+         * Textures are generated once and then loaded from this folder in subsequent runs of the
+         * application, which speeds up skin initialization. Should be called before setting the
+         * skin.
+         *
+         * @param noiseCacheFolder Folder for caching noise textures. Pass <code>null</code> to
+         *                         disable caching noise textures on disk.
+         */
+        public static void setNoiseCacheFolder(String noiseCacheFolder) {
+            UIManager.put(RadianceSynapse.NOISE_CACHE_FOLDER, noiseCacheFolder);
+        }
+
         /**
          * Specifies the kind of focus indication to be used on application components.
          *
@@ -2131,6 +2219,7 @@ public class RadianceThemingCortex {
         public static void setColorizationFactor(JComponent comp, double colorizationFactor) {
             comp.putClientProperty(RadianceSynapse.COLORIZATION_FACTOR,
                     Double.valueOf(colorizationFactor));
+            ResolvedComponentStyle.invalidateAll();
         }
 
         /**
@@ -2208,6 +2297,7 @@ public class RadianceThemingCortex {
                         "Root pane scope APIs do not accept null root panes");
             }
             rootPane.putClientProperty(RadianceSynapse.ROOT_PANE_SKIN, skin);
+            ResolvedComponentStyle.invalidateAll();
         }
 
         /**
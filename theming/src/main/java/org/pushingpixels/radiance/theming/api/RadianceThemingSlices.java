@@ -1070,10 +1070,29 @@ public final class RadianceThemingSlices {
      * {@link ComponentState} class for more information on state facets.
      */
     public final static class ComponentStateFacet {
+        /**
+         * Number of facets that can be encoded in the <code>long</code> bitmasks of
+         * {@link ComponentState}. Facets created beyond this count fall back to set lookups.
+         */
+        static final int MASKABLE_FACET_COUNT = 64;
+
+        private static int facetCount = 0;
+
         int value;
 
         String name;
 
+        /**
+         * Dense index of this facet, assigned at creation.
+         */
+        final int index;
+
+        /**
+         * Bit of this facet in the <code>long</code> bitmasks of {@link ComponentState}, or 0
+         * if this facet cannot be encoded in a bitmask.
+         */
+        final long mask;
+
         /**
          * Facet that describes the enabled bit.
          */
@@ -1134,6 +1153,10 @@ public final class RadianceThemingSlices {
                 throw new IllegalArgumentException("Facet value must be non-negative");
             }
             this.value = value;
+            synchronized (ComponentStateFacet.class) {
+                this.index = facetCount++;
+            }
+            this.mask = (this.index < MASKABLE_FACET_COUNT) ? (1L << this.index) : 0L;
         }
 
         @Override
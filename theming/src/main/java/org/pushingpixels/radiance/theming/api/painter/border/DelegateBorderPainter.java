@@ -31,9 +31,8 @@ package org.pushingpixels.radiance.theming.api.painter.border;
 
 import org.pushingpixels.radiance.theming.api.colorscheme.ColorSchemeTransform;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
-import org.pushingpixels.radiance.theming.internal.utils.HashMapKey;
+import org.pushingpixels.radiance.theming.internal.utils.CacheKey;
 import org.pushingpixels.radiance.theming.internal.utils.LazyResettableHashMap;
-import org.pushingpixels.radiance.theming.internal.utils.RadianceCoreUtilities;
 
 import java.awt.*;
 
@@ -136,7 +135,7 @@ public class DelegateBorderPainter extends StandardBorderPainter {
 	 * Map of transformed color schemes (to speed up the subsequent lookups).
 	 */
 	protected final static LazyResettableHashMap<RadianceColorScheme> transformMap =
-            new LazyResettableHashMap<>("DelegateBorderPainter");
+            new LazyResettableHashMap<>("DelegateBorderPainter", 200);
 
 	@Override
 	public Color getTopBorderColor(RadianceColorScheme borderScheme) {
@@ -177,14 +176,8 @@ public class DelegateBorderPainter extends StandardBorderPainter {
 	 * @return Transformed color scheme.
 	 */
 	private RadianceColorScheme getShiftScheme(RadianceColorScheme orig) {
-		HashMapKey key = RadianceCoreUtilities.getHashKey(orig.getDisplayName(),
-				this.getDisplayName(), this.transform);
-		RadianceColorScheme result = transformMap.get(key);
-		if (result == null) {
-			result = this.transform.transform(orig);
-			transformMap.put(key, result);
-		}
-		return result;
+		CacheKey key = CacheKey.of(orig.getDisplayName(), this.getDisplayName(), this.transform);
+		return transformMap.get(key, () -> this.transform.transform(orig));
 	}
 
 	@Override
@@ -95,7 +95,7 @@ public class DelegateFractionBasedBorderPainter implements RadianceBorderPainter
 	 * Map of transformed color schemes (to speed up the subsequent lookups).
 	 */
 	protected final static LazyResettableHashMap<RadianceColorScheme> transformMap = new LazyResettableHashMap<>(
-            "DelegateBorderPainter");
+            "DelegateBorderPainter", 200);
 
 	@Override
 	public boolean isPaintingInnerContour() {
@@ -150,14 +150,8 @@ public class DelegateFractionBasedBorderPainter implements RadianceBorderPainter
 	 * @return Transformed color scheme.
 	 */
 	private RadianceColorScheme getShiftScheme(RadianceColorScheme orig) {
-		HashMapKey key = RadianceCoreUtilities.getHashKey(orig.getDisplayName(),
-				this.getDisplayName(), this.transform);
-		RadianceColorScheme result = transformMap.get(key);
-		if (result == null) {
-			result = this.transform.transform(orig);
-			transformMap.put(key, result);
-		}
-		return result;
+		CacheKey key = CacheKey.of(orig.getDisplayName(), this.getDisplayName(), this.transform);
+		return transformMap.get(key, () -> this.transform.transform(orig));
 	}
 
 	@Override
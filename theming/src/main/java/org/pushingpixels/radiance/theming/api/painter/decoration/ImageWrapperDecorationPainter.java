@@ -258,20 +258,36 @@ public abstract class ImageWrapperDecorationPainter implements RadianceDecoratio
      */
     protected BufferedImage getColorizedTile(double scale, RadianceColorScheme scheme) {
         String key = scale + ":" + scheme.getDisplayName();
-        BufferedImage result = this.colorizedTileMap.get(key);
-        if (result == null) {
-            int tileWidth = this.originalTile.getWidth(null);
-            int tileHeight = this.originalTile.getHeight(null);
-            BufferedImage tileBi = RadianceCoreUtilities.getBlankImage(scale,
-                    (int) (tileWidth / scale),
-                    (int) (tileHeight / scale));
-            Graphics2D tile2D = tileBi.createGraphics();
-            tile2D.drawImage(this.originalTile, 0, 0, (int) (tileWidth / scale),
-                    (int) ( tileHeight / scale), null);
-            tile2D.dispose();
-            result = RadianceImageCreator.getColorSchemeImage(tileBi, scheme, 0.0f, 1.0f);
-            this.colorizedTileMap.put(key, result);
+        // Tiles can be colorized ahead of time on a background thread
+        synchronized (this.colorizedTileMap) {
+            BufferedImage result = this.colorizedTileMap.get(key);
+            if (result == null) {
+                int tileWidth = this.originalTile.getWidth(null);
+                int tileHeight = this.originalTile.getHeight(null);
+                BufferedImage tileBi = RadianceCoreUtilities.getBlankImage(scale,
+                        (int) (tileWidth / scale),
+                        (int) (tileHeight / scale));
+                Graphics2D tile2D = tileBi.createGraphics();
+                tile2D.drawImage(this.originalTile, 0, 0, (int) (tileWidth / scale),
+                        (int) ( tileHeight / scale), null);
+                tile2D.dispose();
+                result = RadianceImageCreator.getColorSchemeImage(tileBi, scheme, 0.0f, 1.0f);
+                this.colorizedTileMap.put(key, result);
+            }
+            return result;
         }
-        return result;
+    }
+
+    /**
+     * Colorizes the image tile ahead of time, so that painting decoration areas with the
+     * specified color scheme does not need to do it. This method can be called on any thread.
+     *
+     * @param scale
+     *            Scale factor.
+     * @param scheme
+     *            Color scheme for the colorization.
+     */
+    public void prewarmColorizedTile(double scale, RadianceColorScheme scheme) {
+        this.getColorizedTile(scale, scheme);
     }
 }
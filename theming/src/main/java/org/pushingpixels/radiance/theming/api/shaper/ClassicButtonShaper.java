@@ -49,7 +49,7 @@ import java.util.Set;
 public class ClassicButtonShaper implements RadianceButtonShaper, RectangularButtonShaper {
     /** Cache of already computed contours. */
     private final static LazyResettableHashMap<Shape> contours = new LazyResettableHashMap<>(
-            "ClassicButtonShaper");
+            "ClassicButtonShaper", 500);
 
     /**
      * Reusable instance of this shaper.
@@ -67,27 +67,15 @@ public class ClassicButtonShaper implements RadianceButtonShaper, RectangularBut
         Set<RadianceThemingSlices.Side> straightSides = RadianceCoreUtilities.getSides(button,
                 RadianceSynapse.BUTTON_STRAIGHT_SIDE);
 
-        float radius = (float) scaleFactor * this.getCornerRadius(button, extraInsets);
-        if (isInner) {
-            radius -= 1.0f;
-            if (radius < 0.0f)
-                radius = 0.0f;
-        }
-
-        HashMapKey key = RadianceCoreUtilities.getHashKey(width, height, straightSides, radius,
-                extraInsets);
+        float baseRadius = (float) scaleFactor * this.getCornerRadius(button, extraInsets);
+        float radius = isInner ? Math.max(0.0f, baseRadius - 1.0f) : baseRadius;
 
-        Shape result = contours.get(key);
-        if (result != null) {
-            return result;
-        }
+        CacheKey key = CacheKey.of(straightSides, width, height, radius, extraInsets);
 
-        result = RadianceOutlineUtilities.getBaseOutline(
+        return contours.get(key, () -> RadianceOutlineUtilities.getBaseOutline(
                 button.getComponentOrientation(),
                 width - 1, height - 1, radius, straightSides,
-                extraInsets);
-        contours.put(key, result);
-        return result;
+                extraInsets));
     }
 
     @Override
@@ -62,8 +62,8 @@ public class AutumnSkin extends RadianceSkin {
 	 */
 	public AutumnSkin() {
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/autumn.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/autumn.colorschemes");
 
 		RadianceColorScheme activeScheme = schemes.get("Autumn Active");
 		RadianceColorScheme enabledScheme = schemes.get("Autumn Enabled");
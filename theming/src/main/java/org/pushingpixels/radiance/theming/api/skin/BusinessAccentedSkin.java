@@ -57,8 +57,8 @@ public abstract class BusinessAccentedSkin extends RadianceSkin.Accented {
 		super(accentBuilder);
 
 		ColorSchemes businessSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/business.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/business.colorschemes");
 
 		RadianceColorScheme enabledScheme = businessSchemes.get("Business Enabled");
 
@@ -83,8 +83,8 @@ public abstract class BusinessAccentedSkin extends RadianceSkin.Accented {
 				RadianceThemingSlices.DecorationAreaType.HEADER, RadianceThemingSlices.DecorationAreaType.FOOTER);
 
 		ColorSchemes kitchenSinkSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes");
 		this.registerAsDecorationArea(kitchenSinkSchemes.get("LightGray Control Pane Background"),
 				RadianceThemingSlices.DecorationAreaType.CONTROL_PANE);
 
@@ -57,8 +57,8 @@ public class BusinessBlackSteelSkin extends BusinessAccentedSkin {
 				.withHighlightsAccent("Business Black Steel Active"));
 
 		ColorSchemes businessSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/business.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/business.colorschemes");
 
 		RadianceColorScheme activeScheme = businessSchemes.get("Business Black Steel Active");
 		RadianceColorScheme disabledScheme = businessSchemes.get("Business Black Steel Disabled");
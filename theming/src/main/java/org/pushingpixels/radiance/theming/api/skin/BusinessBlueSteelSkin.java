@@ -57,8 +57,8 @@ public class BusinessBlueSteelSkin extends BusinessAccentedSkin {
 				.withHighlightsAccent("Business Blue Steel Highlight"));
 
 		ColorSchemes businessSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/business.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/business.colorschemes");
 
 		RadianceColorScheme disabledScheme = businessSchemes.get("Business Blue Steel Disabled");
 
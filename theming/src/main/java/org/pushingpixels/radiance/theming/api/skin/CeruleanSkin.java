@@ -60,8 +60,8 @@ public class CeruleanSkin extends RadianceSkin {
 		super();
 
 		ColorSchemes ceruleanSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/cerulean.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/cerulean.colorschemes");
 
 		RadianceColorScheme activeScheme = ceruleanSchemes.get("Cerulean Active");
 		RadianceColorScheme enabledScheme = ceruleanSchemes.get("Cerulean Enabled");
@@ -115,8 +115,8 @@ public class CeruleanSkin extends RadianceSkin {
 
 		// for text highlight
 		ColorSchemes kitchenSinkSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes");
 		RadianceColorScheme highlightColorScheme = kitchenSinkSchemes.get("Moderate Highlight");
 		defaultSchemeBundle.registerHighlightColorScheme(highlightColorScheme);
 
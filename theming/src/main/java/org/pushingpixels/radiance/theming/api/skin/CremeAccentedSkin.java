@@ -60,8 +60,8 @@ public abstract class CremeAccentedSkin extends RadianceSkin.Accented {
         super(accentBuilder);
 
         ColorSchemes kitchenSinkSchemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes");
         RadianceColorScheme enabledScheme = new CremeColorScheme();
         RadianceColorScheme disabledScheme = kitchenSinkSchemes.get("Creme Disabled");
 
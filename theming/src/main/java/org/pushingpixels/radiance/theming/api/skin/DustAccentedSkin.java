@@ -60,8 +60,8 @@ public abstract class DustAccentedSkin extends RadianceSkin.Accented {
 		super(accentBuilder);
 
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/dust.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/dust.colorschemes");
 
 		RadianceColorSchemeBundle defaultSchemeBundle = new RadianceColorSchemeBundle(
 				this.getActiveControlsAccent(), this.getEnabledControlsAccent(), this.getEnabledControlsAccent());
@@ -84,8 +84,8 @@ public class GeminiSkin extends RadianceSkin {
      */
     public GeminiSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/gemini.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/gemini.colorschemes");
 
         RadianceColorScheme grayScheme = schemes.get("Gemini Gray");
         RadianceColorScheme disabledScheme = schemes.get("Gemini Disabled");
@@ -57,8 +57,8 @@ public abstract class GraphiteAccentedSkin extends RadianceSkin.Accented {
         super(accentBuilder);
 
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes");
 
         RadianceColorScheme activeScheme = schemes.get("Graphite Active");
         RadianceColorScheme selectedDisabledScheme = schemes.get("Graphite Selected Disabled");
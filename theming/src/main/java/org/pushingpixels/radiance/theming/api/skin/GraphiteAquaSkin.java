@@ -57,8 +57,8 @@ public class GraphiteAquaSkin extends GraphiteAccentedSkin {
         // Use disabled color scheme for marks of disabled selected checkboxes and radio buttons
         // for better contrast
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes");
         RadianceColorScheme disabledScheme = schemes.get("Graphite Disabled");
         defaultSchemeBundle.registerColorScheme(disabledScheme,
                 RadianceThemingSlices.ColorSchemeAssociationKind.MARK, ComponentState.DISABLED_SELECTED);
@@ -53,8 +53,8 @@ public class GraphiteChalkSkin extends GraphiteSkin {
 		super();
 
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes");
 
 		RadianceColorScheme chalkScheme = schemes.get("Chalk");
 		defaultSchemeBundle.registerColorScheme(chalkScheme,
@@ -58,8 +58,8 @@ public class GraphiteGlassSkin extends GraphiteSkin {
 		super();
 
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes");
 
 		RadianceColorScheme backgroundScheme = schemes.get("Graphite Background");
 		this.registerAsDecorationArea(backgroundScheme, RadianceThemingSlices.DecorationAreaType.PRIMARY_TITLE_PANE,
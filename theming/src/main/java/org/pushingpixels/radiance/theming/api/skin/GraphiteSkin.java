@@ -61,8 +61,8 @@ public class GraphiteSkin extends GraphiteAccentedSkin {
         // vibrant appearance.
         defaultSchemeBundle.registerAlpha(0.65f, ComponentState.DISABLED_SELECTED);
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes");
         RadianceColorScheme highlightMarkScheme = schemes.get("Graphite Highlight Mark");
         defaultSchemeBundle.registerColorScheme(highlightMarkScheme,
                 RadianceThemingSlices.ColorSchemeAssociationKind.HIGHLIGHT_MARK, ComponentState.getActiveStates());
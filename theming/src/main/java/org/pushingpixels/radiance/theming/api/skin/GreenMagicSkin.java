@@ -60,8 +60,8 @@ public class GreenMagicSkin extends RadianceSkin {
      */
     public GreenMagicSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/greenmagic.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/greenmagic.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Green Magic Active");
         RadianceColorScheme enabledScheme = schemes.get("Green Magic Enabled");
         RadianceColorScheme disabledScheme = schemes.get("Green Magic Disabled");
@@ -83,8 +83,8 @@ public class MagellanSkin extends RadianceSkin {
      */
     public MagellanSkin() {
         ColorSchemes colorSchemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/magellan.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/magellan.colorschemes");
 
         RadianceColorScheme blueControlsActive = colorSchemes
                 .get("Magellan Blue Controls Active");
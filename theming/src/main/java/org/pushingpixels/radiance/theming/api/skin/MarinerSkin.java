@@ -79,8 +79,8 @@ public class MarinerSkin extends RadianceSkin {
      */
     public MarinerSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/mariner.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/mariner.colorschemes");
 
         RadianceColorScheme activeScheme = schemes.get("Mariner Active");
         RadianceColorScheme enabledScheme = schemes.get("Mariner Enabled");
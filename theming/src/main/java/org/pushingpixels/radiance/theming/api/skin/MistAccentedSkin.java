@@ -54,8 +54,8 @@ public abstract class MistAccentedSkin extends RadianceSkin.Accented {
         super(accentBuilder);
 
         ColorSchemes colorSchemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/mist.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/mist.colorschemes");
 
         RadianceColorScheme enabledScheme = colorSchemes.get("Mist Enabled");
         RadianceColorScheme disabledScheme = colorSchemes.get("Mist Disabled");
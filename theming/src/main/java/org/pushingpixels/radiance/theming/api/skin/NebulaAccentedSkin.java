@@ -64,8 +64,8 @@ public abstract class NebulaAccentedSkin extends RadianceSkin.Accented {
 		super(accentBuilder);
 
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/nebula.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/nebula.colorschemes");
 
 		RadianceColorScheme activeScheme = schemes.get("Nebula Active");
 		RadianceColorScheme enabledScheme = schemes.get("Nebula Enabled");
@@ -55,8 +55,8 @@ public class NebulaAmethystSkin extends NebulaAccentedSkin {
 		super(new AccentBuilder().withWindowChromeAccent(new PurpleColorScheme()));
 
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/nebula.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/nebula.colorschemes");
 
 		// Also apply the window chrome accent color on the TOOLBAR area
 		RadianceColorScheme windowChromeAccent = this.getWindowChromeAccent();
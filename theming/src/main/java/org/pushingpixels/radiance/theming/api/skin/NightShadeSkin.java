@@ -64,8 +64,8 @@ public class NightShadeSkin extends RadianceSkin {
      */
     public NightShadeSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/nightshade.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/nightshade.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Night Shade Active");
         RadianceColorScheme enabledScheme = schemes.get("Night Shade Enabled");
         RadianceColorScheme disabledScheme = schemes.get("Night Shade Disabled");
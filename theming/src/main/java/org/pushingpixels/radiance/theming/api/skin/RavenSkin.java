@@ -59,8 +59,8 @@ public class RavenSkin extends RadianceSkin {
 	 */
 	public RavenSkin() {
 		ColorSchemes schemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/graphite.colorschemes");
 
 		RadianceColorScheme activeScheme = new EbonyColorScheme();
 		RadianceColorScheme enabledScheme = new DarkMetallicColorScheme();
@@ -63,8 +63,8 @@ public class SaharaSkin extends RadianceSkin {
 		RadianceColorScheme enabledScheme = new MetallicColorScheme();
 
 		ColorSchemes kitchenSinkSchemes = RadianceSkin.getColorSchemes(
-				this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes"));
+				this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/kitchen-sink.colorschemes");
 		RadianceColorSchemeBundle defaultSchemeBundle = new RadianceColorSchemeBundle(
 				activeScheme, enabledScheme, kitchenSinkSchemes.get("Gray Disabled"));
 		defaultSchemeBundle.registerHighlightColorScheme(
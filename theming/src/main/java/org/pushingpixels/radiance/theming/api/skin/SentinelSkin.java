@@ -61,8 +61,8 @@ public class SentinelSkin extends RadianceSkin {
      */
     public SentinelSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/sentinel.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/sentinel.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Sentinel Active");
         RadianceColorScheme enabledScheme = schemes.get("Sentinel Enabled");
         RadianceColorScheme disabledScheme = schemes.get("Sentinel Disabled");
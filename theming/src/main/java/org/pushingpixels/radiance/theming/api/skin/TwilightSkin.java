@@ -80,8 +80,8 @@ public class TwilightSkin extends RadianceSkin {
      */
     public TwilightSkin() {
         ColorSchemes schemes = RadianceSkin.getColorSchemes(
-                this.getClass().getClassLoader().getResourceAsStream(
-                        "org/pushingpixels/radiance/theming/api/skin/twilight.colorschemes"));
+                this.getClass().getClassLoader(),
+                        "org/pushingpixels/radiance/theming/api/skin/twilight.colorschemes");
         RadianceColorScheme activeScheme = schemes.get("Twilight Active");
         RadianceColorScheme enabledScheme = schemes.get("Twilight Enabled");
 
@@ -88,6 +88,16 @@ public class RadianceSynapse {
      */
     public static final String BUTTON_NO_MIN_SIZE = "radiance.theming.internal.buttonNoMinSize";
 
+    /**
+     * Property name for enabling the cache of rendered button backgrounds.
+     */
+    public static final String BUTTON_BACKGROUND_CACHE = "radiance.theming.internal.buttonBackgroundCache";
+
+    /**
+     * Property name for enabling skin switches that keep the installed UI delegates.
+     */
+    public static final String INCREMENTAL_SKIN_SWITCH = "radiance.theming.internal.incrementalSkinSwitch";
+
     /**
      * Client property name for specifying a straight side for a single button.
      */
@@ -194,6 +204,11 @@ public class RadianceSynapse {
      */
     public final static String TRACE_FILE = "radiance.theming.internal.traceFile";
 
+    /**
+     * Property name for specifying the folder for caching generated noise textures.
+     */
+    public final static String NOISE_CACHE_FOLDER = "radiance.theming.internal.noiseCacheFolder";
+
     /**
      * Client property name for specifying the kind of focus indication.
      */
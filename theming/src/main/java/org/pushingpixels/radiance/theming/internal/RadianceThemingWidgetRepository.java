@@ -33,6 +33,7 @@ import org.pushingpixels.radiance.theming.api.RadianceThemingWidget;
 
 import javax.swing.*;
 import javax.swing.text.JTextComponent;
+import java.lang.reflect.Constructor;
 import java.util.*;
 
 /**
@@ -53,6 +54,13 @@ public class RadianceThemingWidgetRepository {
      */
     private Set<String> widgetClassesToIgnore;
 
+    /**
+     * Widget constructors that apply to each component class. These are resolved once per
+     * component class, and this field is replaced with a new instance whenever the registered
+     * or ignored widgets change.
+     */
+    private volatile ClassValue<List<Constructor<?>>> widgetConstructors;
+
     /**
      * Singleton instance.
      */
@@ -94,6 +102,68 @@ public class RadianceThemingWidgetRepository {
     private RadianceThemingWidgetRepository() {
         this.widgets = new HashMap<>();
         this.widgetClassesToIgnore = new HashSet<>();
+        this.widgetConstructors = this.createWidgetConstructors();
+    }
+
+    /**
+     * Creates a new lazily populated mapping from component classes to the constructors of
+     * widgets that apply to them.
+     *
+     * @return Mapping from component classes to widget constructors.
+     */
+    private ClassValue<List<Constructor<?>>> createWidgetConstructors() {
+        return new ClassValue<List<Constructor<?>>>() {
+            @Override
+            protected List<Constructor<?>> computeValue(Class<?> componentClass) {
+                return getMatchingWidgetConstructors(componentClass);
+            }
+        };
+    }
+
+    /**
+     * Returns constructors of widgets that match the specified component class. The class
+     * hierarchy is scanned bottom-up, skipping the widgets that should be ignored and the
+     * widgets that cannot be loaded.
+     *
+     * @param componentClass
+     *            UI component class.
+     * @return Constructors of widgets that match the specified component class.
+     */
+    private synchronized List<Constructor<?>> getMatchingWidgetConstructors(Class<?> componentClass) {
+        List<Constructor<?>> result = new ArrayList<>();
+        Class<?> clazz = componentClass;
+        boolean isOriginator = true;
+        while (clazz != null) {
+            Set<WidgetClassInfo> registered = this.widgets.get(clazz);
+            if (registered != null) {
+                for (WidgetClassInfo widgetClassInfo : registered) {
+                    if (widgetClassInfo.isExact && !isOriginator) {
+                        continue;
+                    }
+                    String widgetClassName = widgetClassInfo.className;
+                    // check if the application requested to ignore the
+                    // specific widget
+                    if (this.widgetClassesToIgnore.contains(widgetClassName)) {
+                        continue;
+                    }
+                    try {
+                        // The code below will fail if no such class exists.
+                        // This allows safely removing the relevant widget
+                        // classes making the jar size smaller.
+                        Class<?> widgetClass = Class.forName(widgetClassName);
+                        if (RadianceThemingWidget.class.isAssignableFrom(widgetClass)) {
+                            result.add(widgetClass.getDeclaredConstructor());
+                        }
+                        // the exceptions are ignored - see the explanation
+                        // above.
+                    } catch (Throwable t) {
+                    }
+                }
+            }
+            clazz = clazz.getSuperclass();
+            isOriginator = false;
+        }
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -194,11 +264,12 @@ public class RadianceThemingWidgetRepository {
             }
         }
         this.widgets.get(supportedClass).add(new WidgetClassInfo(widgetClassName, isExact));
+        this.widgetConstructors = this.createWidgetConstructors();
     }
 
     /**
-     * Returns a set of widgets that match the specified component. The component hierarchy is
-     * scanned bottom-up and all matching widget classes are used to instantiate new instance of
+     * Returns a set of widgets that match the specified component. The matching widget classes
+     * are resolved once per component class, and are used to instantiate new instances of
      * widgets.
      * 
      * @param jcomp
@@ -206,43 +277,19 @@ public class RadianceThemingWidgetRepository {
      * @return Set of widgets that match the specified component.
      */
     @SuppressWarnings("unchecked")
-    public synchronized <T extends JComponent> Set<RadianceThemingWidget<T>> getMatchingWidgets(T jcomp) {
+    public <T extends JComponent> Set<RadianceThemingWidget<T>> getMatchingWidgets(T jcomp) {
+        List<Constructor<?>> constructors = this.widgetConstructors.get(jcomp.getClass());
         Set<RadianceThemingWidget<T>> result = new HashSet<>();
-        Class<?> clazz = jcomp.getClass();
-        boolean isOriginator = true;
-        while (clazz != null) {
-            Set<WidgetClassInfo> registered = this.widgets.get(clazz);
-            if (registered != null) {
-                for (WidgetClassInfo widgetClassInfo : registered) {
-                    if (widgetClassInfo.isExact && !isOriginator) {
-                        continue;
-                    }
-                    try {
-                        String widgetClassName = widgetClassInfo.className;
-                        // check if the application requested to ignore the
-                        // specific widget
-                        if (this.widgetClassesToIgnore.contains(widgetClassName)) {
-                            continue;
-                        }
-
-                        // The code below will fail if no such class exists.
-                        // This allows safely removing the relevant widget
-                        // classes making the jar size smaller.
-                        Object widgetObj = Class.forName(widgetClassName)
-                                .getDeclaredConstructor().newInstance();
-                        if (widgetObj instanceof RadianceThemingWidget) {
-                            RadianceThemingWidget<T> widget = (RadianceThemingWidget<T>) widgetObj;
-                            widget.setComponent(jcomp);
-                            result.add(widget);
-                        }
-                        // the exceptions are ignored - see the explanation
-                        // above.
-                    } catch (Throwable t) {
-                    }
-                }
+        for (Constructor<?> constructor : constructors) {
+            try {
+                RadianceThemingWidget<T> widget =
+                        (RadianceThemingWidget<T>) constructor.newInstance();
+                widget.setComponent(jcomp);
+                result.add(widget);
+            } catch (Throwable t) {
+                // ignore widgets that fail to instantiate, same as the widgets
+                // that fail to load
             }
-            clazz = clazz.getSuperclass();
-            isOriginator = false;
         }
         return result;
     }
@@ -255,5 +302,6 @@ public class RadianceThemingWidgetRepository {
      */
     public synchronized void addToIgnoreWidgets(String widgetClassName) {
         this.widgetClassesToIgnore.add(widgetClassName);
+        this.widgetConstructors = this.createWidgetConstructors();
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.theming.internal.animation;
+
+/**
+ * Tracks state transitions of index-based cells, such as list and tabbed pane indices, or
+ * table row-column pairs. This is a specialization of {@link StateTransitionMultiTracker} that
+ * keeps the trackers in an open-addressing hash table keyed by primitive <code>long</code>
+ * values, so that tracker lookups while painting cells do not allocate key objects. A table
+ * cell is keyed by its row in the upper 32 bits and its column in the lower 32 bits. All the
+ * methods are expected to be called on the Event Dispatch Thread.
+ *
+ * @author Kirill Grouchnikov
+ */
+public final class IndexedStateTransitionMultiTracker {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+
+    private StateTransitionTracker[] trackers;
+
+    private int size;
+
+    private boolean isInCleaning;
+
+    public IndexedStateTransitionMultiTracker() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.trackers = new StateTransitionTracker[INITIAL_CAPACITY];
+    }
+
+    private static long getKey(int row, int column) {
+        return (((long) row) << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private static int getSlot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public void clear() {
+        if (this.size == 0) {
+            return;
+        }
+        this.isInCleaning = true;
+        for (int i = 0; i < this.trackers.length; i++) {
+            StateTransitionTracker tracker = this.trackers[i];
+            if (tracker != null) {
+                this.trackers[i] = null;
+                tracker.endTransition();
+            }
+        }
+        this.size = 0;
+        this.isInCleaning = false;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public StateTransitionTracker getTracker(int index) {
+        return this.getTracker(0, index);
+    }
+
+    public StateTransitionTracker getTracker(int row, int column) {
+        if (this.size == 0) {
+            return null;
+        }
+        long key = getKey(row, column);
+        int mask = this.keys.length - 1;
+        for (int slot = getSlot(key, mask); ; slot = (slot + 1) & mask) {
+            StateTransitionTracker tracker = this.trackers[slot];
+            if ((tracker == null) || (this.keys[slot] == key)) {
+                return tracker;
+            }
+        }
+    }
+
+    public void addTracker(int index, StateTransitionTracker tracker) {
+        this.addTracker(0, index, tracker);
+    }
+
+    public void addTracker(int row, int column, final StateTransitionTracker tracker) {
+        final long key = getKey(row, column);
+        this.put(key, tracker);
+
+        StateTransitionListener listener = new StateTransitionListener() {
+            @Override
+            public void onModelStateTransition(StateTransitionEvent stateTransitionEvent) {
+                this.onTransition();
+            }
+
+            @Override
+            public void onFocusStateTransition(StateTransitionEvent stateTransitionEvent) {
+                this.onTransition();
+            }
+
+            private void onTransition() {
+                if (isInCleaning) {
+                    return;
+                }
+
+                if (!tracker.hasRunningTimelines()) {
+                    remove(key, tracker);
+                    tracker.unregisterModelListeners();
+                    tracker.removeStateTransitionListener(this);
+                }
+            }
+        };
+        tracker.addStateTransitionListener(listener);
+    }
+
+    public void removeTracker(int index) {
+        this.remove(getKey(0, index), null);
+    }
+
+    public void removeTracker(int row, int column) {
+        this.remove(getKey(row, column), null);
+    }
+
+    private void put(long key, StateTransitionTracker tracker) {
+        if (2 * (this.size + 1) > this.keys.length) {
+            this.resize(2 * this.keys.length);
+        }
+        int mask = this.keys.length - 1;
+        int slot = getSlot(key, mask);
+        while (this.trackers[slot] != null) {
+            if (this.keys[slot] == key) {
+                this.trackers[slot] = tracker;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.trackers[slot] = tracker;
+        this.size++;
+    }
+
+    private void remove(long key, StateTransitionTracker expected) {
+        int mask = this.keys.length - 1;
+        int slot = getSlot(key, mask);
+        while (true) {
+            if (this.trackers[slot] == null) {
+                return;
+            }
+            if (this.keys[slot] == key) {
+                if ((expected != null) && (this.trackers[slot] != expected)) {
+                    // a newer tracker has been stored under this key
+                    return;
+                }
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Shift the following entries of the same probe sequence back to keep all the
+        // entries reachable from their home slots
+        int gap = slot;
+        for (int next = (gap + 1) & mask; this.trackers[next] != null; next = (next + 1) & mask) {
+            int home = getSlot(this.keys[next], mask);
+            boolean canMove = (gap <= next) ? ((home <= gap) || (home > next))
+                    : ((home <= gap) && (home > next));
+            if (canMove) {
+                this.keys[gap] = this.keys[next];
+                this.trackers[gap] = this.trackers[next];
+                gap = next;
+            }
+        }
+        this.trackers[gap] = null;
+        this.size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = this.keys;
+        StateTransitionTracker[] oldTrackers = this.trackers;
+        this.keys = new long[capacity];
+        this.trackers = new StateTransitionTracker[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldTrackers.length; i++) {
+            if (oldTrackers[i] != null) {
+                int slot = getSlot(oldKeys[i], mask);
+                while (this.trackers[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.trackers[slot] = oldTrackers[i];
+            }
+        }
+    }
+}
@@ -32,6 +32,14 @@ package org.pushingpixels.radiance.theming.internal.animation;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Tracks state transitions of multiple elements of the same component, such as tree paths.
+ * For index-based elements use {@link IndexedStateTransitionMultiTracker}. All the methods are
+ * expected to be called on the Event Dispatch Thread.
+ *
+ * @param <T> Element ID class.
+ * @author Kirill Grouchnikov
+ */
 public final class StateTransitionMultiTracker<T> {
 	private Map<Comparable<T>, StateTransitionTracker> trackerMap;
 
@@ -41,7 +49,7 @@ public final class StateTransitionMultiTracker<T> {
 		this.trackerMap = new HashMap<>();
 	}
 
-	public synchronized void clear() {
+	public void clear() {
 		this.isInCleaning = true;
 		for (StateTransitionTracker tracker : this.trackerMap.values()) {
 			tracker.endTransition();
@@ -50,15 +58,15 @@ public final class StateTransitionMultiTracker<T> {
 		this.isInCleaning = false;
 	}
 
-	public synchronized int size() {
+	public int size() {
 		return this.trackerMap.size();
 	}
 
-	public synchronized StateTransitionTracker getTracker(Comparable<T> id) {
+	public StateTransitionTracker getTracker(Comparable<T> id) {
 		return this.trackerMap.get(id);
 	}
 
-	public synchronized void addTracker(final Comparable<T> id,
+	public void addTracker(final Comparable<T> id,
 			final StateTransitionTracker tracker) {
 		this.trackerMap.put(id, tracker);
 
@@ -99,7 +107,7 @@ public final class StateTransitionMultiTracker<T> {
 		tracker.addStateTransitionListener(listener);
 	}
 
-	public synchronized void removeTracker(final Comparable<T> id) {
+	public void removeTracker(final Comparable<T> id) {
 		trackerMap.remove(id);
 	}
 }
@@ -35,6 +35,7 @@ import org.pushingpixels.radiance.theming.api.ComponentState;
 import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
 import org.pushingpixels.radiance.theming.api.renderer.RadianceRenderer;
 import org.pushingpixels.radiance.theming.internal.AnimationConfigurationManager;
+import org.pushingpixels.radiance.theming.internal.utils.ComponentStateMap;
 import org.pushingpixels.radiance.theming.internal.utils.RadianceCoreUtilities;
 import org.pushingpixels.radiance.animation.api.Timeline;
 import org.pushingpixels.radiance.animation.api.Timeline.RepeatBehavior;
@@ -52,7 +53,6 @@ import javax.swing.tree.TreeCellRenderer;
 import java.awt.*;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
-import java.util.HashMap;
 import java.util.Map;
 
 public class StateTransitionTracker {
@@ -126,8 +126,8 @@ public class StateTransitionTracker {
         float activeStrength;
 
         public ModelStateInfo() {
-            this.stateContributionMap = new HashMap<>();
-            this.stateNoSelectionContributionMap = new HashMap<>();
+            this.stateContributionMap = new ComponentStateMap<>();
+            this.stateNoSelectionContributionMap = new ComponentStateMap<>();
             this.activeStrength = 0.0f;
         }
 
@@ -464,7 +464,7 @@ public class StateTransitionTracker {
             // }
         }
 
-        Map<ComponentState, StateContributionInfo> newContributionMap = new HashMap<>();
+        Map<ComponentState, StateContributionInfo> newContributionMap = new ComponentStateMap<>();
         if (this.modelStateInfo.stateContributionMap.containsKey(newState)) {
             // 1. the new state goes from current value to 1.0
             // 2. the rest go from current value to 0.0
@@ -490,7 +490,8 @@ public class StateTransitionTracker {
         }
         this.modelStateInfo.stateContributionMap = newContributionMap;
 
-        Map<ComponentState, StateContributionInfo> newNoSelectionContributionMap = new HashMap<>();
+        Map<ComponentState, StateContributionInfo> newNoSelectionContributionMap =
+                new ComponentStateMap<>();
         if (this.modelStateInfo.stateNoSelectionContributionMap
                 .containsKey(newStateNoSelection)) {
             // 1. the new state goes from current value to 1.0
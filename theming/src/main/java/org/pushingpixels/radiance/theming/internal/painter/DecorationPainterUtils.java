@@ -35,6 +35,7 @@ import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
 import org.pushingpixels.radiance.theming.api.painter.decoration.RadianceDecorationPainter;
 import org.pushingpixels.radiance.theming.internal.utils.RadianceCoreUtilities;
+import org.pushingpixels.radiance.theming.internal.utils.ResolvedComponentStyle;
 import org.pushingpixels.radiance.theming.internal.utils.WidgetUtilities;
 
 import javax.swing.*;
@@ -49,7 +50,7 @@ public class DecorationPainterUtils {
     /**
      * Client property for marking a component with an instance of {@link RadianceThemingSlices.DecorationAreaType} enum.
      */
-    private static final String DECORATION_AREA_TYPE = "radiance.theming.internal.painter.decorationAreaType";
+    public static final String DECORATION_AREA_TYPE = "radiance.theming.internal.painter.decorationAreaType";
 
     public static final String POPUP_ORIGINATOR_LINK = "radiance.theming.internal.popupOriginatorLink";
 
@@ -67,6 +68,7 @@ public class DecorationPainterUtils {
      */
     public static void setDecorationType(JComponent comp, RadianceThemingSlices.DecorationAreaType type) {
         comp.putClientProperty(DECORATION_AREA_TYPE, type);
+        ResolvedComponentStyle.invalidateAll();
     }
 
     /**
@@ -78,6 +80,7 @@ public class DecorationPainterUtils {
     public static void clearDecorationType(JComponent comp) {
         if (comp != null) {
             comp.putClientProperty(DECORATION_AREA_TYPE, null);
+            ResolvedComponentStyle.invalidateAll();
         }
     }
 
@@ -96,6 +99,22 @@ public class DecorationPainterUtils {
      * @return Decoration area type of the component.
      */
     public static RadianceThemingSlices.DecorationAreaType getDecorationType(Component comp) {
+        if (comp instanceof JComponent) {
+            return ResolvedComponentStyle.getDecorationType((JComponent) comp);
+        }
+        return resolveDecorationType(comp);
+    }
+
+    /**
+     * Resolves the decoration area type of the specified component by scanning the component and
+     * its ancestor hierarchy. Unlike {@link #getDecorationType(Component)}, this method does not
+     * use the resolved style of the component.
+     *
+     * @param comp
+     *            Component.
+     * @return Decoration area type of the component.
+     */
+    public static RadianceThemingSlices.DecorationAreaType resolveDecorationType(Component comp) {
         JPopupMenu popupMenu = null;
         JComponent popupOriginator = null;
         Component c = comp;
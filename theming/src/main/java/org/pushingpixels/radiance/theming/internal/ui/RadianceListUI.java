@@ -39,7 +39,7 @@ import org.pushingpixels.radiance.theming.api.RadianceThemingSlices.ComponentSta
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
 import org.pushingpixels.radiance.theming.api.renderer.RadianceDefaultListCellRenderer;
 import org.pushingpixels.radiance.theming.api.renderer.RadiancePanelListCellRenderer;
-import org.pushingpixels.radiance.theming.internal.animation.StateTransitionMultiTracker;
+import org.pushingpixels.radiance.theming.internal.animation.IndexedStateTransitionMultiTracker;
 import org.pushingpixels.radiance.theming.internal.animation.StateTransitionTracker;
 import org.pushingpixels.radiance.theming.internal.painter.BackgroundPaintingUtils;
 import org.pushingpixels.radiance.theming.internal.painter.HighlightPainterUtils;
@@ -94,7 +94,7 @@ public class RadianceListUI extends BasicListUI implements UpdateOptimizationAwa
 
     private ComponentListener radianceComponentListener;
 
-    private StateTransitionMultiTracker<Integer> stateTransitionMultiTracker;
+    private IndexedStateTransitionMultiTracker stateTransitionMultiTracker;
 
     private ListDataListener radianceListDataListener;
 
@@ -304,7 +304,7 @@ public class RadianceListUI extends BasicListUI implements UpdateOptimizationAwa
         rolledOverIndex = -1;
         selectedIndices = new HashMap<>();
 
-        this.stateTransitionMultiTracker = new StateTransitionMultiTracker<>();
+        this.stateTransitionMultiTracker = new IndexedStateTransitionMultiTracker();
     }
 
     @Override
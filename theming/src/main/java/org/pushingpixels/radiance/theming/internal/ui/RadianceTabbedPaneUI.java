@@ -45,7 +45,7 @@ import org.pushingpixels.radiance.theming.api.tabbed.*;
 import org.pushingpixels.radiance.theming.internal.AnimationConfigurationManager;
 import org.pushingpixels.radiance.theming.internal.RadianceSynapse;
 import org.pushingpixels.radiance.theming.internal.RadianceThemingWidgetRepository;
-import org.pushingpixels.radiance.theming.internal.animation.StateTransitionMultiTracker;
+import org.pushingpixels.radiance.theming.internal.animation.IndexedStateTransitionMultiTracker;
 import org.pushingpixels.radiance.theming.internal.animation.StateTransitionTracker;
 import org.pushingpixels.radiance.theming.internal.blade.*;
 import org.pushingpixels.radiance.theming.internal.painter.BackgroundPaintingUtils;
@@ -88,7 +88,7 @@ public class RadianceTabbedPaneUI extends BasicTabbedPaneUI {
      */
     private int currSelectedIndex;
 
-    private StateTransitionMultiTracker<Integer> stateTransitionMultiTracker;
+    private IndexedStateTransitionMultiTracker stateTransitionMultiTracker;
 
     private Set<RadianceThemingWidget<JComponent>> themingWidgets;
 
@@ -501,7 +501,7 @@ public class RadianceTabbedPaneUI extends BasicTabbedPaneUI {
      */
     protected RadianceTabbedPaneUI() {
         super();
-        this.stateTransitionMultiTracker = new StateTransitionMultiTracker<>();
+        this.stateTransitionMultiTracker = new IndexedStateTransitionMultiTracker();
         this.currSelectedIndex = -1;
         this.tabTextColorMap = new HashMap<>();
     }
@@ -37,7 +37,7 @@ import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
 import org.pushingpixels.radiance.theming.api.renderer.RadianceDefaultTableHeaderCellRenderer;
 import org.pushingpixels.radiance.theming.internal.AnimationConfigurationManager;
-import org.pushingpixels.radiance.theming.internal.animation.StateTransitionMultiTracker;
+import org.pushingpixels.radiance.theming.internal.animation.IndexedStateTransitionMultiTracker;
 import org.pushingpixels.radiance.theming.internal.animation.StateTransitionTracker;
 import org.pushingpixels.radiance.theming.internal.painter.DecorationPainterUtils;
 import org.pushingpixels.radiance.theming.internal.painter.HighlightPainterUtils;
@@ -91,7 +91,7 @@ public class RadianceTableHeaderUI extends BasicTableHeaderUI {
      */
     private ListSelectionListener radianceFadeSelectionListener;
 
-    private StateTransitionMultiTracker<Integer> stateTransitionMultiTracker;
+    private IndexedStateTransitionMultiTracker stateTransitionMultiTracker;
 
     /**
      * Property change listener.
@@ -137,7 +137,7 @@ public class RadianceTableHeaderUI extends BasicTableHeaderUI {
      * Creates a new UI delegate.
      */
     protected RadianceTableHeaderUI() {
-        this.stateTransitionMultiTracker = new StateTransitionMultiTracker<>();
+        this.stateTransitionMultiTracker = new IndexedStateTransitionMultiTracker();
         selectedIndices = new HashMap<>();
     }
 
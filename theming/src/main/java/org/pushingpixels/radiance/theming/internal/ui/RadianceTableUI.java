@@ -38,7 +38,7 @@ import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
 import org.pushingpixels.radiance.theming.api.renderer.RadianceDefaultTableCellRenderer;
 import org.pushingpixels.radiance.theming.api.renderer.RadianceDefaultTableHeaderCellRenderer;
 import org.pushingpixels.radiance.theming.internal.AnimationConfigurationManager;
-import org.pushingpixels.radiance.theming.internal.animation.StateTransitionMultiTracker;
+import org.pushingpixels.radiance.theming.internal.animation.IndexedStateTransitionMultiTracker;
 import org.pushingpixels.radiance.theming.internal.animation.StateTransitionTracker;
 import org.pushingpixels.radiance.theming.internal.painter.BackgroundPaintingUtils;
 import org.pushingpixels.radiance.theming.internal.painter.DecorationPainterUtils;
@@ -67,9 +67,41 @@ import java.util.*;
  */
 public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationAware {
     /**
-     * Holds the list of currently selected row-column indexes.
+     * Holds the rows that were selected as of the last selection sync. Together with
+     * {@link #selectedColumns} this tracks the selected cells without keeping per-cell
+     * objects - see {@link #isCellSelected(boolean, boolean)}.
      */
-    private Map<TableCellId, Object> selectedIndices;
+    private BitSet selectedRows;
+
+    /**
+     * Holds the columns that were selected as of the last selection sync.
+     */
+    private BitSet selectedColumns;
+
+    /**
+     * Indicates that the table class overrides {@link JTable#isCellSelected(int, int)}. In this
+     * case the selection of a cell can not be derived from {@link #selectedRows} and
+     * {@link #selectedColumns}, and the results of the table's own
+     * {@link JTable#isCellSelected(int, int)} are recorded in {@link #customSelectedCells}.
+     */
+    private boolean hasCustomCellSelection;
+
+    /**
+     * Holds the cells that were selected as of the last selection sync, for tables with
+     * custom cell selection - see {@link #hasCustomCellSelection}.
+     */
+    private Set<TableCellId> customSelectedCells;
+
+    /**
+     * Indicates that {@link #customSelectedCells} was not updated on the last selection sync.
+     */
+    private boolean isCustomSelectionStale;
+
+    /**
+     * Holds the values of the cells that started a selection animation. These are used to check
+     * that the cell still shows the same content when it is unselected.
+     */
+    private Map<TableCellId, Object> animatedSelectionValues;
 
     /**
      * Holds the currently rolled-over row-column index, or <code>null</code> if none such.
@@ -113,7 +145,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
 
     private FocusListener radianceFocusListener;
 
-    private StateTransitionMultiTracker<TableCellId> stateTransitionMultiTracker;
+    private IndexedStateTransitionMultiTracker stateTransitionMultiTracker;
 
     /**
      * Cell renderer insets. Is computed in {@link #installDefaults()} and reused in
@@ -134,9 +166,12 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
      */
     protected RadianceTableUI() {
         super();
-        this.selectedIndices = new HashMap<>();
+        this.selectedRows = new BitSet();
+        this.selectedColumns = new BitSet();
+        this.customSelectedCells = new HashSet<>();
+        this.animatedSelectionValues = new HashMap<>();
         this.rolledOverIndices = new HashSet<>();
-        this.stateTransitionMultiTracker = new StateTransitionMultiTracker<>();
+        this.stateTransitionMultiTracker = new IndexedStateTransitionMultiTracker();
         this.rolledOverColumn = -1;
         this.rolledOverRow = -1;
 
@@ -213,16 +248,12 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
         }
         this.installEditorIfNecessary(Boolean.class, new BooleanEditor());
 
-        int rows = this.table.getRowCount();
-        int cols = this.table.getColumnCount();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (this.table.isCellSelected(i, j)) {
-                    TableCellId cellId = new TableCellId(i, j);
-                    this.selectedIndices.put(cellId, this.table.getValueAt(i, j));
-                }
-            }
-        }
+        syncSelectionBits(this.table.getSelectionModel(), this.selectedRows,
+                0, this.table.getRowCount() - 1);
+        syncSelectionBits(this.table.getColumnModel().getSelectionModel(), this.selectedColumns,
+                0, this.table.getColumnCount() - 1);
+        this.hasCustomCellSelection = hasCustomCellSelection(this.table);
+        this.isCustomSelectionStale = this.hasCustomCellSelection;
 
         // This is a little tricky, and hopefully will not
         // interfere with existing applications. The row height in tables
@@ -317,7 +348,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
             this.uninstallEditorIfNecessary(entry.getKey(), entry.getValue());
         }
 
-        this.selectedIndices.clear();
+        this.clearSelectedCells();
 
         super.uninstallDefaults();
     }
@@ -376,7 +407,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                 }
                 // fix for defect 291 - track changes to the table.
                 table.getModel().addTableModelListener(radianceTableStateListener);
-                selectedIndices.clear();
+                clearSelectedCells();
                 stateTransitionMultiTracker.clear();
                 RadianceTableUI.this.syncSelection(true);
             }
@@ -389,7 +420,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                 }
                 table.getColumnModel().getSelectionModel()
                         .addListSelectionListener(radianceTableStateListener);
-                selectedIndices.clear();
+                clearSelectedCells();
                 stateTransitionMultiTracker.clear();
                 RadianceTableUI.this.syncSelection(true);
 
@@ -413,7 +444,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                     old.removeListSelectionListener(radianceTableStateListener);
                 }
                 table.getSelectionModel().addListSelectionListener(radianceTableStateListener);
-                selectedIndices.clear();
+                clearSelectedCells();
                 stateTransitionMultiTracker.clear();
                 RadianceTableUI.this.syncSelection(true);
             }
@@ -429,7 +460,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                 if (newSorter != null) {
                     newSorter.addRowSorterListener(radianceTableStateListener);
                 }
-                selectedIndices.clear();
+                clearSelectedCells();
                 stateTransitionMultiTracker.clear();
                 RadianceTableUI.this.syncSelection(true);
             }
@@ -917,9 +948,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
         // alpha composite applied to it.
         g2d.setComposite(WidgetUtilities.getAlphaComposite(this.table, g));
 
-        TableCellId cellId = new TableCellId(row, column);
-
-        StateTransitionTracker.ModelStateInfo modelStateInfo = this.getModelStateInfo(cellId);
+        StateTransitionTracker.ModelStateInfo modelStateInfo = this.getModelStateInfo(row, column);
         Map<ComponentState, StateTransitionTracker.StateContributionInfo> activeStates = ((modelStateInfo == null)
                 ? null
                 : modelStateInfo.getStateContributionMap());
@@ -943,7 +972,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                     ? (isSelected ? ComponentState.ROLLOVER_SELECTED : ComponentState.ROLLOVER_UNSELECTED)
                     : (isSelected ? ComponentState.SELECTED : ComponentState.ENABLED);
         } else {
-            currState = ((modelStateInfo == null) ? this.getCellState(cellId)
+            currState = ((modelStateInfo == null) ? this.getCellState(row, column)
                     : modelStateInfo.getCurrModelState());
         }
 
@@ -992,7 +1021,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
             }
             if (row > 1) {
                 ComponentState upperNeighbourState = this
-                        .getCellState(new TableCellId(row - 1, column));
+                        .getCellState(row - 1, column);
                 if (currState == upperNeighbourState) {
                     // the cell above it is in the same state
                     highlightOpenSides.add(RadianceThemingSlices.Side.TOP);
@@ -1000,7 +1029,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
             }
             if (column > 1) {
                 ComponentState leftNeighbourState = this
-                        .getCellState(new TableCellId(row, column - 1));
+                        .getCellState(row, column - 1);
                 if (currState == leftNeighbourState) {
                     // the cell to the left is in the same state
                     if (table.getComponentOrientation().isLeftToRight()) {
@@ -1024,7 +1053,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
             }
         }
 
-        boolean isRollover = this.rolledOverIndices.contains(cellId);
+        boolean isRollover = this.rolledOverIndices.contains(this.getId(row, column));
         if (this.table.isEditing() && this.table.getEditingRow() == row
                 && this.table.getEditingColumn() == column) {
             Component component = this.table.getEditorComponent();
@@ -1168,7 +1197,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                 // starts the fade sequence. So, we use the UI delegate to
                 // compute the selection status.
                 boolean isSelected = updateInfo.hasSelectionAnimations
-                        ? this.selectedIndices.containsKey(cellId)
+                        ? this.isTrackedCellSelected(row, column)
                         : this.table.isCellSelected(row, column);
                 boolean newOpaque = !(isSelected || isRollover || hasHighlights);
 
@@ -1490,7 +1519,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                     oldSortKeys.add(copy);
                 }
             }
-            syncSelection(isDifferentSorter);
+            syncSelection(isDifferentSorter, e);
         }
 
         @Override
@@ -1506,7 +1535,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                 // internal selection and focus tracking
                 // when the event is table update.
                 if (e.getType() != TableModelEvent.UPDATE) {
-                    selectedIndices.clear();
+                    clearSelectedCells();
                     stateTransitionMultiTracker.clear();
                     focusedCellId = null;
                 }
@@ -1787,8 +1816,21 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
     /**
      * Synchronizes the current selection state.
      */
-    // @SuppressWarnings("unchecked")
     protected void syncSelection(boolean enforceNoAnimations) {
+        this.syncSelection(enforceNoAnimations, null);
+    }
+
+    /**
+     * Synchronizes the current selection state. Only the rows or the columns in the range of the
+     * specified selection event are checked for changes, and only the cells in the changed rows
+     * and columns are visited.
+     *
+     * @param enforceNoAnimations If <code>true</code>, no animations are started.
+     * @param event               Selection event that triggered the sync. Can be
+     *                            <code>null</code>, in which case all rows and columns are
+     *                            checked for changes.
+     */
+    private void syncSelection(boolean enforceNoAnimations, ListSelectionEvent event) {
         if (this.table == null) {
             // fix for defect 270 - if the UI delegate is updated
             // by another selection listener, ignore this
@@ -1798,8 +1840,37 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
         int rows = this.table.getRowCount();
         int cols = this.table.getColumnCount();
 
-        int rowLeadIndex = this.table.getSelectionModel().getLeadSelectionIndex();
-        int colLeadIndex = this.table.getColumnModel().getSelectionModel().getLeadSelectionIndex();
+        ListSelectionModel rowSelectionModel = this.table.getSelectionModel();
+        ListSelectionModel columnSelectionModel = this.table.getColumnModel().getSelectionModel();
+
+        int rowFrom = 0;
+        int rowTo = rows - 1;
+        int columnFrom = 0;
+        int columnTo = cols - 1;
+        if (event != null) {
+            // The selection event tells which indices might have changed in the
+            // selection model that fired it. The other selection model has not changed.
+            if (event.getSource() == rowSelectionModel) {
+                rowFrom = Math.max(0, event.getFirstIndex());
+                rowTo = Math.min(rows - 1, event.getLastIndex());
+                columnTo = -1;
+            } else if (event.getSource() == columnSelectionModel) {
+                columnFrom = Math.max(0, event.getFirstIndex());
+                columnTo = Math.min(cols - 1, event.getLastIndex());
+                rowTo = -1;
+            }
+        } else {
+            // Clear the indices that are no longer in the table
+            this.selectedRows.clear(rows, Math.max(rows, this.selectedRows.length()));
+            this.selectedColumns.clear(cols, Math.max(cols, this.selectedColumns.length()));
+        }
+        BitSet changedRows = syncSelectionBits(rowSelectionModel, this.selectedRows,
+                rowFrom, rowTo);
+        BitSet changedColumns = syncSelectionBits(columnSelectionModel, this.selectedColumns,
+                columnFrom, columnTo);
+
+        int rowLeadIndex = rowSelectionModel.getLeadSelectionIndex();
+        int colLeadIndex = columnSelectionModel.getLeadSelectionIndex();
         boolean isFocusOwner = this.table.isFocusOwner();
 
         // fix for defect 209 - selection very slow on large tables with
@@ -1808,7 +1879,8 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
         // cells.
         if (!this._hasSelectionAnimations()) {
             stateTransitionMultiTracker.clear();
-            // this.prevStateMap.clear();
+            this.animatedSelectionValues.clear();
+            this.isCustomSelectionStale = this.hasCustomCellSelection;
             table.repaint();
 
             // fix for issue 414 - track focus on tables
@@ -1821,133 +1893,259 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
 
         Set<StateTransitionTracker> initiatedTrackers = new HashSet<>();
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                TableCellId cellId = new TableCellId(i, j);
-                if (this.table.isCellSelected(i, j)) {
-                    // check if was selected before
-                    if (!this.selectedIndices.containsKey(cellId)) {
-                        // start fading in
-                        if (!enforceNoAnimations) {
-                            // System.out
-                            // .println("Getting selection/in tracker for "
-                            // + cellId);
-                            StateTransitionTracker tracker = getTracker(cellId, getCellState(cellId)
-                                    .isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER), false);
-                            tracker.getModel().setSelected(true);
-                            // System.out
-                            // .println("Selecting previously unselected "
-                            // + i + ":" + j);
-                            initiatedTrackers.add(tracker);
-                            if (initiatedTrackers.size() > 20) {
-                                stateTransitionMultiTracker.clear();
-                                initiatedTrackers.clear();
-                                enforceNoAnimations = true;
-                            }
-                        }
-
-                        this.selectedIndices.put(cellId, this.table.getValueAt(i, j));
+        if (this.hasCustomCellSelection) {
+            // The table decides on the selection of each cell, so all the cells need to be
+            // checked. This is only done on tables small enough to have selection animations.
+            if (this.isCustomSelectionStale) {
+                // Do not animate the changes that happened while the recorded cells were stale
+                enforceNoAnimations = true;
+                this.isCustomSelectionStale = false;
+            }
+            this.customSelectedCells.removeIf(cellId -> (cellId.row >= rows) || (cellId.column >= cols));
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    boolean isSelected = this.table.isCellSelected(i, j);
+                    boolean wasSelected = this.customSelectedCells.contains(this.getId(i, j));
+                    if (isSelected == wasSelected) {
+                        continue;
                     }
-                } else {
-                    // check if was selected before and still points
-                    // to the same element
-                    if (this.selectedIndices.containsKey(cellId)) {
-                        // corner case when the model returns null
-                        Object oldValue = this.selectedIndices.get(cellId);
-                        if ((i >= this.table.getModel().getRowCount())
-                                || (j >= this.table.getModel().getColumnCount())) {
-                            // not only the content changed, but the model
-                            // dimensions as well
-                            continue;
-                        }
-                        Object currValue = this.table.getValueAt(i, j);
-                        boolean isSame = false;
-                        if (oldValue == null) {
-                            isSame = (currValue == null);
-                        } else {
-                            isSame = oldValue.equals(currValue);
-                        }
-                        if (isSame) {
-                            // start fading out
-                            if (!enforceNoAnimations) {
-                                // System.out
-                                // .println("Getting selection/out tracker for "
-                                // + cellId);
-                                StateTransitionTracker tracker = getTracker(cellId,
-                                        getCellState(cellId)
-                                                .isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
-                                        true);
-                                tracker.getModel().setSelected(false);
-                                // System.out
-                                // .println("Unselecting previously selected "
-                                // + i + ":" + j);
-
-                                initiatedTrackers.add(tracker);
-                                if (initiatedTrackers.size() > 20) {
-                                    stateTransitionMultiTracker.clear();
-                                    initiatedTrackers.clear();
-                                    enforceNoAnimations = true;
-                                }
-                            }
-                        }
-                        this.selectedIndices.remove(cellId);
+                    if (isSelected) {
+                        this.customSelectedCells.add(new TableCellId(i, j));
+                    } else {
+                        this.customSelectedCells.remove(this.getId(i, j));
+                    }
+                    enforceNoAnimations = this.startCellSelectionTransition(i, j, isSelected,
+                            initiatedTrackers, enforceNoAnimations);
+                }
+            }
+        } else {
+            // A cell can only change its selection state if its row or its column has changed
+            for (int i = changedRows.nextSetBit(0); i >= 0; i = changedRows.nextSetBit(i + 1)) {
+                for (int j = 0; j < cols; j++) {
+                    enforceNoAnimations = this.syncCellSelection(i, j, changedRows, changedColumns,
+                            initiatedTrackers, enforceNoAnimations);
+                }
+            }
+            for (int j = changedColumns.nextSetBit(0); j >= 0; j = changedColumns.nextSetBit(j + 1)) {
+                for (int i = 0; i < rows; i++) {
+                    if (changedRows.get(i)) {
+                        // already handled in the loop above
+                        continue;
                     }
+                    enforceNoAnimations = this.syncCellSelection(i, j, changedRows, changedColumns,
+                            initiatedTrackers, enforceNoAnimations);
                 }
+            }
+        }
 
-                // handle focus animations
-                boolean cellHasFocus = isFocusOwner && (i == rowLeadIndex) && (j == colLeadIndex);
-                if (cellHasFocus) {
-                    // check if it's a different cell
-                    if ((this.focusedCellId == null) || !this.focusedCellId.equals(cellId)) {
-                        if (!enforceNoAnimations) {
-                            if (this.focusedCellId != null) {
-                                // fade out the previous focus holder
-
-                                ComponentState cellState = getCellState(this.focusedCellId);
-                                // System.out.println("Getting focus/out tracker for "
-                                // + cellId);
-                                StateTransitionTracker tracker = getTracker(this.focusedCellId,
-                                        cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
-                                        cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.SELECTION));
-                                tracker.setFocusState(false);
-                            }
+        // handle focus animations
+        boolean hasFocusedCell = isFocusOwner && (rowLeadIndex >= 0) && (rowLeadIndex < rows)
+                && (colLeadIndex >= 0) && (colLeadIndex < cols);
+        boolean wasFocusedCellInTable = (this.focusedCellId != null)
+                && (this.focusedCellId.row < rows) && (this.focusedCellId.column < cols);
+        if (hasFocusedCell) {
+            // check if it's a different cell
+            if (!this.isFocusedCell(rowLeadIndex, colLeadIndex)) {
+                TableCellId cellId = new TableCellId(rowLeadIndex, colLeadIndex);
+                if (!enforceNoAnimations) {
+                    if (this.focusedCellId != null) {
+                        // fade out the previous focus holder
+                        ComponentState cellState = getCellState(this.focusedCellId);
+                        StateTransitionTracker tracker = getTracker(this.focusedCellId,
+                                cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
+                                cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.SELECTION));
+                        tracker.setFocusState(false);
+                    }
 
-                            // fade in the current cell (new focus holder)
-                            ComponentState cellState = getCellState(cellId);
+                    // fade in the current cell (new focus holder)
+                    ComponentState cellState = getCellState(cellId);
+                    StateTransitionTracker tracker = getTracker(cellId,
+                            cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
+                            cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.SELECTION));
+                    tracker.setFocusState(true);
+                }
 
-                            // System.out.println("Getting focus/in tracker for "
-                            // + currId);
-                            StateTransitionTracker tracker = getTracker(cellId,
-                                    cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
-                                    cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.SELECTION));
-                            tracker.setFocusState(true);
-                        }
+                if (AnimationConfigurationManager.getInstance()
+                        .isAnimationAllowed(RadianceThemingSlices.AnimationFacet.FOCUS, this.table)) {
+                    // and store it for future checks
+                    this.focusedCellId = cellId;
+                } else if (wasFocusedCellInTable) {
+                    this.focusedCellId = null;
+                }
+            }
+        } else if (wasFocusedCellInTable) {
+            // the cell that previously held focus no longer has it
+            if (!enforceNoAnimations) {
+                // fade it out
+                ComponentState cellState = getCellState(this.focusedCellId);
+                StateTransitionTracker tracker = getTracker(this.focusedCellId,
+                        cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
+                        cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.SELECTION));
+                tracker.setFocusState(false);
+            }
 
-                        if (AnimationConfigurationManager.getInstance()
-                                .isAnimationAllowed(RadianceThemingSlices.AnimationFacet.FOCUS, this.table)) {
-                            // and store it for future checks
-                            this.focusedCellId = new TableCellId(i, j);
-                        }
-                    }
+            this.focusedCellId = null;
+        }
+    }
+
+    /**
+     * Synchronizes the selection state of a single cell that is in a changed row or a changed
+     * column.
+     *
+     * @return The new value of <code>enforceNoAnimations</code>.
+     */
+    private boolean syncCellSelection(int row, int column, BitSet changedRows,
+            BitSet changedColumns, Set<StateTransitionTracker> initiatedTrackers,
+            boolean enforceNoAnimations) {
+        boolean isRowSelected = this.selectedRows.get(row);
+        boolean isColumnSelected = this.selectedColumns.get(column);
+        boolean isSelected = this.isCellSelected(isRowSelected, isColumnSelected);
+        boolean wasSelected = this.isCellSelected(isRowSelected != changedRows.get(row),
+                isColumnSelected != changedColumns.get(column));
+        if (isSelected == wasSelected) {
+            return enforceNoAnimations;
+        }
+
+        return this.startCellSelectionTransition(row, column, isSelected, initiatedTrackers,
+                enforceNoAnimations);
+    }
+
+    /**
+     * Starts the selection transition of a single cell that has changed its selection state.
+     *
+     * @return The new value of <code>enforceNoAnimations</code>.
+     */
+    private boolean startCellSelectionTransition(int row, int column, boolean isSelected,
+            Set<StateTransitionTracker> initiatedTrackers, boolean enforceNoAnimations) {
+        TableCellId cellId = new TableCellId(row, column);
+        if (isSelected) {
+            // start fading in
+            if (!enforceNoAnimations) {
+                StateTransitionTracker tracker = getTracker(cellId, getCellState(cellId)
+                        .isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER), false);
+                tracker.getModel().setSelected(true);
+                this.animatedSelectionValues.put(cellId, this.table.getValueAt(row, column));
+                initiatedTrackers.add(tracker);
+                if (initiatedTrackers.size() > 20) {
+                    stateTransitionMultiTracker.clear();
+                    initiatedTrackers.clear();
+                    enforceNoAnimations = true;
+                }
+            }
+        } else {
+            // check that the cell still points to the same element
+            boolean isSame = true;
+            if (this.animatedSelectionValues.containsKey(cellId)) {
+                Object oldValue = this.animatedSelectionValues.remove(cellId);
+                if ((row >= this.table.getModel().getRowCount())
+                        || (column >= this.table.getModel().getColumnCount())) {
+                    // not only the content changed, but the model
+                    // dimensions as well
+                    isSame = false;
                 } else {
-                    // check if previously it held focus
-                    if (cellId.equals(this.focusedCellId)) {
-                        if (!enforceNoAnimations) {
-                            // fade it out
-                            ComponentState cellState = getCellState(cellId);
-                            // System.out.println("Getting focus/out tracker for "
-                            // + cellId);
-                            StateTransitionTracker tracker = getTracker(cellId,
-                                    cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
-                                    cellState.isFacetActive(RadianceThemingSlices.ComponentStateFacet.SELECTION));
-                            tracker.setFocusState(false);
-                        }
+                    isSame = Objects.equals(oldValue, this.table.getValueAt(row, column));
+                }
+            }
+            if (isSame && !enforceNoAnimations) {
+                // start fading out
+                StateTransitionTracker tracker = getTracker(cellId, getCellState(cellId)
+                                .isFacetActive(RadianceThemingSlices.ComponentStateFacet.ROLLOVER),
+                        true);
+                tracker.getModel().setSelected(false);
 
-                        this.focusedCellId = null;
-                    }
+                initiatedTrackers.add(tracker);
+                if (initiatedTrackers.size() > 20) {
+                    stateTransitionMultiTracker.clear();
+                    initiatedTrackers.clear();
+                    enforceNoAnimations = true;
                 }
             }
         }
+        return enforceNoAnimations;
+    }
+
+    /**
+     * Updates the specified selection bits from the selection model.
+     *
+     * @param selectionModel Selection model.
+     * @param selection      Selection bits to update.
+     * @param from           First index to update.
+     * @param to             Last index to update (inclusive).
+     * @return The indices that have changed their selection state.
+     */
+    private static BitSet syncSelectionBits(ListSelectionModel selectionModel, BitSet selection,
+            int from, int to) {
+        BitSet changed = new BitSet();
+        for (int i = from; i <= to; i++) {
+            boolean isSelected = selectionModel.isSelectedIndex(i);
+            if (isSelected != selection.get(i)) {
+                selection.set(i, isSelected);
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Checks whether a cell is selected given the selection state of its row and its column.
+     * This follows the logic of {@link JTable#isCellSelected(int, int)}.
+     *
+     * @param isRowSelected    Selection state of the cell row.
+     * @param isColumnSelected Selection state of the cell column.
+     * @return <code>true</code> if the cell is selected, <code>false</code> otherwise.
+     */
+    private boolean isCellSelected(boolean isRowSelected, boolean isColumnSelected) {
+        boolean isRowSelectionAllowed = this.table.getRowSelectionAllowed();
+        boolean isColumnSelectionAllowed = this.table.getColumnSelectionAllowed();
+        if (!isRowSelectionAllowed && !isColumnSelectionAllowed) {
+            return false;
+        }
+        return (!isRowSelectionAllowed || isRowSelected)
+                && (!isColumnSelectionAllowed || isColumnSelected);
+    }
+
+    /**
+     * Returns the selection state of the specified cell as of the last selection sync.
+     *
+     * @param row    Row index.
+     * @param column Column index.
+     * @return <code>true</code> if the cell was selected as of the last selection sync.
+     */
+    private boolean isTrackedCellSelected(int row, int column) {
+        if (this.hasCustomCellSelection) {
+            if (this.isCustomSelectionStale) {
+                return this.table.isCellSelected(row, column);
+            }
+            return this.customSelectedCells.contains(this.getId(row, column));
+        }
+        return this.isCellSelected(this.selectedRows.get(row), this.selectedColumns.get(column));
+    }
+
+    /**
+     * Checks whether the class of the specified table overrides
+     * {@link JTable#isCellSelected(int, int)}.
+     *
+     * @param table Table.
+     * @return <code>true</code> if the table class overrides the cell selection logic.
+     */
+    private static boolean hasCustomCellSelection(JTable table) {
+        try {
+            return table.getClass().getMethod("isCellSelected", int.class, int.class)
+                    .getDeclaringClass() != JTable.class;
+        } catch (NoSuchMethodException exc) {
+            return true;
+        }
+    }
+
+    /**
+     * Clears the tracked selected cells.
+     */
+    private void clearSelectedCells() {
+        this.selectedRows.clear();
+        this.selectedColumns.clear();
+        this.customSelectedCells.clear();
+        this.isCustomSelectionStale = this.hasCustomCellSelection;
+        this.animatedSelectionValues.clear();
     }
 
     /**
@@ -1957,12 +2155,21 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
      * @return The current state for the specified cell.
      */
     public ComponentState getCellState(TableCellId cellIndex) {
+        return this.getCellState(cellIndex.row, cellIndex.column);
+    }
+
+    /**
+     * Returns the current state for the specified cell.
+     *
+     * @param row    Cell row.
+     * @param column Cell column.
+     * @return The current state for the specified cell.
+     */
+    public ComponentState getCellState(int row, int column) {
         boolean isEnabled = this.table.isEnabled();
 
-        StateTransitionTracker tracker = this.stateTransitionMultiTracker.getTracker(cellIndex);
+        StateTransitionTracker tracker = this.stateTransitionMultiTracker.getTracker(row, column);
         if (tracker == null) {
-            int row = cellIndex.row;
-            int column = cellIndex.column;
             TableCellId cellId = this.getId(row, column);
 
             boolean isRollover = false;
@@ -1984,7 +2191,7 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
                     : this._hasSelectionAnimations();
             if (hasSelectionAnimations && AnimationConfigurationManager.getInstance()
                     .isAnimationAllowed(RadianceThemingSlices.AnimationFacet.SELECTION, table))
-                isSelected = this.selectedIndices.containsKey(cellId);
+                isSelected = this.isTrackedCellSelected(row, column);
             else {
                 isSelected = this.table.isCellSelected(row, column);
             }
@@ -2004,9 +2211,20 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
      * @return The current state for the specified cell.
      */
     public StateTransitionTracker.ModelStateInfo getModelStateInfo(TableCellId cellId) {
+        return this.getModelStateInfo(cellId.row, cellId.column);
+    }
+
+    /**
+     * Returns the current model state info for the specified cell.
+     *
+     * @param row    Cell row.
+     * @param column Cell column.
+     * @return The current model state info for the specified cell.
+     */
+    public StateTransitionTracker.ModelStateInfo getModelStateInfo(int row, int column) {
         if (this.stateTransitionMultiTracker.size() == 0)
             return null;
-        StateTransitionTracker tracker = this.stateTransitionMultiTracker.getTracker(cellId);
+        StateTransitionTracker tracker = this.stateTransitionMultiTracker.getTracker(row, column);
         if (tracker == null) {
             return null;
         } else {
@@ -2159,7 +2377,8 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
 
     private StateTransitionTracker getTracker(final TableCellId tableCellId,
             boolean initialRollover, boolean initialSelected) {
-        StateTransitionTracker tracker = stateTransitionMultiTracker.getTracker(tableCellId);
+        StateTransitionTracker tracker = stateTransitionMultiTracker.getTracker(tableCellId.row,
+                tableCellId.column);
         // System.out.println("TableID " + tableCellId + " has tracker "
         // + ((tracker == null) ? "null" : ("@" + tracker.hashCode())));
         if (tracker == null) {
@@ -2174,12 +2393,16 @@ public class RadianceTableUI extends BasicTableUI implements UpdateOptimizationA
             // System.out.println("TableID " + tableCellId +
             // " has new tracker @"
             // + tracker.hashCode());
-            stateTransitionMultiTracker.addTracker(tableCellId, tracker);
+            stateTransitionMultiTracker.addTracker(tableCellId.row, tableCellId.column, tracker);
         }
         return tracker;
     }
 
     public StateTransitionTracker getStateTransitionTracker(TableCellId tableId) {
-        return this.stateTransitionMultiTracker.getTracker(tableId);
+        return this.stateTransitionMultiTracker.getTracker(tableId.row, tableId.column);
+    }
+
+    public StateTransitionTracker getStateTransitionTracker(int row, int column) {
+        return this.stateTransitionMultiTracker.getTracker(row, column);
     }
 }
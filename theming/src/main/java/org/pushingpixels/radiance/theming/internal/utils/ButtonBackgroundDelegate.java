@@ -38,6 +38,7 @@ import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
 import org.pushingpixels.radiance.theming.api.painter.border.RadianceBorderPainter;
 import org.pushingpixels.radiance.theming.api.painter.fill.RadianceFillPainter;
 import org.pushingpixels.radiance.theming.api.shaper.RadianceButtonShaper;
+import org.pushingpixels.radiance.theming.api.shaper.RectangularButtonShaper;
 import org.pushingpixels.radiance.theming.internal.RadianceSynapse;
 import org.pushingpixels.radiance.theming.internal.animation.ModificationAwareUI;
 import org.pushingpixels.radiance.theming.internal.animation.StateTransitionTracker;
@@ -47,7 +48,9 @@ import org.pushingpixels.radiance.theming.internal.blade.BladeUtils;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -57,6 +60,112 @@ import java.util.Set;
  * @author Kirill Grouchnikov
  */
 public class ButtonBackgroundDelegate {
+    /**
+     * Maximum total size (in bytes) of the cached button backgrounds.
+     */
+    private static final int MAX_BACKGROUND_CACHE_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Cache of rendered backgrounds of buttons that are not in the middle of a state transition.
+     * Is only used when enabled with
+     * {@link org.pushingpixels.radiance.theming.api.RadianceThemingCortex.GlobalScope#setButtonBackgroundCacheEnabled(Boolean)}.
+     */
+    private static final LazyResettableHashMap<BufferedImage> backgroundCache =
+            new LazyResettableHashMap<>("ButtonBackgroundDelegate", MAX_BACKGROUND_CACHE_BYTES,
+                    image -> 4 * image.getWidth() * image.getHeight());
+
+    /**
+     * Key of the background cache. Contains everything that the rendered background depends on
+     * for rectangular button shapers.
+     */
+    private static final class BackgroundKey extends LazyResettableHashMap.Key {
+        private final Object shaper;
+        private final Object fillPainter;
+        private final Object borderPainter;
+        private final Object fillScheme;
+        private final Object borderScheme;
+        private final Class<?> buttonClass;
+        private final Set<RadianceThemingSlices.Side> openSides;
+        private final Set<RadianceThemingSlices.Side> straightSides;
+        private final float cornerRadius;
+        private final float fillCornerRadius;
+        private final float innerCornerRadius;
+        private final double scale;
+        private final int width;
+        private final int height;
+        private final boolean isLeftToRight;
+        private final boolean isContentAreaFilled;
+        private final boolean isBorderPainted;
+        private final int hashCode;
+
+        private BackgroundKey(AbstractButton button, RadianceButtonShaper shaper,
+                RadianceFillPainter fillPainter, RadianceBorderPainter borderPainter,
+                RadianceColorScheme fillScheme, RadianceColorScheme borderScheme,
+                Set<RadianceThemingSlices.Side> openSides, double scale, int width, int height,
+                boolean isContentAreaFilled, boolean isBorderPainted) {
+            RectangularButtonShaper rectangularShaper = (RectangularButtonShaper) shaper;
+            this.shaper = shaper;
+            this.fillPainter = fillPainter;
+            this.borderPainter = borderPainter;
+            this.fillScheme = fillScheme;
+            this.borderScheme = borderScheme;
+            this.buttonClass = button.getClass();
+            this.openSides = openSides;
+            this.straightSides = RadianceCoreUtilities.getSides(button,
+                    RadianceSynapse.BUTTON_STRAIGHT_SIDE);
+            this.cornerRadius = rectangularShaper.getCornerRadius(button, 0.0f);
+            this.fillCornerRadius = rectangularShaper.getCornerRadius(button, 0.5f);
+            this.innerCornerRadius = rectangularShaper.getCornerRadius(button, 1.0f);
+            this.scale = scale;
+            this.width = width;
+            this.height = height;
+            this.isLeftToRight = button.getComponentOrientation().isLeftToRight();
+            this.isContentAreaFilled = isContentAreaFilled;
+            this.isBorderPainted = isBorderPainted;
+
+            int result = System.identityHashCode(shaper);
+            result = 31 * result + System.identityHashCode(fillPainter);
+            result = 31 * result + System.identityHashCode(borderPainter);
+            result = 31 * result + System.identityHashCode(fillScheme);
+            result = 31 * result + System.identityHashCode(borderScheme);
+            result = 31 * result + Objects.hashCode(this.openSides);
+            result = 31 * result + Objects.hashCode(this.straightSides);
+            result = 31 * result + Float.hashCode(this.cornerRadius);
+            result = 31 * result + Double.hashCode(scale);
+            result = 31 * result + width;
+            result = 31 * result + height;
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof BackgroundKey)) {
+                return false;
+            }
+            BackgroundKey key2 = (BackgroundKey) obj;
+            return (this.hashCode == key2.hashCode) && (this.width == key2.width)
+                    && (this.height == key2.height) && (this.scale == key2.scale)
+                    && (this.shaper == key2.shaper) && (this.fillPainter == key2.fillPainter)
+                    && (this.borderPainter == key2.borderPainter)
+                    && (this.fillScheme == key2.fillScheme)
+                    && (this.borderScheme == key2.borderScheme)
+                    && (this.buttonClass == key2.buttonClass)
+                    && (this.cornerRadius == key2.cornerRadius)
+                    && (this.fillCornerRadius == key2.fillCornerRadius)
+                    && (this.innerCornerRadius == key2.innerCornerRadius)
+                    && (this.isLeftToRight == key2.isLeftToRight)
+                    && (this.isContentAreaFilled == key2.isContentAreaFilled)
+                    && (this.isBorderPainted == key2.isBorderPainted)
+                    && Objects.equals(this.openSides, key2.openSides)
+                    && Objects.equals(this.straightSides, key2.straightSides);
+        }
+    }
+
     private BladeColorScheme mutableFillColorScheme = new BladeColorScheme();
     private BladeColorScheme mutableBorderColorScheme = new BladeColorScheme();
 
@@ -94,6 +203,22 @@ public class ButtonBackgroundDelegate {
             }
         }
 
+        // A button that is not in the middle of a state transition is painted with the
+        // color schemes of its current state. Its background can be rendered once and
+        // reused for all buttons that look the same.
+        if ((shaper instanceof RectangularButtonShaper)
+                && (currState.isDisabled() || (modelStateInfo.getStateContributionMap().size() <= 1))
+                && Boolean.TRUE.equals(UIManager.get(RadianceSynapse.BUTTON_BACKGROUND_CACHE))) {
+            RadianceColorScheme fillScheme = RadianceColorSchemeUtilities.getColorScheme(button,
+                    RadianceThemingSlices.ColorSchemeAssociationKind.FILL, currState);
+            RadianceColorScheme borderScheme = RadianceColorSchemeUtilities.getColorScheme(button,
+                    RadianceThemingSlices.ColorSchemeAssociationKind.BORDER, currState);
+            drawCachedBackground(graphics, button, shaper, fillPainter, borderPainter, width,
+                    height, fillScheme, borderScheme, openSides, isContentAreaFilled,
+                    isBorderPainted);
+            return;
+        }
+
         // Populate fill and border color schemes based on the current transition state of the button.
         // Important - don't do it on pulsating buttons (such as close button of modified frames).
         BladeUtils.populateColorScheme(mutableFillColorScheme, button,
@@ -111,6 +236,31 @@ public class ButtonBackgroundDelegate {
 
     }
 
+    private void drawCachedBackground(Graphics2D graphics, AbstractButton button,
+            RadianceButtonShaper shaper, RadianceFillPainter fillPainter,
+            RadianceBorderPainter borderPainter, int width, int height,
+            RadianceColorScheme fillScheme, RadianceColorScheme borderScheme,
+            Set<RadianceThemingSlices.Side> openSides, boolean isContentAreaFilled, boolean isBorderPainted) {
+        if ((width <= 0) || (height <= 0)) {
+            return;
+        }
+
+        double scale = RadianceCommonCortex.getScaleFactor(button);
+        BackgroundKey key = new BackgroundKey(button, shaper, fillPainter, borderPainter,
+                fillScheme, borderScheme, openSides, scale, width, height,
+                isContentAreaFilled, isBorderPainted);
+        BufferedImage background = backgroundCache.get(key, () -> {
+            BufferedImage result = RadianceCoreUtilities.getBlankImage(scale, width, height);
+            Graphics2D resultGraphics = result.createGraphics();
+            drawBackground(resultGraphics, button, shaper, fillPainter, borderPainter, width,
+                    height, fillScheme, borderScheme, openSides, isContentAreaFilled,
+                    isBorderPainted);
+            resultGraphics.dispose();
+            return result;
+        });
+        RadianceCommonCortex.drawImageWithScale(graphics, scale, background, 0, 0);
+    }
+
     private void drawBackground(Graphics2D g, AbstractButton button,
             RadianceButtonShaper shaper, RadianceFillPainter fillPainter,
             RadianceBorderPainter borderPainter, int width, int height,
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.theming.internal.utils;
+
+import java.util.Objects;
+
+/**
+ * Fixed-arity key for the {@link LazyResettableHashMap} and other caches. A key has up to three
+ * object components and up to four numeric components. Numeric components are kept as the raw
+ * bits of their <code>double</code> value, so that creating a key does not allocate a varargs
+ * array or box the numeric values. The hash code is computed once when the key is created.
+ *
+ * @author Kirill Grouchnikov
+ */
+public final class CacheKey extends LazyResettableHashMap.Key {
+    private final Object object1;
+
+    private final Object object2;
+
+    private final Object object3;
+
+    private final long number1;
+
+    private final long number2;
+
+    private final long number3;
+
+    private final long number4;
+
+    private final int hashCode;
+
+    private CacheKey(Object object1, Object object2, Object object3,
+            double number1, double number2, double number3, double number4) {
+        this.object1 = object1;
+        this.object2 = object2;
+        this.object3 = object3;
+        this.number1 = Double.doubleToLongBits(number1);
+        this.number2 = Double.doubleToLongBits(number2);
+        this.number3 = Double.doubleToLongBits(number3);
+        this.number4 = Double.doubleToLongBits(number4);
+
+        int result = Objects.hashCode(object1);
+        result = 31 * result + Objects.hashCode(object2);
+        result = 31 * result + Objects.hashCode(object3);
+        result = 31 * result + Long.hashCode(this.number1);
+        result = 31 * result + Long.hashCode(this.number2);
+        result = 31 * result + Long.hashCode(this.number3);
+        result = 31 * result + Long.hashCode(this.number4);
+        this.hashCode = result;
+    }
+
+    public static CacheKey of(Object object1, double number1) {
+        return new CacheKey(object1, null, null, number1, 0, 0, 0);
+    }
+
+    public static CacheKey of(Object object1, double number1, double number2) {
+        return new CacheKey(object1, null, null, number1, number2, 0, 0);
+    }
+
+    public static CacheKey of(Object object1, double number1, double number2, double number3) {
+        return new CacheKey(object1, null, null, number1, number2, number3, 0);
+    }
+
+    public static CacheKey of(Object object1, double number1, double number2, double number3,
+            double number4) {
+        return new CacheKey(object1, null, null, number1, number2, number3, number4);
+    }
+
+    public static CacheKey of(Object object1, Object object2, Object object3) {
+        return new CacheKey(object1, object2, object3, 0, 0, 0, 0);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheKey)) {
+            return false;
+        }
+        CacheKey key2 = (CacheKey) obj;
+        return (this.hashCode == key2.hashCode)
+                && (this.number1 == key2.number1) && (this.number2 == key2.number2)
+                && (this.number3 == key2.number3) && (this.number4 == key2.number4)
+                && Objects.equals(this.object1, key2.object1)
+                && Objects.equals(this.object2, key2.object2)
+                && Objects.equals(this.object3, key2.object3);
+    }
+}
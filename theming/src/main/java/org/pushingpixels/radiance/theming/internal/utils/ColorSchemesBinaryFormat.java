@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.theming.internal.utils;
+
+import java.awt.*;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Precompiled binary form of <code>.colorschemes</code> resources. The binary form stores
+ * fully resolved scheme definitions (with all <code>@colors</code> references and background
+ * interpolations already applied), so that loading it at runtime does not involve any text
+ * parsing or color decoding. This class is for internal use only.
+ *
+ * <p>The {@link #main(String[])} entry point is used by the optional build step that compiles
+ * all <code>.colorschemes</code> resources under a folder into sibling files with the
+ * {@link #EXTENSION} suffix.</p>
+ *
+ * @author Kirill Grouchnikov
+ */
+public class ColorSchemesBinaryFormat {
+    /**
+     * Suffix appended to the name of the text resource to get the name of the matching
+     * precompiled resource.
+     */
+    public static final String EXTENSION = ".bin";
+
+    /**
+     * Magic header of the binary form. Text resources can never start with these bytes.
+     */
+    private static final byte[] MAGIC = { (byte) 0xCA, (byte) 0xFE, 'R', 'C' };
+
+    /**
+     * Version of the binary form.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Fully resolved definition of a single color scheme.
+     */
+    public static class SchemeDefinition {
+        public final String name;
+        public final boolean isDark;
+        public final Color[] colors;
+        public final Map<String, Color> additionalColors;
+
+        public SchemeDefinition(String name, boolean isDark, Color[] colors,
+                Map<String, Color> additionalColors) {
+            this.name = name;
+            this.isDark = isDark;
+            this.colors = colors;
+            this.additionalColors = additionalColors;
+        }
+    }
+
+    /**
+     * Checks whether the specified stream contains the binary form. The stream must support
+     * marking, and its position is not changed by this method.
+     *
+     * @param inputStream Input stream that supports marking.
+     * @return <code>true</code> if the stream contents start with the binary form header.
+     */
+    public static boolean isBinary(InputStream inputStream) {
+        try {
+            inputStream.mark(MAGIC.length);
+            try {
+                for (byte magicByte : MAGIC) {
+                    if (inputStream.read() != (magicByte & 0xFF)) {
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                inputStream.reset();
+            }
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe);
+        }
+    }
+
+    /**
+     * Writes the specified scheme definitions in the binary form.
+     *
+     * @param definitions  Scheme definitions.
+     * @param outputStream Output stream.
+     * @throws IOException If the output stream cannot be written to.
+     */
+    public static void write(List<SchemeDefinition> definitions, OutputStream outputStream)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(definitions.size());
+        for (SchemeDefinition definition : definitions) {
+            out.writeUTF(definition.name);
+            out.writeBoolean(definition.isDark);
+            for (Color color : definition.colors) {
+                out.writeInt(color.getRGB());
+            }
+            out.writeInt(definition.additionalColors.size());
+            // Sort the additional colors for reproducible output
+            for (Map.Entry<String, Color> entry : new TreeMap<>(definition.additionalColors).entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().getRGB());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads scheme definitions from the binary form.
+     *
+     * @param inputStream Input stream positioned at the start of the binary form.
+     * @return Scheme definitions.
+     */
+    public static List<SchemeDefinition> read(InputStream inputStream) {
+        try (DataInputStream in = new DataInputStream(inputStream)) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalArgumentException("Not a compiled color schemes resource");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported compiled color schemes version " + version);
+            }
+            int count = in.readInt();
+            List<SchemeDefinition> definitions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                boolean isDark = in.readBoolean();
+                Color[] colors = new Color[7];
+                for (int j = 0; j < colors.length; j++) {
+                    colors[j] = new Color(in.readInt(), true);
+                }
+                int additionalCount = in.readInt();
+                Map<String, Color> additionalColors = new HashMap<>();
+                for (int j = 0; j < additionalCount; j++) {
+                    String key = in.readUTF();
+                    additionalColors.put(key, new Color(in.readInt(), true));
+                }
+                definitions.add(new SchemeDefinition(name, isDark, colors, additionalColors));
+            }
+            return definitions;
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe);
+        }
+    }
+
+    /**
+     * Compiles all <code>.colorschemes</code> files under the input folder into the binary
+     * form, preserving the relative folder structure under the output folder.
+     *
+     * @param args Input folder and output folder.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: ColorSchemesBinaryFormat inputFolder outputFolder");
+            return;
+        }
+        Path inputFolder = Paths.get(args[0]);
+        Path outputFolder = Paths.get(args[1]);
+        if (!Files.isDirectory(inputFolder)) {
+            return;
+        }
+
+        List<Path> sources;
+        try (Stream<Path> paths = Files.walk(inputFolder)) {
+            sources = paths.filter(path -> path.toString().endsWith(".colorschemes"))
+                    .collect(Collectors.toList());
+        }
+        for (Path source : sources) {
+            List<SchemeDefinition> definitions;
+            try (InputStream in = Files.newInputStream(source)) {
+                definitions = RadianceColorSchemeUtilities.getColorSchemeDefinitions(in);
+            }
+            Path target = outputFolder.resolve(
+                    inputFolder.relativize(source).toString() + EXTENSION);
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(target)) {
+                write(definitions, out);
+            }
+            System.out.println("Compiled " + source + " (" + definitions.size() + " schemes)");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.theming.internal.utils;
+
+import org.pushingpixels.radiance.theming.api.ComponentState;
+
+import java.util.*;
+
+/**
+ * Map keyed by {@link ComponentState}s. Lookups index directly into an array by
+ * {@link ComponentState#getOrdinal()} instead of hashing the key. Supports <code>null</code>
+ * values. Iteration order is the order of state ordinals.
+ *
+ * @param <V> Class for the stored values.
+ * @author Kirill Grouchnikov
+ */
+public final class ComponentStateMap<V> extends AbstractMap<ComponentState, V> {
+    private static final class Slot<V> implements Map.Entry<ComponentState, V> {
+        private final ComponentState key;
+        private V value;
+
+        private Slot(ComponentState key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public ComponentState getKey() {
+            return this.key;
+        }
+
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return this.key.equals(other.getKey())
+                    && Objects.equals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.key.hashCode() ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private Slot<V>[] slots;
+
+    private int size;
+
+    private transient EntrySet entrySet;
+
+    /**
+     * Creates a new empty map.
+     */
+    public ComponentStateMap() {
+        this.slots = newSlots(8);
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new map with the same mappings as the specified map.
+     *
+     * @param map Map to copy.
+     */
+    public ComponentStateMap(Map<ComponentState, ? extends V> map) {
+        this();
+        this.putAll(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Slot<V>[] newSlots(int length) {
+        return (Slot<V>[]) new Slot<?>[length];
+    }
+
+    private Slot<V> slotFor(Object key) {
+        if (!(key instanceof ComponentState)) {
+            return null;
+        }
+        int ordinal = ((ComponentState) key).getOrdinal();
+        return (ordinal < this.slots.length) ? this.slots[ordinal] : null;
+    }
+
+    @Override
+    public V get(Object key) {
+        Slot<V> slot = this.slotFor(key);
+        return (slot != null) ? slot.value : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.slotFor(key) != null;
+    }
+
+    @Override
+    public V put(ComponentState key, V value) {
+        int ordinal = key.getOrdinal();
+        if (ordinal >= this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, Math.max(ordinal + 1, 2 * this.slots.length));
+        }
+        Slot<V> slot = this.slots[ordinal];
+        if (slot != null) {
+            return slot.setValue(value);
+        }
+        this.slots[ordinal] = new Slot<>(key, value);
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Slot<V> slot = this.slotFor(key);
+        if (slot == null) {
+            return null;
+        }
+        this.slots[slot.key.getOrdinal()] = null;
+        this.size--;
+        return slot.value;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.slots, null);
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Set<Map.Entry<ComponentState, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<ComponentState, V>> {
+        @Override
+        public Iterator<Map.Entry<ComponentState, V>> iterator() {
+            return new Iterator<Map.Entry<ComponentState, V>>() {
+                private int next = advance(0);
+                private int last = -1;
+
+                private int advance(int from) {
+                    Slot<V>[] slots = ComponentStateMap.this.slots;
+                    while ((from < slots.length) && (slots[from] == null)) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < ComponentStateMap.this.slots.length;
+                }
+
+                @Override
+                public Map.Entry<ComponentState, V> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    this.last = this.next;
+                    this.next = this.advance(this.next + 1);
+                    return ComponentStateMap.this.slots[this.last];
+                }
+
+                @Override
+                public void remove() {
+                    if (this.last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    ComponentStateMap.this.slots[this.last] = null;
+                    ComponentStateMap.this.size--;
+                    this.last = -1;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ComponentStateMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            ComponentStateMap.this.clear();
+        }
+    }
+}
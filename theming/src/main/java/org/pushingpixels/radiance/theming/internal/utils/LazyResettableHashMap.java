@@ -29,54 +29,211 @@
  */
 package org.pushingpixels.radiance.theming.internal.utils;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
- * Lazily initialized hash map for caching images.
+ * Bounded cache for images, shapes, color schemes and other objects that are expensive to
+ * compute. The entries are evicted in segmented LRU order once the total weight of the entries
+ * exceeds the maximum weight of the cache. By default, every entry has the weight of 1, so that
+ * the maximum weight is the maximum number of entries.
+ *
+ * <p>Lookups do not lock. A lookup only marks the entry as recently used, and the entries are
+ * reordered under a lock when new entries are added. New entries start in the probation segment.
+ * Entries that have been used since they were added are moved to the protected segment when they
+ * reach the eviction end of the probation segment, instead of being evicted.</p>
+ *
+ * <p>Each cache counts hits, misses, evictions and the time spent in loading the values passed to
+ * {@link #get(Key, Supplier)}. These are reported by {@link #getStats()}, and exposed through JMX
+ * after {@link #registerMBeans()} is called.</p>
  *
  * @param <T> Class for the stored values.
  * @author Kirill Grouchnikov
  */
-public class LazyResettableHashMap<T> {
+public class LazyResettableHashMap<T> implements LazyResettableHashMapMXBean {
     public abstract static class Key {}
 
+    /**
+     * Default maximum weight of a cache.
+     */
+    public static final int DEFAULT_MAX_WEIGHT = 1000;
+
+    /**
+     * Percentage of the maximum weight that can be taken by the protected segment.
+     */
+    private static final int PROTECTED_PERCENTAGE = 80;
+
     /**
      * List of all existing maps.
      */
-    private static List<LazyResettableHashMap<?>> all;
+    private static final List<LazyResettableHashMap<?>> all = new CopyOnWriteArrayList<>();
+
+    /**
+     * If <code>true</code>, the caches are registered with the platform MBean server.
+     */
+    private static volatile boolean isRegisteringMBeans;
 
     /**
      * The delegate cache.
      */
-    private Map<Key, T> cache;
+    private final Map<Key, Node<T>> cache;
 
     /**
      * Display name of this hash map. Is used for tracking the statistics.
      */
-    private String displayName;
+    private final String displayName;
+
+    private final int maxWeight;
+
+    private final ToIntFunction<? super T> weigher;
 
     /**
-     * Creates a new hash map.
+     * Guards the segments and the total weight.
+     */
+    private final Object evictionLock = new Object();
+
+    private final NodeList<T> probation = new NodeList<>();
+
+    private final NodeList<T> protectedSegment = new NodeList<>();
+
+    private volatile long totalWeight;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    private static final class Node<T> {
+        private final Key key;
+
+        private final T value;
+
+        private final int weight;
+
+        /**
+         * Set on lookups and cleared when the entry is reordered.
+         */
+        private volatile boolean isReferenced;
+
+        private boolean isProtected;
+
+        private Node<T> prev;
+
+        private Node<T> next;
+
+        private Node(Key key, T value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class NodeList<T> {
+        private Node<T> head;
+
+        private Node<T> tail;
+
+        private long weight;
+
+        private void addLast(Node<T> node) {
+            node.prev = this.tail;
+            node.next = null;
+            if (this.tail == null) {
+                this.head = node;
+            } else {
+                this.tail.next = node;
+            }
+            this.tail = node;
+            this.weight += node.weight;
+        }
+
+        private void remove(Node<T> node) {
+            if (node.prev == null) {
+                this.head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                this.tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            this.weight -= node.weight;
+        }
+
+        private Node<T> pollFirst() {
+            Node<T> result = this.head;
+            if (result != null) {
+                this.remove(result);
+            }
+            return result;
+        }
+
+        private void clear() {
+            this.head = null;
+            this.tail = null;
+            this.weight = 0;
+        }
+    }
+
+    /**
+     * Creates a new hash map that holds up to {@link #DEFAULT_MAX_WEIGHT} entries.
      *
      * @param displayName Display name of the new hash map.
      */
     public LazyResettableHashMap(String displayName) {
-        this.displayName = displayName;
-        if (all == null) {
-            all = new LinkedList<>();
-        }
-        all.add(this);
+        this(displayName, DEFAULT_MAX_WEIGHT);
     }
 
     /**
-     * Creates the delegate cache if necessary.
+     * Creates a new hash map that holds up to the specified number of entries.
+     *
+     * @param displayName Display name of the new hash map.
+     * @param maxSize     Maximum number of entries.
      */
-    private void createIfNecessary() {
-        if (this.cache == null)
-            this.cache = new SoftHashMap<>();
+    public LazyResettableHashMap(String displayName, int maxSize) {
+        this(displayName, maxSize, value -> 1);
+    }
+
+    /**
+     * Creates a new hash map with weighted entries.
+     *
+     * @param displayName Display name of the new hash map.
+     * @param maxWeight   Maximum total weight of the entries.
+     * @param weigher     Computes the weight of a value. The weight of a value must not change
+     *                    while it is in the map.
+     */
+    public LazyResettableHashMap(String displayName, int maxWeight,
+            ToIntFunction<? super T> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.displayName = displayName;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.cache = new ConcurrentHashMap<>();
+        all.add(this);
+        if (isRegisteringMBeans) {
+            registerMBean(this);
+        }
     }
 
     /**
@@ -85,9 +242,17 @@ public class LazyResettableHashMap<T> {
      * @param key   Pair key.
      * @param entry Pair value.
      */
-    public synchronized void put(Key key, T entry) {
-        this.createIfNecessary();
-        this.cache.put(key, entry);
+    public void put(Key key, T entry) {
+        Node<T> node = new Node<>(key, entry, Math.max(0, this.weigher.applyAsInt(entry)));
+        synchronized (this.evictionLock) {
+            Node<T> old = this.cache.put(key, node);
+            if (old != null) {
+                this.unlink(old);
+            }
+            this.probation.addLast(node);
+            this.totalWeight += node.weight;
+            this.evictIfNecessary();
+        }
     }
 
     /**
@@ -96,10 +261,40 @@ public class LazyResettableHashMap<T> {
      * @param key Key.
      * @return Registered value or <code>null</code> if none.
      */
-    public synchronized T get(Key key) {
-        if (this.cache == null)
+    public T get(Key key) {
+        Node<T> node = this.cache.get(key);
+        if (node == null) {
+            this.missCount.increment();
             return null;
-        return this.cache.get(key);
+        }
+        if (!node.isReferenced) {
+            node.isReferenced = true;
+        }
+        this.hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * Returns the value registered for the specified key, loading and registering it if there is
+     * no such value. The time spent in the loader is tracked in the statistics of this map. Note
+     * that concurrent calls for the same missing key might run the loader more than once.
+     *
+     * @param key    Key.
+     * @param loader Loader for the value.
+     * @return Registered or loaded value.
+     */
+    public T get(Key key, Supplier<? extends T> loader) {
+        T result = this.get(key);
+        if (result == null) {
+            long start = System.nanoTime();
+            result = loader.get();
+            this.totalLoadTime.add(System.nanoTime() - start);
+            this.loadCount.increment();
+            if (result != null) {
+                this.put(key, result);
+            }
+        }
+        return result;
     }
 
     /**
@@ -110,9 +305,6 @@ public class LazyResettableHashMap<T> {
      * <code>false</code> otherwise.
      */
     public boolean containsKey(Key key) {
-        if (this.cache == null) {
-            return false;
-        }
         return this.cache.containsKey(key);
     }
 
@@ -122,22 +314,145 @@ public class LazyResettableHashMap<T> {
      * @return The number of key-value pairs of this hash map.
      */
     public int size() {
-        if (this.cache == null) {
-            return 0;
-        }
         return this.cache.size();
     }
 
+    private void unlink(Node<T> node) {
+        if (node.isProtected) {
+            this.protectedSegment.remove(node);
+        } else {
+            this.probation.remove(node);
+        }
+        this.totalWeight -= node.weight;
+    }
+
+    private void evictIfNecessary() {
+        long maxProtectedWeight = (long) this.maxWeight * PROTECTED_PERCENTAGE / 100;
+        // Bound the number of second chances in case other threads keep marking
+        // the entries as used while we are evicting
+        int secondChances = 2 * this.cache.size() + 1;
+        while (this.totalWeight > this.maxWeight) {
+            Node<T> victim = this.probation.pollFirst();
+            if (victim == null) {
+                victim = this.protectedSegment.pollFirst();
+                victim.isProtected = false;
+            } else if (victim.isReferenced && (secondChances-- > 0)) {
+                // The entry has been used since it was added or demoted - move it to
+                // the protected segment
+                victim.isReferenced = false;
+                victim.isProtected = true;
+                this.protectedSegment.addLast(victim);
+                while (this.protectedSegment.weight > maxProtectedWeight) {
+                    Node<T> demoted = this.protectedSegment.pollFirst();
+                    demoted.isProtected = false;
+                    this.probation.addLast(demoted);
+                }
+                continue;
+            }
+            this.cache.remove(victim.key, victim);
+            this.totalWeight -= victim.weight;
+            this.evictionCount.increment();
+        }
+    }
+
+    @Override
+    public String getDisplayName() {
+        return this.displayName;
+    }
+
+    @Override
+    public int getSize() {
+        return this.size();
+    }
+
+    @Override
+    public long getWeight() {
+        return this.totalWeight;
+    }
+
+    @Override
+    public long getMaxWeight() {
+        return this.maxWeight;
+    }
+
+    @Override
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hits = this.hitCount.sum();
+        long requests = hits + this.missCount.sum();
+        return (requests == 0) ? 1.0 : ((double) hits / requests);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return this.loadCount.sum();
+    }
+
+    @Override
+    public long getTotalLoadTimeNanos() {
+        return this.totalLoadTime.sum();
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this.evictionLock) {
+            this.cache.clear();
+            this.probation.clear();
+            this.protectedSegment.clear();
+            this.totalWeight = 0;
+        }
+    }
+
     /**
      * Resets all existing hash maps.
      */
     public static void reset() {
-        if (all != null) {
-            for (LazyResettableHashMap<?> map : all) {
-                if (map.cache != null) {
-                    map.cache.clear();
-                }
+        for (LazyResettableHashMap<?> map : all) {
+            map.clear();
+        }
+    }
+
+    /**
+     * Registers all existing and future hash maps with the platform MBean server.
+     */
+    public static synchronized void registerMBeans() {
+        if (isRegisteringMBeans) {
+            return;
+        }
+        isRegisteringMBeans = true;
+        for (LazyResettableHashMap<?> map : all) {
+            registerMBean(map);
+        }
+    }
+
+    private static void registerMBean(LazyResettableHashMap<?> map) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            // Display names are not unique, use the identity hash code to tell
+            // the maps apart
+            ObjectName name = new ObjectName("org.pushingpixels.radiance.theming:type=Cache,name="
+                    + ObjectName.quote(map.displayName) + ",id="
+                    + Integer.toHexString(System.identityHashCode(map)));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(map, name);
             }
+        } catch (JMException exc) {
+            // statistics are for diagnostics only
+            exc.printStackTrace();
         }
     }
 
@@ -147,30 +462,32 @@ public class LazyResettableHashMap<T> {
      * @return Statistical information of the existing hash maps.
      */
     public static List<String> getStats() {
-        if (all != null) {
-            List<String> result = new LinkedList<>();
-
-            Map<String, Integer> mapCounter = new TreeMap<>();
-            Map<String, Integer> entryCounter = new TreeMap<>();
+        if (all.isEmpty()) {
+            return null;
+        }
 
-            for (LazyResettableHashMap<?> map : all) {
-                String key = map.displayName;
-                if (!mapCounter.containsKey(key)) {
-                    mapCounter.put(key, 0);
-                    entryCounter.put(key, 0);
-                }
-                mapCounter.put(key, mapCounter.get(key) + 1);
-                entryCounter.put(key, entryCounter.get(key) + map.size());
-            }
+        List<String> result = new LinkedList<>();
 
-            for (Map.Entry<String, Integer> entry : mapCounter.entrySet()) {
-                String key = entry.getKey();
-                result.add(entry.getValue() + " " + key + " with "
-                        + entryCounter.get(key) + " entries total");
-            }
+        Map<String, long[]> counters = new TreeMap<>();
+        for (LazyResettableHashMap<?> map : all) {
+            long[] mapCounters = counters.computeIfAbsent(map.displayName, key -> new long[7]);
+            mapCounters[0]++;
+            mapCounters[1] += map.size();
+            mapCounters[2] += map.getHitCount();
+            mapCounters[3] += map.getMissCount();
+            mapCounters[4] += map.getEvictionCount();
+            mapCounters[5] += map.getLoadCount();
+            mapCounters[6] += map.getTotalLoadTimeNanos();
+        }
 
-            return result;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            long[] mapCounters = entry.getValue();
+            result.add(mapCounters[0] + " " + entry.getKey() + " with "
+                    + mapCounters[1] + " entries total, " + mapCounters[2] + " hits, "
+                    + mapCounters[3] + " misses, " + mapCounters[4] + " evictions, "
+                    + mapCounters[5] + " loads in " + (mapCounters[6] / 1000000) + " ms");
         }
-        return null;
+
+        return result;
     }
 }
@@ -29,40 +29,35 @@
  */
 package org.pushingpixels.radiance.theming.internal.utils;
 
-import java.util.Arrays;
-
 /**
- * Implementation of a key for the {@link LazyResettableHashMap}.
- * 
+ * Management interface of {@link LazyResettableHashMap}. The caches are registered with the
+ * platform MBean server by {@link LazyResettableHashMap#registerMBeans()}.
+ *
  * @author Kirill Grouchnikov
  */
-public class HashMapKey extends LazyResettableHashMap.Key {
-	/**
-	 * Fields that represent this key object.
-	 */
-	private Object[] keyFields;
+public interface LazyResettableHashMapMXBean {
+    String getDisplayName();
+
+    int getSize();
+
+    long getWeight();
+
+    long getMaxWeight();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    long getEvictionCount();
 
-	/**
-	 * Creates a new key object.
-	 * 
-	 * @param fields
-	 *            Fields of the key object.
-	 */
-	public HashMapKey(Object... fields) {
-		this.keyFields = fields;
-	}
+    long getLoadCount();
 
-	@Override
-	public int hashCode() {
-		return Arrays.deepHashCode(this.keyFields);
-	}
+    long getTotalLoadTimeNanos();
 
-	@Override
-	public boolean equals(Object obj) {
-		if (!(obj instanceof HashMapKey)) {
-			return false;
-		}
-		HashMapKey key2 = (HashMapKey) obj;
-		return Arrays.equals(this.keyFields, key2.keyFields);
-	}
+    /**
+     * Removes all the entries of the cache.
+     */
+    void clear();
 }
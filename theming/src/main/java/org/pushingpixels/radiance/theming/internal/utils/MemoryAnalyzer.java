@@ -111,6 +111,7 @@ public class MemoryAnalyzer extends TrackableThread {
 	public static synchronized void commence(long delay, String filename) {
 		if (instance == null) {
 			instance = new MemoryAnalyzer(delay, filename);
+			LazyResettableHashMap.registerMBeans();
 			usages = new ArrayList<>();
 			// yeah, yeah, it's not multi-thread safe.
 			sdf = new SimpleDateFormat("HH:mm:ss.SSS");
@@ -31,21 +31,49 @@ package org.pushingpixels.radiance.theming.internal.utils;
 
 import org.pushingpixels.radiance.common.api.RadianceCommonCortex;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
+import org.pushingpixels.radiance.theming.internal.RadianceSynapse;
 
+import javax.imageio.ImageIO;
+import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.ConvolveOp;
 import java.awt.image.DataBufferInt;
 import java.awt.image.Kernel;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
- * Factory for creating noise images.
+ * Factory for creating noise images. Generated images are cached in memory, and also
+ * on disk if {@link RadianceSynapse#NOISE_CACHE_FOLDER} points to a folder.
  * 
  * @author Kirill Grouchnikov.
  */
 public class NoiseFactory {
 	/**
-	 * Returns a noise image.
+	 * Maximum number of noise images kept in {@link #noiseImages}.
+	 */
+	private static final int MAX_CACHED_IMAGES = 4;
+
+	/**
+	 * Generated noise images. As the key contains everything that the image
+	 * depends on, this cache is not cleared on skin change.
+	 */
+	private static final Map<CacheKey, BufferedImage> noiseImages =
+			new LinkedHashMap<CacheKey, BufferedImage>(8, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<CacheKey, BufferedImage> eldest) {
+					return this.size() > MAX_CACHED_IMAGES;
+				}
+			};
+
+	/**
+	 * Returns a noise image. The returned image is shared and must not be
+	 * modified.
 	 * 
 	 * @param scheme
 	 *            The color scheme to use for rendering the image.
@@ -68,7 +96,43 @@ public class NoiseFactory {
 			boolean toBlur) {
 		Color c1 = RadianceColorUtilities.getAlphaColor(scheme.getDarkColor(), 15);
 		Color c3 = scheme.getLightColor();
+		double scale = RadianceCommonCortex.getScaleFactor(null);
+
+		CacheKey key = CacheKey.of(Arrays.asList(c1.getRGB(), c3.getRGB(), width, height,
+				hasConstantZ, toBlur), xFactor, yFactor, scale);
+		synchronized (noiseImages) {
+			BufferedImage cached = noiseImages.get(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		File diskCacheFile = getDiskCacheFile(c1, c3, width, height, xFactor, yFactor,
+				hasConstantZ, toBlur);
+		BufferedImage dst = readFromDisk(diskCacheFile, width, height);
+		if (dst == null) {
+			dst = createNoiseImage(c1, c3, width, height, xFactor, yFactor, hasConstantZ,
+					toBlur);
+			writeToDisk(dst, diskCacheFile);
+		}
 
+		// and now returning an image that is hi DPI aware if needed
+		BufferedImage result = dst;
+		if (scale > 1.0) {
+			result = RadianceCoreUtilities.getBlankImage(scale, width, height);
+			Graphics2D g2d = result.createGraphics();
+			g2d.drawImage(dst, 0, 0, null);
+			g2d.dispose();
+		}
+		synchronized (noiseImages) {
+			noiseImages.put(key, result);
+		}
+		return result;
+	}
+
+	private static BufferedImage createNoiseImage(Color c1, Color c3, int width,
+			int height, double xFactor, double yFactor, boolean hasConstantZ,
+			boolean toBlur) {
 		// Note that we are starting with non-hi DPI aware image for creating the
 		// source for the noise
 		BufferedImage dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
@@ -76,25 +140,30 @@ public class NoiseFactory {
 		// Borrow from Sebastien Petrucci fast blur code - direct access
 		// to the raster data
 		int[] dstBuffer = ((DataBufferInt) dst.getRaster().getDataBuffer()).getData();
-		// System.out.println((dstBuffer[0] >>> 24) & 0xFF);
 
 		double m2 = xFactor * width * xFactor * width + yFactor * height
 				* yFactor * height;
-		int pos = 0;
-		for (int j = 0; j < height; j++) {
+		double[] xs = new double[width];
+		for (int i = 0; i < width; i++) {
+			xs[i] = xFactor * i;
+		}
+		// Rows are independent, and are computed in parallel
+		IntStream.range(0, height).parallel().forEach(j -> {
 			double jj = yFactor * j;
+			double[] zs = new double[width];
+			double[] noise = new double[width];
 			for (int i = 0; i < width; i++) {
-				double ii = xFactor * i;
-				double z = hasConstantZ ? 1.0 : Math.sqrt(m2 - ii * ii - jj * jj);
-				double noise = 0.5 + 0.5 * PerlinNoiseGenerator.noise(ii, jj, z);
-
-				double likeness = Math.max(0.0, Math.min(1.0, 2.0 * noise));
-				// likeness = 0.0;
+				zs[i] = hasConstantZ ? 1.0 : Math.sqrt(m2 - xs[i] * xs[i] - jj * jj);
+			}
+			PerlinNoiseGenerator.noise(xs, jj, zs, noise, width);
+			int pos = j * width;
+			for (int i = 0; i < width; i++) {
+				double noiseValue = 0.5 + 0.5 * noise[i];
+				double likeness = Math.max(0.0, Math.min(1.0, 2.0 * noiseValue));
 				dstBuffer[pos++] = RadianceColorUtilities.getInterpolatedRGB(
 						c3, c1, likeness);
 			}
-		}
-		// System.out.println((dstBuffer[0] >>> 24) & 0xFF);
+		});
 		if (toBlur) {
 			// and staying here with non-hi DPI aware image for blurred noise
 			ConvolveOp convolve = new ConvolveOp(new Kernel(3, 3, new float[] {
@@ -102,17 +171,63 @@ public class NoiseFactory {
 					ConvolveOp.EDGE_NO_OP, null);
 			dst = convolve.filter(dst, null);
 		}
-		
-		// and now returning an image that is hi DPI aware if needed
-		double scale = RadianceCommonCortex.getScaleFactor(null);
-		if (scale > 1.0) {
-			BufferedImage result = RadianceCoreUtilities.getBlankImage(scale, width, height);
+		return dst;
+	}
+
+	private static File getDiskCacheFile(Color c1, Color c3, int width, int height,
+			double xFactor, double yFactor, boolean hasConstantZ, boolean toBlur) {
+		Object folder = UIManager.get(RadianceSynapse.NOISE_CACHE_FOLDER);
+		if (!(folder instanceof String)) {
+			return null;
+		}
+		String name = String.format("noise-%08x-%08x-%dx%d-%s-%s-%b-%b.png",
+				c1.getRGB(), c3.getRGB(), width, height, Double.toString(xFactor),
+				Double.toString(yFactor), hasConstantZ, toBlur);
+		return new File((String) folder, name);
+	}
+
+	private static BufferedImage readFromDisk(File file, int width, int height) {
+		if ((file == null) || !file.isFile()) {
+			return null;
+		}
+		try {
+			BufferedImage read = ImageIO.read(file);
+			if ((read == null) || (read.getWidth() != width) || (read.getHeight() != height)) {
+				return null;
+			}
+			if (read.getType() == BufferedImage.TYPE_INT_ARGB) {
+				return read;
+			}
+			BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
 			Graphics2D g2d = result.createGraphics();
-			g2d.drawImage(dst, 0, 0, null);
+			g2d.setComposite(AlphaComposite.Src);
+			g2d.drawImage(read, 0, 0, null);
 			g2d.dispose();
 			return result;
-		} else {
-			return dst;
+		} catch (IOException ioe) {
+			// Regenerate the image if the cached file can not be read
+			return null;
+		}
+	}
+
+	private static void writeToDisk(BufferedImage image, File file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			File folder = file.getParentFile();
+			if (!folder.isDirectory() && !folder.mkdirs()) {
+				return;
+			}
+			// Write to a temporary file first so that concurrent readers never see
+			// partially written images
+			File tempFile = File.createTempFile("noise", ".tmp", folder);
+			if (ImageIO.write(image, "png", tempFile) && tempFile.renameTo(file)) {
+				return;
+			}
+			tempFile.delete();
+		} catch (IOException ioe) {
+			// Disk cache is an optimization, ignore failures
 		}
 	}
 }
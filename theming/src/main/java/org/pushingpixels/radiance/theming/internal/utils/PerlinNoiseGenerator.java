@@ -71,6 +71,60 @@ public class PerlinNoiseGenerator {
 								p[BB + 1], x - 1, y - 1, z - 1))));
 	}
 
+	/**
+	 * Computes noise for a row of samples that share the same Y coordinate. The
+	 * results are identical to calling {@link #noise(double, double, double)} for
+	 * each sample, but the Y-dependent part of the computation is done only once
+	 * per row.
+	 * 
+	 * @param x
+	 *            X coordinates of the samples.
+	 * @param y
+	 *            Y coordinate shared by all samples.
+	 * @param z
+	 *            Z coordinates of the samples.
+	 * @param result
+	 *            Array to store the noise of the samples in.
+	 * @param count
+	 *            Number of samples to compute.
+	 */
+	static public void noise(double[] x, double y, double[] z, double[] result,
+			int count) {
+		double floorY = Math.floor(y);
+		int Y = (int) floorY & 255;
+		double fy = y - floorY;
+		double v = fy * fy * fy * (fy * (fy * 6 - 15) + 10);
+		for (int i = 0; i < count; i++) {
+			double floorX = Math.floor(x[i]);
+			double floorZ = Math.floor(z[i]);
+			int X = (int) floorX & 255;
+			int Z = (int) floorZ & 255;
+			double fx = x[i] - floorX;
+			double fz = z[i] - floorZ;
+			double u = fx * fx * fx * (fx * (fx * 6 - 15) + 10);
+			double w = fz * fz * fz * (fz * (fz * 6 - 15) + 10);
+			int A = p[X] + Y, AA = p[A] + Z, AB = p[A + 1] + Z;
+			int B = p[X + 1] + Y, BA = p[B] + Z, BB = p[B + 1] + Z;
+
+			double g1 = grad(p[AA], fx, fy, fz);
+			double g2 = grad(p[BA], fx - 1, fy, fz);
+			double g3 = grad(p[AB], fx, fy - 1, fz);
+			double g4 = grad(p[BB], fx - 1, fy - 1, fz);
+			double g5 = grad(p[AA + 1], fx, fy, fz - 1);
+			double g6 = grad(p[BA + 1], fx - 1, fy, fz - 1);
+			double g7 = grad(p[AB + 1], fx, fy - 1, fz - 1);
+			double g8 = grad(p[BB + 1], fx - 1, fy - 1, fz - 1);
+
+			double l1 = g1 + u * (g2 - g1);
+			double l2 = g3 + u * (g4 - g3);
+			double l3 = g5 + u * (g6 - g5);
+			double l4 = g7 + u * (g8 - g7);
+			double m1 = l1 + v * (l2 - l1);
+			double m2 = l3 + v * (l4 - l3);
+			result[i] = m1 + w * (m2 - m1);
+		}
+	}
+
 	/**
 	 * Fades the specified value.
 	 * 
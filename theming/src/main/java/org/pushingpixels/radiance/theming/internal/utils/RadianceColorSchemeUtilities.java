@@ -38,12 +38,11 @@ import org.pushingpixels.radiance.theming.api.colorscheme.*;
 import javax.swing.*;
 import javax.swing.plaf.UIResource;
 import java.awt.*;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.*;
+import java.net.URL;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utilities related to color schemes. This class is for internal use only.
@@ -55,7 +54,14 @@ public class RadianceColorSchemeUtilities {
      * Cache of shifted schemes.
      */
     private final static LazyResettableHashMap<RadianceColorScheme> shiftedCache =
-            new LazyResettableHashMap<>("ShiftColorScheme.shiftedSchemes");
+            new LazyResettableHashMap<>("ShiftColorScheme.shiftedSchemes", 500);
+
+    /**
+     * Cache of parsed color schemes, keyed by the location of the resource. Color schemes
+     * are immutable, so this cache is shared across skins and is not reset on skin change.
+     */
+    private final static Map<String, RadianceSkin.ColorSchemes> colorSchemesCache =
+            new ConcurrentHashMap<>();
 
     private enum ColorSchemeKind {
         LIGHT, DARK
@@ -554,8 +560,71 @@ public class RadianceColorSchemeUtilities {
         return Color.decode(value);
     }
 
+    /**
+     * Returns the color schemes in the specified resource. If a precompiled resource (with
+     * the {@link ColorSchemesBinaryFormat#EXTENSION} suffix) is available next to the text
+     * resource, it is used instead. The result is cached for the lifetime of the process.
+     *
+     * @param classLoader  Class loader to load the resource.
+     * @param resourceName Name of the text resource with color scheme definitions.
+     * @return The collection of color schemes in the specified resource.
+     */
+    public static RadianceSkin.ColorSchemes getColorSchemes(ClassLoader classLoader, String resourceName) {
+        URL url = classLoader.getResource(resourceName + ColorSchemesBinaryFormat.EXTENSION);
+        if (url == null) {
+            url = classLoader.getResource(resourceName);
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("Can't find color schemes resource " + resourceName);
+        }
+        URL resourceUrl = url;
+        return colorSchemesCache.computeIfAbsent(resourceUrl.toExternalForm(), key -> {
+            try (InputStream inputStream = resourceUrl.openStream()) {
+                return getColorSchemes(inputStream);
+            } catch (IOException ioe) {
+                throw new IllegalArgumentException(ioe);
+            }
+        });
+    }
+
     public static RadianceSkin.ColorSchemes getColorSchemes(InputStream inputStream) {
-        List<RadianceColorScheme> schemes = new ArrayList<>();
+        InputStream bufferedStream = new BufferedInputStream(inputStream);
+        List<ColorSchemesBinaryFormat.SchemeDefinition> definitions =
+                ColorSchemesBinaryFormat.isBinary(bufferedStream)
+                        ? ColorSchemesBinaryFormat.read(bufferedStream)
+                        : getColorSchemeDefinitions(bufferedStream);
+
+        List<RadianceColorScheme> schemes = new ArrayList<>(definitions.size());
+        Map<String, RadianceColorScheme> schemesByName = new HashMap<>();
+        for (ColorSchemesBinaryFormat.SchemeDefinition definition : definitions) {
+            RadianceColorScheme scheme = definition.isDark
+                    ? getDarkColorScheme(definition.name, definition.colors, definition.additionalColors)
+                    : getLightColorScheme(definition.name, definition.colors, definition.additionalColors);
+            schemes.add(scheme);
+            schemesByName.putIfAbsent(scheme.getDisplayName(), scheme);
+        }
+
+        return new RadianceSkin.ColorSchemes() {
+            @Override
+            public Collection<RadianceColorScheme> getAll() {
+                return Collections.unmodifiableCollection(schemes);
+            }
+
+            @Override
+            public RadianceColorScheme get(String displayName) {
+                return schemesByName.get(displayName);
+            }
+        };
+    }
+
+    /**
+     * Parses the text form of color scheme definitions.
+     *
+     * @param inputStream Input stream with the text form of color scheme definitions.
+     * @return Fully resolved color scheme definitions.
+     */
+    static List<ColorSchemesBinaryFormat.SchemeDefinition> getColorSchemeDefinitions(InputStream inputStream) {
+        List<ColorSchemesBinaryFormat.SchemeDefinition> definitions = new ArrayList<>();
 
         Map<String, Color> colorMap = new HashMap<>();
 
@@ -631,11 +700,8 @@ public class RadianceColorSchemeUtilities {
                             foreground}
                             : new Color[]{ultraLight, extraLight, light, mid, dark, ultraDark, foreground};
 
-                    if (kind == ColorSchemeKind.LIGHT) {
-                        schemes.add(getLightColorScheme(name, colors, new HashMap<>(additionalColors)));
-                    } else {
-                        schemes.add(getDarkColorScheme(name, colors, new HashMap<>(additionalColors)));
-                    }
+                    definitions.add(new ColorSchemesBinaryFormat.SchemeDefinition(name,
+                            kind == ColorSchemeKind.DARK, colors, new HashMap<>(additionalColors)));
                     name = null;
                     kind = null;
                     ultraLight = null;
@@ -752,22 +818,7 @@ public class RadianceColorSchemeUtilities {
             throw new IllegalArgumentException(ioe);
         }
 
-        return new RadianceSkin.ColorSchemes() {
-            @Override
-            public Collection<RadianceColorScheme> getAll() {
-                return Collections.unmodifiableCollection(schemes);
-            }
-
-            @Override
-            public RadianceColorScheme get(String displayName) {
-                for (RadianceColorScheme scheme : schemes) {
-                    if (scheme.getDisplayName().equals(displayName)) {
-                        return scheme;
-                    }
-                }
-                return null;
-            }
-        };
+        return definitions;
     }
 
     /**
@@ -787,17 +838,13 @@ public class RadianceColorSchemeUtilities {
     public static RadianceColorScheme getShiftedScheme(RadianceColorScheme orig,
             Color backgroundShiftColor, double backgroundShiftFactor, Color foregroundShiftColor,
             double foregroundShiftFactor) {
-        HashMapKey key = RadianceCoreUtilities.getHashKey(orig.getDisplayName(),
-                backgroundShiftColor == null ? "" : backgroundShiftColor.getRGB(),
+        // RGB values are exact as doubles, and NaN marks a missing shift color
+        CacheKey key = CacheKey.of(orig.getDisplayName(),
+                backgroundShiftColor == null ? Double.NaN : backgroundShiftColor.getRGB(),
                 backgroundShiftFactor,
-                foregroundShiftColor == null ? "" : foregroundShiftColor.getRGB(),
+                foregroundShiftColor == null ? Double.NaN : foregroundShiftColor.getRGB(),
                 foregroundShiftFactor);
-        RadianceColorScheme result = shiftedCache.get(key);
-        if (result == null) {
-            result = orig.shift(backgroundShiftColor, backgroundShiftFactor, foregroundShiftColor,
-                    foregroundShiftFactor);
-            shiftedCache.put(key, result);
-        }
-        return result;
+        return shiftedCache.get(key, () -> orig.shift(backgroundShiftColor, backgroundShiftFactor,
+                foregroundShiftColor, foregroundShiftFactor));
     }
 }
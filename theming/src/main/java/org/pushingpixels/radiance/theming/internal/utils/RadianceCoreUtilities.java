@@ -59,6 +59,7 @@ import org.pushingpixels.radiance.theming.internal.utils.menu.RadianceMenu;
 
 import javax.swing.*;
 import javax.swing.plaf.ButtonUI;
+import javax.swing.plaf.ColorUIResource;
 import javax.swing.plaf.UIResource;
 import javax.swing.text.JTextComponent;
 import java.awt.*;
@@ -1383,6 +1384,21 @@ public class RadianceCoreUtilities {
      * @see RadianceThemingCortex.GlobalScope#setColorizationFactor(double)
      */
     public static double getColorizationFactor(Component c) {
+        if (c instanceof JComponent) {
+            return ResolvedComponentStyle.getColorizationFactor((JComponent) c);
+        }
+        return resolveColorizationFactor(c);
+    }
+
+    /**
+     * Resolves the colorization factor of the specified component by scanning the component
+     * and its ancestor hierarchy. Unlike {@link #getColorizationFactor(Component)}, this method
+     * does not use the resolved style of the component.
+     *
+     * @param c Component.
+     * @return The colorization factor of the specified component.
+     */
+    static double resolveColorizationFactor(Component c) {
         JPopupMenu popupMenu = null;
         while (c != null) {
             if (c instanceof JComponent) {
@@ -1424,6 +1440,21 @@ public class RadianceCoreUtilities {
         if (!RadianceRootPaneUI.hasCustomSkinOnAtLeastOneRootPane())
             return RadianceThemingCortex.GlobalScope.getCurrentSkin();
 
+        if (c instanceof JComponent) {
+            return ResolvedComponentStyle.getSkin((JComponent) c);
+        }
+        return resolveSkin(c);
+    }
+
+    /**
+     * Resolves the skin of the specified component by looking at the root pane that contains it.
+     * Unlike {@link #getSkin(Component)}, this method does not use the resolved style of the
+     * component.
+     *
+     * @param c Component.
+     * @return The skin of the specified component.
+     */
+    static RadianceSkin resolveSkin(Component c) {
         RadianceComboPopup comboPopup = (RadianceComboPopup) SwingUtilities
                 .getAncestorOfClass(RadianceComboPopup.class, c);
         if (comboPopup != null) {
@@ -1458,16 +1489,6 @@ public class RadianceCoreUtilities {
         return RadianceThemingCortex.GlobalScope.getCurrentSkin();
     }
 
-    /**
-     * Returns a hash key for the specified parameters.
-     *
-     * @param objects Key components.
-     * @return Hash key.
-     */
-    public static HashMapKey getHashKey(Object... objects) {
-        return new HashMapKey(objects);
-    }
-
     /**
      * Stops all Radiance threads. Improper use may result in UI artifacts and runtime exceptions.
      */
@@ -1745,6 +1766,144 @@ public class RadianceCoreUtilities {
         }
     }
 
+    /**
+     * Refreshes the skin-dependent colors of all components in all windows without reinstalling
+     * their UI delegates, and repaints all windows. Only colors that have been installed by the
+     * UI delegates (marked with {@link UIResource}) are refreshed.
+     */
+    public static void updateActiveUiColors() {
+        for (Window window : Window.getWindows()) {
+            updateUiColors(window);
+            window.repaint();
+        }
+
+        for (MenuElement menuElement : MenuSelectionManager.defaultManager().getSelectedPath()) {
+            if (menuElement instanceof JPopupMenu) {
+                updateUiColors((JPopupMenu) menuElement);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the skin-dependent colors of the specified component and all its children,
+     * following the same logic that the UI delegates use when they install their defaults.
+     * Components with UI delegates that do not have their colors in {@link UIManager} (such as
+     * custom components that compute their colors from the skin) get their UI delegates
+     * reinstalled instead.
+     *
+     * @param c Component.
+     */
+    private static void updateUiColors(Component c) {
+        if (c instanceof JComponent) {
+            JComponent jc = (JComponent) c;
+            String uiClassID = jc.getUIClassID();
+            String prefix = uiClassID.endsWith("UI")
+                    ? uiClassID.substring(0, uiClassID.length() - 2) : uiClassID;
+
+            boolean hasUiColors = (jc instanceof JPanel) || (jc instanceof JViewport)
+                    || (jc instanceof JRootPane)
+                    || (UIManager.getColor(prefix + ".background") != null)
+                    || (UIManager.getColor(prefix + ".foreground") != null);
+            if (hasUiColors) {
+                updateComponentUiColors(jc, prefix);
+            } else {
+                // No colors to refresh from, reinstall the UI delegate of this component only
+                jc.updateUI();
+            }
+
+            // Popup menus set with setComponentPopupMenu are not in the component hierarchy
+            JPopupMenu componentPopupMenu = jc.getComponentPopupMenu();
+            if (componentPopupMenu != null) {
+                updateUiColors(componentPopupMenu);
+            }
+        }
+
+        Component[] children = null;
+        if (c instanceof JMenu) {
+            children = ((JMenu) c).getMenuComponents();
+        } else if (c instanceof Container) {
+            children = ((Container) c).getComponents();
+        }
+        if (children != null) {
+            for (Component child : children) {
+                updateUiColors(child);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the skin-dependent colors of the specified component, following the same logic
+     * that the UI delegates use when they install their defaults.
+     *
+     * @param jc     Component.
+     * @param prefix Prefix of the {@link UIManager} keys for the colors of the component.
+     */
+    private static void updateComponentUiColors(JComponent jc, String prefix) {
+        Color background = jc.getBackground();
+        if ((background == null) || (background instanceof UIResource)) {
+            Color newBackground = ((jc instanceof JPanel) || (jc instanceof JViewport)
+                    || (jc instanceof JRootPane))
+                    ? RadianceColorUtilities.getBackgroundFillColor(jc)
+                    : UIManager.getColor(prefix + ".background");
+            if (newBackground != null) {
+                jc.setBackground((newBackground instanceof UIResource) ? newBackground
+                        : new ColorUIResource(newBackground));
+            }
+        }
+
+        Color foreground = jc.getForeground();
+        if ((foreground == null) || (foreground instanceof UIResource)) {
+            Color newForeground = UIManager.getColor(prefix + ".foreground");
+            if (jc instanceof JTextComponent) {
+                newForeground = RadianceColorUtilities.getForegroundColor(
+                        RadianceThemingCortex.ComponentScope.getCurrentSkin(jc)
+                                .getEnabledColorScheme(RadianceThemingCortex.ComponentOrParentChainScope
+                                        .getDecorationType(jc)));
+            }
+            if (newForeground != null) {
+                jc.setForeground((newForeground instanceof UIResource) ? newForeground
+                        : new ColorUIResource(newForeground));
+            }
+        }
+
+        if (jc instanceof JTextComponent) {
+            JTextComponent text = (JTextComponent) jc;
+            if (text.getCaretColor() instanceof UIResource) {
+                text.setCaretColor(UIManager.getColor(prefix + ".caretForeground"));
+            }
+            if (text.getSelectionColor() instanceof UIResource) {
+                text.setSelectionColor(UIManager.getColor(prefix + ".selectionBackground"));
+            }
+            if (text.getSelectedTextColor() instanceof UIResource) {
+                text.setSelectedTextColor(UIManager.getColor(prefix + ".selectionForeground"));
+            }
+            if (text.getDisabledTextColor() instanceof UIResource) {
+                text.setDisabledTextColor(UIManager.getColor(prefix + ".inactiveForeground"));
+            }
+        }
+        if (jc instanceof JList) {
+            JList<?> list = (JList<?>) jc;
+            if (list.getSelectionBackground() instanceof UIResource) {
+                list.setSelectionBackground(UIManager.getColor(prefix + ".selectionBackground"));
+            }
+            if (list.getSelectionForeground() instanceof UIResource) {
+                list.setSelectionForeground(UIManager.getColor(prefix + ".selectionForeground"));
+            }
+        }
+        if (jc instanceof JTable) {
+            JTable table = (JTable) jc;
+            if (table.getSelectionBackground() instanceof UIResource) {
+                table.setSelectionBackground(UIManager.getColor(prefix + ".selectionBackground"));
+            }
+            if (table.getSelectionForeground() instanceof UIResource) {
+                table.setSelectionForeground(UIManager.getColor(prefix + ".selectionForeground"));
+            }
+            if (table.getGridColor() instanceof UIResource) {
+                table.setGridColor(UIManager.getColor(prefix + ".gridColor"));
+            }
+        }
+    }
+
     public static Point getOffsetInRootPaneCoords(Component comp) {
         if (comp == null) {
             throw new IllegalArgumentException("Cannot pass null component");
@@ -48,8 +48,8 @@ import java.util.Map;
  */
 public class RadianceMetricsUtilities {
     private static Map<Double, BufferedImage> offscreens = new HashMap<>();
-    private static Map<HashMapKey, FontMetrics> metricsMap = new SoftHashMap<>();
-    private static Map<HashMapKey, FontRenderContext> renderContextMap = new SoftHashMap<>();
+    private static Map<CacheKey, FontMetrics> metricsMap = new SoftHashMap<>();
+    private static Map<CacheKey, FontRenderContext> renderContextMap = new SoftHashMap<>();
 
     private static Rectangle iconR = new Rectangle();
     private static Rectangle textR = new Rectangle();
@@ -66,7 +66,7 @@ public class RadianceMetricsUtilities {
     }
 
     public static FontMetrics getFontMetrics(double scale, Font font) {
-        HashMapKey key = RadianceCoreUtilities.getHashKey(scale, font);
+        CacheKey key = CacheKey.of(font, scale);
         if (metricsMap.containsKey(key)) {
             return metricsMap.get(key);
         }
@@ -84,7 +84,7 @@ public class RadianceMetricsUtilities {
     }
 
     public static FontRenderContext getFontRenderContext(double scale, Font font) {
-        HashMapKey key = RadianceCoreUtilities.getHashKey(scale, font);
+        CacheKey key = CacheKey.of(font, scale);
         if (renderContextMap.containsKey(key)) {
             return renderContextMap.get(key);
         }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.theming.internal.utils;
+
+import org.pushingpixels.radiance.theming.api.RadianceSkin;
+import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
+import org.pushingpixels.radiance.theming.internal.RadianceSynapse;
+import org.pushingpixels.radiance.theming.internal.painter.DecorationPainterUtils;
+
+import javax.swing.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * Resolved styling information of a single component - its skin, decoration area type and
+ * colorization factor. Each one of these is resolved by walking the component hierarchy and
+ * looking at client properties along the way, and this record allows painting code to do that
+ * walk once instead of on every paint.
+ *
+ * <p>Each resolved value is stamped with the global generation that was current when it was
+ * computed. The global generation is advanced on skin changes and whenever any of the
+ * client properties that affect the resolution changes on any component - since these affect
+ * the entire nested hierarchy. Reparenting a component (or one of its ancestors) invalidates
+ * the record of that component and all its nested children.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @author Kirill Grouchnikov
+ */
+public final class ResolvedComponentStyle implements HierarchyListener, PropertyChangeListener {
+    /**
+     * Client property that holds the resolved style of a component.
+     */
+    private static final String RESOLVED_STYLE = "radiance.theming.internal.resolvedStyle";
+
+    /**
+     * Global generation of resolved styles. Resolved values stamped with an older generation
+     * are recomputed on the next access.
+     */
+    private static volatile int generation = 0;
+
+    private int skinGeneration = -1;
+    private RadianceSkin skin;
+
+    private int decorationAreaTypeGeneration = -1;
+    private RadianceThemingSlices.DecorationAreaType decorationAreaType;
+
+    private int colorizationFactorGeneration = -1;
+    private double colorizationFactor;
+
+    private ResolvedComponentStyle() {
+    }
+
+    /**
+     * Returns the resolved style of the specified component, creating it if necessary.
+     *
+     * @param component Component.
+     * @return The resolved style of the specified component.
+     */
+    private static ResolvedComponentStyle getStyle(JComponent component) {
+        Object prop = component.getClientProperty(RESOLVED_STYLE);
+        if (prop instanceof ResolvedComponentStyle) {
+            return (ResolvedComponentStyle) prop;
+        }
+        ResolvedComponentStyle style = new ResolvedComponentStyle();
+        component.putClientProperty(RESOLVED_STYLE, style);
+        component.addHierarchyListener(style);
+        component.addPropertyChangeListener(style);
+        return style;
+    }
+
+    /**
+     * Invalidates the resolved styles of all components. This should be called on every change
+     * that can affect the resolved style of more than one component.
+     */
+    public static void invalidateAll() {
+        generation++;
+    }
+
+    /**
+     * Returns the skin of the specified component.
+     *
+     * @param component Component.
+     * @return The skin of the specified component.
+     * @see RadianceCoreUtilities#getSkin(java.awt.Component)
+     */
+    public static RadianceSkin getSkin(JComponent component) {
+        ResolvedComponentStyle style = getStyle(component);
+        int currentGeneration = generation;
+        if (style.skinGeneration != currentGeneration) {
+            style.skin = RadianceCoreUtilities.resolveSkin(component);
+            style.skinGeneration = currentGeneration;
+        }
+        return style.skin;
+    }
+
+    /**
+     * Returns the decoration area type of the specified component.
+     *
+     * @param component Component.
+     * @return The decoration area type of the specified component.
+     * @see DecorationPainterUtils#getDecorationType(java.awt.Component)
+     */
+    public static RadianceThemingSlices.DecorationAreaType getDecorationType(JComponent component) {
+        ResolvedComponentStyle style = getStyle(component);
+        int currentGeneration = generation;
+        if (style.decorationAreaTypeGeneration != currentGeneration) {
+            style.decorationAreaType = DecorationPainterUtils.resolveDecorationType(component);
+            style.decorationAreaTypeGeneration = currentGeneration;
+        }
+        return style.decorationAreaType;
+    }
+
+    /**
+     * Returns the colorization factor of the specified component.
+     *
+     * @param component Component.
+     * @return The colorization factor of the specified component.
+     * @see RadianceCoreUtilities#getColorizationFactor(java.awt.Component)
+     */
+    public static double getColorizationFactor(JComponent component) {
+        ResolvedComponentStyle style = getStyle(component);
+        int currentGeneration = generation;
+        if (style.colorizationFactorGeneration != currentGeneration) {
+            style.colorizationFactor = RadianceCoreUtilities.resolveColorizationFactor(component);
+            style.colorizationFactorGeneration = currentGeneration;
+        }
+        return style.colorizationFactor;
+    }
+
+    private void invalidate() {
+        this.skinGeneration = -1;
+        this.decorationAreaTypeGeneration = -1;
+        this.colorizationFactorGeneration = -1;
+    }
+
+    @Override
+    public void hierarchyChanged(HierarchyEvent e) {
+        // This is called on the reparented component as well as on all its nested children
+        if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+            this.invalidate();
+        }
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        String propertyName = evt.getPropertyName();
+        // These affect the resolved styles of all nested children as well
+        if (DecorationPainterUtils.DECORATION_AREA_TYPE.equals(propertyName)
+                || DecorationPainterUtils.POPUP_ORIGINATOR_LINK.equals(propertyName)
+                || RadianceSynapse.COLORIZATION_FACTOR.equals(propertyName)
+                || RadianceSynapse.ROOT_PANE_SKIN.equals(propertyName)) {
+            invalidateAll();
+        }
+    }
+}
@@ -36,10 +36,13 @@ import org.pushingpixels.radiance.theming.api.RadianceThemingCortex;
 import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
 import org.pushingpixels.radiance.theming.api.inputmap.InputMapSet;
+import org.pushingpixels.radiance.theming.api.painter.decoration.ImageWrapperDecorationPainter;
+import org.pushingpixels.radiance.theming.api.painter.decoration.RadianceDecorationPainter;
 import org.pushingpixels.radiance.theming.api.inputmap.RadianceInputMapUtilities;
 import org.pushingpixels.radiance.theming.api.renderer.RadianceDefaultListCellRenderer;
 import org.pushingpixels.radiance.theming.internal.blade.BladeIconUtils;
 import org.pushingpixels.radiance.theming.internal.utils.border.*;
+import org.pushingpixels.radiance.theming.internal.utils.filters.ColorSchemeFilter;
 import org.pushingpixels.radiance.theming.internal.utils.icon.CheckBoxMenuItemIcon;
 import org.pushingpixels.radiance.theming.internal.utils.icon.MenuArrowIcon;
 import org.pushingpixels.radiance.theming.internal.utils.icon.RadioButtonMenuItemIcon;
@@ -52,7 +55,10 @@ import javax.swing.plaf.*;
 import javax.swing.plaf.basic.BasicBorders;
 import javax.swing.plaf.basic.BasicBorders.MarginBorder;
 import java.awt.*;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 public class SkinUtilities {
     /**
@@ -1246,4 +1252,84 @@ public class SkinUtilities {
         uiDefaults.put("laf.scaleFactor",
                 (UIDefaults.ActiveValue) t -> RadianceCommonCortex.getScaleFactor(null));
     }
+
+    /**
+     * Computes the skin-derived data that is cached across skin changes - the interpolated
+     * colors of the color schemes in all decoration areas and the colorized tiles of image-based
+     * decoration painters. The decoration areas are processed in parallel. This method does not
+     * require the Event Dispatch Thread.
+     *
+     * @param skin Skin to prewarm.
+     */
+    public static void prewarmSkin(RadianceSkin skin) {
+        double scale = RadianceCommonCortex.getScaleFactor(null);
+        RadianceDecorationPainter decorationPainter = skin.getDecorationPainter();
+        Arrays.asList(RadianceThemingSlices.DecorationAreaType.NONE,
+                RadianceThemingSlices.DecorationAreaType.PRIMARY_TITLE_PANE,
+                RadianceThemingSlices.DecorationAreaType.SECONDARY_TITLE_PANE,
+                RadianceThemingSlices.DecorationAreaType.TOOLBAR,
+                RadianceThemingSlices.DecorationAreaType.HEADER,
+                RadianceThemingSlices.DecorationAreaType.FOOTER,
+                RadianceThemingSlices.DecorationAreaType.CONTROL_PANE).parallelStream()
+                .forEach(decorationAreaType -> {
+                    RadianceColorScheme backgroundScheme =
+                            skin.getBackgroundColorScheme(decorationAreaType);
+                    for (RadianceColorScheme scheme : new RadianceColorScheme[] {
+                            backgroundScheme,
+                            skin.getActiveColorScheme(decorationAreaType),
+                            skin.getEnabledColorScheme(decorationAreaType),
+                            skin.getDisabledColorScheme(decorationAreaType) }) {
+                        ColorSchemeFilter.getInterpolatedColors(scheme);
+                    }
+                    if ((decorationPainter instanceof ImageWrapperDecorationPainter)
+                            && ((decorationAreaType == RadianceThemingSlices.DecorationAreaType.NONE)
+                            || skin.isRegisteredAsDecorationArea(decorationAreaType))) {
+                        ((ImageWrapperDecorationPainter) decorationPainter)
+                                .prewarmColorizedTile(scale, backgroundScheme);
+                    }
+                });
+    }
+
+    /**
+     * Returns the entries of the UI defaults table that affect the layout of components - fonts,
+     * insets, dimensions, numbers and flags.
+     *
+     * @param uiDefaults UI defaults table.
+     * @return Layout-related entries of the UI defaults table.
+     */
+    public static Map<Object, Object> getLayoutDefaults(UIDefaults uiDefaults) {
+        Map<Object, Object> result = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : uiDefaults.entrySet()) {
+            Object value = entry.getValue();
+            if ((value instanceof Font) || (value instanceof Insets) || (value instanceof Dimension)
+                    || (value instanceof Number) || (value instanceof Boolean)) {
+                result.put(entry.getKey(), value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether switching between the specified skins can keep the installed UI delegates
+     * and only refresh the colors of the components. This is the case when the new skin does not
+     * change the button shaper and the layout-related entries of the UI defaults table.
+     *
+     * @param oldSkin              The previous skin.
+     * @param newSkin              The new skin.
+     * @param oldLayoutDefaults    Layout-related UI defaults before the new skin was applied.
+     * @param newLayoutDefaults    Layout-related UI defaults after the new skin was applied.
+     * @return <code>true</code> if the skin switch can be done without reinstalling UI
+     * delegates.
+     * @see #getLayoutDefaults(UIDefaults)
+     */
+    public static boolean canSwitchIncrementally(RadianceSkin oldSkin, RadianceSkin newSkin,
+            Map<Object, Object> oldLayoutDefaults, Map<Object, Object> newLayoutDefaults) {
+        if ((oldSkin == null) || (oldLayoutDefaults == null) || (newLayoutDefaults == null)) {
+            return false;
+        }
+        if (oldSkin.getButtonShaper().getClass() != newSkin.getButtonShaper().getClass()) {
+            return false;
+        }
+        return oldLayoutDefaults.equals(newLayoutDefaults);
+    }
 }
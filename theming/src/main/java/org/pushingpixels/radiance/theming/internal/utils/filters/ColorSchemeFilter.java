@@ -36,10 +36,9 @@ package org.pushingpixels.radiance.theming.internal.utils.filters;
 
 import org.pushingpixels.radiance.common.api.filter.RadianceAbstractFilter;
 import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
-import org.pushingpixels.radiance.theming.internal.utils.HashMapKey;
+import org.pushingpixels.radiance.theming.internal.utils.CacheKey;
 import org.pushingpixels.radiance.theming.internal.utils.LazyResettableHashMap;
 import org.pushingpixels.radiance.theming.internal.utils.RadianceColorUtilities;
-import org.pushingpixels.radiance.theming.internal.utils.RadianceCoreUtilities;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -57,24 +56,59 @@ public class ColorSchemeFilter extends RadianceAbstractFilter {
     private static final int MAPSTEPS = 512;
 
     private final static LazyResettableHashMap<ColorSchemeFilter> filters =
-            new LazyResettableHashMap<>("ColorSchemeFilter");
+            new LazyResettableHashMap<>("ColorSchemeFilter", 200);
+
+    private static final int MAX_CACHED_INTERPOLATIONS = 256;
+
+    /**
+     * Interpolated colors of color schemes. As the key contains all the scheme colors that the
+     * interpolation depends on, this cache is not cleared on skin change.
+     */
+    private static final Map<List<Integer>, int[]> interpolatedColors =
+            new LinkedHashMap<List<Integer>, int[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Integer>, int[]> eldest) {
+                    return this.size() > MAX_CACHED_INTERPOLATIONS;
+                }
+            };
 
     private float originalBrightnessFactor;
     private float alpha;
 
     public static ColorSchemeFilter getColorSchemeFilter(RadianceColorScheme scheme,
             float originalBrightnessFactor, float alpha) {
-        HashMapKey key = RadianceCoreUtilities.getHashKey(scheme.getDisplayName(),
-                originalBrightnessFactor, alpha);
-        ColorSchemeFilter filter = filters.get(key);
-        if (filter == null) {
-            filter = new ColorSchemeFilter(scheme, originalBrightnessFactor, alpha);
-            filters.put(key, filter);
-        }
-        return filter;
+        CacheKey key = CacheKey.of(scheme.getDisplayName(), originalBrightnessFactor, alpha);
+        return filters.get(key,
+                () -> new ColorSchemeFilter(scheme, originalBrightnessFactor, alpha));
     }
 
+    /**
+     * Returns the colors of the specified color scheme interpolated across the brightness range.
+     * The returned array is shared and must not be modified.
+     *
+     * @param scheme Color scheme.
+     * @return Interpolated colors of the color scheme.
+     */
     public static int[] getInterpolatedColors(RadianceColorScheme scheme) {
+        List<Integer> key = Arrays.asList(scheme.getUltraLightColor().getRGB(),
+                scheme.getExtraLightColor().getRGB(), scheme.getLightColor().getRGB(),
+                scheme.getMidColor().getRGB(), scheme.getDarkColor().getRGB(),
+                scheme.getUltraDarkColor().getRGB());
+        synchronized (interpolatedColors) {
+            int[] cached = interpolatedColors.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        int[] result = computeInterpolatedColors(scheme);
+        synchronized (interpolatedColors) {
+            interpolatedColors.put(key, result);
+        }
+        return result;
+    }
+
+    private static int[] computeInterpolatedColors(RadianceColorScheme scheme) {
         // collect the brightness factors of the color scheme
         Map<Integer, Color> schemeColorMapping = new TreeMap<>();
         int ultraLight = scheme.getUltraLightColor().getRGB();
@@ -184,23 +218,11 @@ public class ColorSchemeFilter extends RadianceAbstractFilter {
 
     @Override
     public BufferedImage filter(BufferedImage src, BufferedImage dst) {
-        if (dst == null) {
-            dst = createCompatibleDestImage(src, null);
-        }
-
-        int width = src.getWidth();
-        int height = src.getHeight();
-
-        int[] pixels = new int[width * height];
-        getPixels(src, 0, 0, width, height, pixels);
-        mixColor(pixels);
-        setPixels(dst, 0, 0, width, height, pixels);
-
-        return dst;
+        return filterPixels(src, dst, this::mixColor);
     }
 
-    private void mixColor(int[] pixels) {
-        for (int i = 0; i < pixels.length; i++) {
+    private void mixColor(int[] pixels, int from, int to) {
+        for (int i = from; i < to; i++) {
             int argb = pixels[i];
 
             int brightness = RadianceColorUtilities.getColorBrightness(argb);
@@ -48,28 +48,19 @@ public class ImageColorFilter extends RadianceAbstractFilter {
 
 	@Override
 	public BufferedImage filter(BufferedImage src, BufferedImage dst) {
-		if (dst == null) {
-			dst = createCompatibleDestImage(src, null);
-		}
-
-		int width = src.getWidth();
-		int height = src.getHeight();
+		return filterPixels(src, dst, this::colorize);
+	}
 
-		int[] pixels = new int[width * height];
-		getPixels(src, 0, 0, width, height, pixels);
-		
+	private void colorize(int[] pixels, int from, int to) {
 		int colorAlpha = (this.color >>> 24) & 0xFF;
 		int colorRed = (this.color >>> 16) & 0xFF;
 		int colorGreen = (this.color >>> 8) & 0xFF;
 		int colorBlue = this.color & 0xFF;
-		for (int i = 0; i < pixels.length; i++) {
+		for (int i = from; i < to; i++) {
 			// Multiply source alpha by the alpha in our target color
 			int alpha = (int) (this.alpha * ((pixels[i] >>> 24) & 0xFF) * colorAlpha / 256);
 			// and use R/G/B from our target color
 			pixels[i] = alpha << 24 | colorRed << 16 | colorGreen << 8 | colorBlue;
 		}
-		setPixels(dst, 0, 0, width, height, pixels);
-
-		return dst;
 	}
 }
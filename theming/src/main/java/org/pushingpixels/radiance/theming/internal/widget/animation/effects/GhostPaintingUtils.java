@@ -40,8 +40,8 @@ import org.pushingpixels.radiance.animation.api.Timeline.TimelineState;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Utility class that implements the ghost effects.
@@ -79,55 +79,121 @@ public class GhostPaintingUtils {
     public static float DECAY_FACTOR = 1.0f;
 
     /**
-     * Cache of component ghost images. Used to speed up the rendering of the ghost effects.
+     * Number of steps that the progress of ghost animations is quantized to. The ghost images are
+     * cached for each step, so that consecutive animation frames reuse the same images.
      */
-    private static LinkedHashMap<String, BufferedImage> componentGhostCache = new LinkedHashMap<>() {
+    private static final int PROGRESS_STEPS = 24;
+
+    /**
+     * Key of the ghost images cached for the current run of a ghost animation - see
+     * {@link GhostingListener#getPressGhostImages()} and
+     * {@link GhostingListener#getRolloverGhostImages()}.
+     */
+    private static final class GhostImageKey {
+        private final double scale;
+
+        private final int progressStep;
+
+        private final Icon icon;
+
+        private final int width;
+
+        private final int height;
+
+        private GhostImageKey(double scale, int progressStep, Icon icon, int width, int height) {
+            this.scale = scale;
+            this.progressStep = progressStep;
+            this.icon = icon;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(this.scale);
+            result = 31 * result + this.progressStep;
+            result = 31 * result + System.identityHashCode(this.icon);
+            result = 31 * result + this.width;
+            result = 31 * result + this.height;
+            return result;
+        }
+
         @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry<String, BufferedImage> eldest) {
-            return this.size() > 50;
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GhostImageKey)) {
+                return false;
+            }
+            GhostImageKey key2 = (GhostImageKey) obj;
+            return (this.scale == key2.scale) && (this.progressStep == key2.progressStep)
+                    && (this.icon == key2.icon) && (this.width == key2.width)
+                    && (this.height == key2.height);
         }
-    };
+    }
 
     /**
-     * Cache of icon ghost images. Used to speed up the rendering of the ghost effects.
+     * Returns the cached ghost image, or creates and caches a new one. The images are cached
+     * only for the current run of the ghost animation of the component, so that a component
+     * that changes its content between the runs does not get a stale ghost image.
      */
-    private static LinkedHashMap<String, BufferedImage> iconGhostCache = new LinkedHashMap<>() {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry<String, BufferedImage> eldest) {
-            return this.size() > 50;
+    private static BufferedImage getGhostImage(Map<Object, BufferedImage> runImages,
+            GhostImageKey key, Supplier<BufferedImage> creator) {
+        if (runImages == null) {
+            return creator.get();
         }
-    };
+        synchronized (runImages) {
+            BufferedImage result = runImages.get(key);
+            if (result == null) {
+                result = creator.get();
+                runImages.put(key, result);
+            }
+            return result;
+        }
+    }
+
+    private static GhostingListener getGhostingListener(JComponent comp) {
+        return (GhostingListener) comp.getClientProperty(GhostingListener.GHOST_LISTENER_KEY);
+    }
+
+    /**
+     * Returns the quantized progress step of the specified timeline position.
+     *
+     * @param timelinePosition
+     *            Timeline position.
+     * @return Progress step between <code>0</code> and {@link #PROGRESS_STEPS}.
+     */
+    private static int getProgressStep(float timelinePosition) {
+        return Math.round(Math.max(0.0f, Math.min(1.0f, timelinePosition)) * PROGRESS_STEPS);
+    }
 
     /**
      * Returns a scaled ghost image of the specified component.
      * 
      * @param comp
      *            Component.
-     * @param ghostScaleFactor
-     *            Scale factor.
+     * @param progressStep
+     *            Quantized progress of the ghost press animation.
      * @return A scaled ghost image of the specified component.
      */
-    private static synchronized BufferedImage getComponentGhostImage(JComponent comp,
-            Timeline ghostPressTimeline, double ghostScaleFactor) {
+    private static BufferedImage getComponentGhostImage(JComponent comp, int progressStep) {
         double scale = RadianceCommonCortex.getScaleFactor(comp);
-        String key = scale + ":"  + ghostPressTimeline.getTimelinePosition() + ":" +
-                comp.hashCode() + ":" + ghostScaleFactor;
-
-        BufferedImage result = componentGhostCache.get(key);
-        if (result == null) {
-            Rectangle bounds = comp.getBounds();
-
+        Rectangle bounds = comp.getBounds();
+        GhostImageKey key = new GhostImageKey(scale, progressStep, null,
+                bounds.width, bounds.height);
+        GhostingListener ghostingListener = getGhostingListener(comp);
+
+        return getGhostImage((ghostingListener != null) ? ghostingListener.getPressGhostImages() : null,
+                key, () -> {
+            double ghostScaleFactor = 1.0 + (double) progressStep / PROGRESS_STEPS;
             double iWidth = bounds.width * ghostScaleFactor;
             double iHeight = bounds.height * ghostScaleFactor;
-            result = RadianceCoreUtilities.getBlankImage(scale, (int) iWidth, (int) iHeight);
+            BufferedImage result = RadianceCoreUtilities.getBlankImage(scale,
+                    (int) iWidth, (int) iHeight);
             Graphics2D iGraphics = result.createGraphics();
             iGraphics.scale(ghostScaleFactor, ghostScaleFactor);
             comp.paint(iGraphics);
             iGraphics.dispose();
-
-            componentGhostCache.put(key, result);
-        }
-        return result;
+            return result;
+        });
     }
 
     /**
@@ -137,31 +203,31 @@ public class GhostPaintingUtils {
      *            Component.
      * @param icon
      *            Icon.
-     * @param ghostScaleFactor
-     *            Scale factor.
+     * @param progressStep
+     *            Quantized progress of the ghost rollover animation.
      * @return A scaled ghost image of the specified icon.
      */
-    private static synchronized BufferedImage getIconGhostImage(JComponent comp,
-            Timeline ghostRolloverTimeline, Icon icon, double ghostScaleFactor) {
+    private static BufferedImage getIconGhostImage(JComponent comp, Icon icon,
+            int progressStep) {
         double scale = RadianceCommonCortex.getScaleFactor(comp);
-        String key = scale + ":" + ghostRolloverTimeline.getTimelinePosition() + ":" +
-                comp.hashCode() + ":" + icon.hashCode() + ":" + ghostScaleFactor;
-
-        BufferedImage result = iconGhostCache.get(key);
-        if (result == null) {
-            int oWidth = icon.getIconWidth();
-            int oHeight = icon.getIconHeight();
+        int oWidth = icon.getIconWidth();
+        int oHeight = icon.getIconHeight();
+        GhostImageKey key = new GhostImageKey(scale, progressStep, icon, oWidth, oHeight);
+        GhostingListener ghostingListener = getGhostingListener(comp);
+
+        return getGhostImage((ghostingListener != null) ? ghostingListener.getRolloverGhostImages() : null,
+                key, () -> {
+            double ghostScaleFactor = 1.0 + (double) progressStep / PROGRESS_STEPS;
             double iWidth = oWidth * ghostScaleFactor;
             double iHeight = oHeight * ghostScaleFactor;
-            result = RadianceCoreUtilities.getBlankImage(scale, (int) iWidth, (int) iHeight);
+            BufferedImage result = RadianceCoreUtilities.getBlankImage(scale,
+                    (int) iWidth, (int) iHeight);
             Graphics2D iGraphics = result.createGraphics();
             iGraphics.scale(ghostScaleFactor, ghostScaleFactor);
             icon.paintIcon(comp, iGraphics, 0, 0);
             iGraphics.dispose();
-
-            iconGhostCache.put(key, result);
-        }
-        return result;
+            return result;
+        });
     }
 
     /**
@@ -234,14 +300,13 @@ public class GhostPaintingUtils {
                     double start = MAX_PRESS_GHOSTING_ALPHA - 0.0015 * compRect.getWidth();
                     float coef = Math.max((float) start, MIN_PRESS_GHOSTING_ALPHA);
                     float opFactor = coef * (1.0f - DECAY_FACTOR * fade);
-                    double iFactor = 1.0 + fade;
 
                     graphics.setComposite(
                             WidgetUtilities.getAlphaComposite(mainComponent, opFactor));
 
                     Rectangle bounds = comp.getBounds();
 
-                    BufferedImage ghost = getComponentGhostImage(comp, timeline, iFactor);
+                    BufferedImage ghost = getComponentGhostImage(comp, getProgressStep(fade));
                     dx -= ((ghost.getWidth() - bounds.width) / 2);
                     dy -= ((ghost.getHeight() - bounds.height) / 2);
                     graphics.drawImage(ghost, dx, dy, null);
@@ -292,8 +357,8 @@ public class GhostPaintingUtils {
                         }
 
                         if ((icon != null) && (iconRect != null)) {
-                            double iFactor = 1.0 + fade;
-                            BufferedImage iImage = getIconGhostImage(comp, timeline, icon, iFactor);
+                            BufferedImage iImage = getIconGhostImage(comp, icon,
+                                    getProgressStep(fade));
 
                             int iWidth = iImage.getWidth();
                             int iHeight = iImage.getHeight();
@@ -367,9 +432,8 @@ public class GhostPaintingUtils {
         if (ghostRolloverTimeline.getState() != TimelineState.IDLE) {
             float fade = ghostRolloverTimeline.getTimelinePosition();
             if ((icon != null) && (iconRectangle != null)) {
-                double iFactor = 1.0 + fade;
-                BufferedImage iImage = getIconGhostImage((JComponent) b, ghostRolloverTimeline,
-                        icon, iFactor);
+                BufferedImage iImage = getIconGhostImage((JComponent) b, icon,
+                        getProgressStep(fade));
 
                 int iWidth = iImage.getWidth();
                 int iHeight = iImage.getHeight();
@@ -42,6 +42,7 @@ import org.pushingpixels.radiance.animation.api.swing.SwingRepaintCallback;
 import javax.swing.*;
 import javax.swing.event.ChangeListener;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -77,6 +78,16 @@ public class GhostingListener {
 
     private Timeline ghostComponentPressedTimeline;
 
+    /**
+     * Ghost images of the component cached for the current run of the press ghost animation.
+     */
+    private final Map<Object, BufferedImage> pressGhostImages = new HashMap<>();
+
+    /**
+     * Ghost images of the icon cached for the current run of the rollover ghost animation.
+     */
+    private final Map<Object, BufferedImage> rolloverGhostImages = new HashMap<>();
+
     private static Map<JComponent, Timeline> runningGhostRolloverTimelines = new HashMap<>();
 
     private static Map<JComponent, Timeline> runningGhostPressTimelines = new HashMap<>();
@@ -174,6 +185,8 @@ public class GhostingListener {
                         runningGhostRolloverTimelines.values().remove(ghostIconRolloverTimeline);
                         runningGhostPressTimelines.values().remove(ghostComponentPressedTimeline);
                     }
+                    clearGhostImages(rolloverGhostImages);
+                    clearGhostImages(pressGhostImages);
                 }
             }
 
@@ -209,12 +222,14 @@ public class GhostingListener {
                         synchronized (GhostingListener.class) {
                             runningGhostRolloverTimelines.put(comp, ghostIconRolloverTimeline);
                         }
+                        clearGhostImages(this.rolloverGhostImages);
                         ghostIconRolloverTimeline.play();
                     }
                     if (animationFacet == AnimationFacet.GHOSTING_BUTTON_PRESS) {
                         synchronized (GhostingListener.class) {
                             runningGhostPressTimelines.put(comp, ghostComponentPressedTimeline);
                         }
+                        clearGhostImages(this.pressGhostImages);
                         ghostComponentPressedTimeline.play();
                     }
                 }
@@ -258,6 +273,32 @@ public class GhostingListener {
         return Collections.unmodifiableMap(runningGhostPressTimelines);
     }
 
+    private static void clearGhostImages(Map<Object, BufferedImage> ghostImages) {
+        synchronized (ghostImages) {
+            ghostImages.clear();
+        }
+    }
+
+    /**
+     * Returns the ghost images of the component cached for the current run of the press ghost
+     * animation. The images are discarded when the animation starts and when it ends.
+     *
+     * @return The ghost images of the component for the current press ghost animation.
+     */
+    Map<Object, BufferedImage> getPressGhostImages() {
+        return this.pressGhostImages;
+    }
+
+    /**
+     * Returns the ghost images of the icon cached for the current run of the rollover ghost
+     * animation. The images are discarded when the animation starts and when it ends.
+     *
+     * @return The ghost images of the icon for the current rollover ghost animation.
+     */
+    Map<Object, BufferedImage> getRolloverGhostImages() {
+        return this.rolloverGhostImages;
+    }
+
     public Timeline getGhostComponentPressedTimeline() {
         return ghostComponentPressedTimeline;
     }
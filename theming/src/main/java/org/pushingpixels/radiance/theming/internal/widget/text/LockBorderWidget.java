@@ -74,6 +74,9 @@ public class LockBorderWidget extends RadianceThemingWidget<JTextComponent> {
                 return;
             if (LockBorderWidget.ORIGINAL_BORDER.equals(propertyChangeEvent.getPropertyName()))
                 return;
+            // Only schedule the lock border update if the lock border is out of sync
+            if (LockBorderWidget.hasLockIcon(jcomp) == isLockBorderInstalled())
+                return;
             SwingUtilities.invokeLater(() -> {
                 // fix for defect 7 - not removing lock border
                 // on LAF switch
@@ -139,6 +142,15 @@ public class LockBorderWidget extends RadianceThemingWidget<JTextComponent> {
         }
     }
 
+    /**
+     * Checks whether the lock border is installed on the associated component.
+     *
+     * @return <code>true</code> if the lock border is installed, <code>false</code> otherwise.
+     */
+    private boolean isLockBorderInstalled() {
+        return (jcomp.getClientProperty(LockBorderWidget.ORIGINAL_BORDER) instanceof Border);
+    }
+
     /**
      * Restores the original border on the associated component.
      */
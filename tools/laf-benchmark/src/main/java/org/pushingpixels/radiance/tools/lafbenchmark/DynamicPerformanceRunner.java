@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.lafbenchmark;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.*;
+
+/**
+ * Command-line entry point that runs the scenarios of {@link DynamicPerformanceSuite} without
+ * any user interaction, and writes the measurements as JSON and / or CSV. The scenarios are
+ * displayed in a frame, so this requires a display (such as Xvfb on a CI machine).
+ *
+ * <p>Supported options:</p>
+ * <ul>
+ * <li><code>--laf</code> comma-separated list of look-and-feel class names. Defaults to the
+ * current look-and-feel (which can be set with <code>-Dswing.defaultlaf</code>).</li>
+ * <li><code>--tabs</code> comma-separated list of tabs to run the scenarios of. Defaults to
+ * <code>Buttons,Combos,Table,List</code>. Use <code>all</code> for all tabs.</li>
+ * <li><code>--scenario</code> the name of a single scenario to run.</li>
+ * <li><code>--warmup</code> number of warmup rounds. Defaults to 5.</li>
+ * <li><code>--iterations</code> number of measured rounds. Defaults to 10.</li>
+ * <li><code>--json</code> file to write the measurements to in JSON format.</li>
+ * <li><code>--csv</code> file to write the measurements to in CSV format.</li>
+ * </ul>
+ *
+ * @author Kirill Grouchnikov
+ */
+public class DynamicPerformanceRunner {
+    private static final String DEFAULT_TABS = "Buttons,Combos,Table,List";
+
+    /**
+     * Measurements of all the measured rounds of a single scenario under a single
+     * look-and-feel.
+     */
+    private static class ScenarioResult {
+        private final String lookAndFeel;
+
+        private final String tabTitle;
+
+        private final String scenarioName;
+
+        private final List<DynamicPerformanceSuite.ScenarioMeasurement> measurements =
+                new ArrayList<>();
+
+        private ScenarioResult(String lookAndFeel, String tabTitle, String scenarioName) {
+            this.lookAndFeel = lookAndFeel;
+            this.tabTitle = tabTitle;
+            this.scenarioName = scenarioName;
+        }
+    }
+
+    private final List<String> lookAndFeels;
+
+    private final Set<String> tabTitles;
+
+    private final String scenarioName;
+
+    private final int warmupRounds;
+
+    private final int measuredRounds;
+
+    private final List<ScenarioResult> results = new ArrayList<>();
+
+    private DynamicPerformanceRunner(Map<String, String> options) {
+        String lafOption = options.get("laf");
+        this.lookAndFeels = (lafOption == null) ? Collections.singletonList(null)
+                : Arrays.asList(lafOption.split(","));
+        String tabsOption = options.getOrDefault("tabs", DEFAULT_TABS);
+        this.tabTitles = "all".equals(tabsOption) ? null
+                : new HashSet<>(Arrays.asList(tabsOption.split(",")));
+        this.scenarioName = options.get("scenario");
+        this.warmupRounds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        this.measuredRounds = Integer.parseInt(options.getOrDefault("iterations", "10"));
+    }
+
+    private void run() throws Exception {
+        for (String lookAndFeel : this.lookAndFeels) {
+            DynamicPerformanceSuite[] suite = new DynamicPerformanceSuite[1];
+            SwingUtilities.invokeAndWait(() -> {
+                if (lookAndFeel != null) {
+                    try {
+                        UIManager.setLookAndFeel(lookAndFeel);
+                    } catch (Exception exc) {
+                        throw new IllegalArgumentException("Could not set " + lookAndFeel, exc);
+                    }
+                }
+                JFrame.setDefaultLookAndFeelDecorated(true);
+                suite[0] = new DynamicPerformanceSuite();
+                suite[0].initialize();
+            });
+            String lookAndFeelName = UIManager.getLookAndFeel().getClass().getName();
+            System.out.println("Running scenarios under " + lookAndFeelName);
+
+            Map<PerformanceScenario, ScenarioResult> lookAndFeelResults = new LinkedHashMap<>();
+            for (int round = 0; round < this.warmupRounds + this.measuredRounds; round++) {
+                boolean isMeasured = (round >= this.warmupRounds);
+                for (Map.Entry<String, DynamicPerformanceSuite.ComponentInfo> entry :
+                        suite[0].scenarios.entrySet()) {
+                    String tabTitle = entry.getKey();
+                    if ((this.tabTitles != null) && !this.tabTitles.contains(tabTitle)) {
+                        continue;
+                    }
+                    Component tabComponent = entry.getValue().tabComponent;
+                    for (PerformanceScenario scenario : entry.getValue().scenarios) {
+                        if ((this.scenarioName != null)
+                                && !this.scenarioName.equals(scenario.getName())) {
+                            continue;
+                        }
+                        DynamicPerformanceSuite.ScenarioMeasurement measurement =
+                                suite[0].runScenario(tabComponent, scenario);
+                        if (isMeasured) {
+                            lookAndFeelResults.computeIfAbsent(scenario,
+                                    key -> new ScenarioResult(lookAndFeelName, tabTitle,
+                                            scenario.getName())).measurements.add(measurement);
+                        }
+                    }
+                }
+                System.out.println((isMeasured ? "Measured" : "Warmup") + " round "
+                        + (isMeasured ? (round - this.warmupRounds) : round) + " done");
+            }
+            this.results.addAll(lookAndFeelResults.values());
+            suite[0].dispose();
+        }
+    }
+
+    private void writeJson(String fileName) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(fileName),
+                StandardCharsets.UTF_8))) {
+            writer.println("{");
+            writer.println("  \"javaVersion\": " + quote(System.getProperty("java.version")) + ",");
+            writer.println("  \"osName\": " + quote(System.getProperty("os.name")) + ",");
+            writer.println("  \"warmupIterations\": " + this.warmupRounds + ",");
+            writer.println("  \"measuredIterations\": " + this.measuredRounds + ",");
+            writer.println("  \"results\": [");
+            for (int i = 0; i < this.results.size(); i++) {
+                ScenarioResult result = this.results.get(i);
+                writer.println("    {");
+                writer.println("      \"lookAndFeel\": " + quote(result.lookAndFeel) + ",");
+                writer.println("      \"tab\": " + quote(result.tabTitle) + ",");
+                writer.println("      \"scenario\": " + quote(result.scenarioName) + ",");
+                writer.println("      \"wallTimeNanos\": "
+                        + toJsonArray(result, measurement -> measurement.wallTime) + ",");
+                writer.println("      \"edtCpuTimeNanos\": "
+                        + toJsonArray(result, measurement -> measurement.edtCpuTime) + ",");
+                writer.println("      \"edtUserTimeNanos\": "
+                        + toJsonArray(result, measurement -> measurement.edtUserTime) + ",");
+                writer.println("      \"edtAllocatedBytes\": "
+                        + toJsonArray(result, measurement -> measurement.edtAllocatedBytes));
+                writer.println((i < this.results.size() - 1) ? "    }," : "    }");
+            }
+            writer.println("  ]");
+            writer.println("}");
+        }
+    }
+
+    private void writeCsv(String fileName) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(fileName),
+                StandardCharsets.UTF_8))) {
+            writer.println("lookAndFeel,tab,scenario,iteration,wallTimeNanos,edtCpuTimeNanos,"
+                    + "edtUserTimeNanos,edtAllocatedBytes");
+            for (ScenarioResult result : this.results) {
+                for (int i = 0; i < result.measurements.size(); i++) {
+                    DynamicPerformanceSuite.ScenarioMeasurement measurement =
+                            result.measurements.get(i);
+                    writer.println(csvQuote(result.lookAndFeel) + "," + csvQuote(result.tabTitle)
+                            + "," + csvQuote(result.scenarioName) + "," + i + ","
+                            + measurement.wallTime + "," + measurement.edtCpuTime + ","
+                            + measurement.edtUserTime + "," + measurement.edtAllocatedBytes);
+                }
+            }
+        }
+    }
+
+    private interface MeasurementField {
+        long get(DynamicPerformanceSuite.ScenarioMeasurement measurement);
+    }
+
+    private static String toJsonArray(ScenarioResult result, MeasurementField field) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (DynamicPerformanceSuite.ScenarioMeasurement measurement : result.measurements) {
+            joiner.add(Long.toString(field.get(measurement)));
+        }
+        return joiner.toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder result = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private static String csvQuote(String value) {
+        if ((value.indexOf(',') < 0) && (value.indexOf('"') < 0)) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || (i == args.length - 1)) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            result.put(args[i].substring(2), args[++i]);
+        }
+        return result;
+    }
+
+    public static void main(String[] args) {
+        int exitCode = 0;
+        try {
+            Map<String, String> options = parseOptions(args);
+            DynamicPerformanceRunner runner = new DynamicPerformanceRunner(options);
+            runner.run();
+            if (options.containsKey("json")) {
+                runner.writeJson(options.get("json"));
+            }
+            if (options.containsKey("csv")) {
+                runner.writeCsv(options.get("csv"));
+            }
+        } catch (Throwable t) {
+            t.printStackTrace();
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+}
@@ -48,6 +48,8 @@ import java.util.concurrent.Executors;
 public class DynamicPerformanceSuite {
     private ThreadMXBean threadBean;
 
+    private com.sun.management.ThreadMXBean allocationThreadBean;
+
     private long edtThreadId;
 
     public class ComponentInfo {
@@ -90,6 +92,24 @@ public class DynamicPerformanceSuite {
         }
     }
 
+    /**
+     * Measurements of a single run of a performance scenario. All the times are in
+     * nanoseconds.
+     */
+    public static class ScenarioMeasurement {
+        public long wallTime;
+
+        public long edtCpuTime;
+
+        public long edtUserTime;
+
+        /**
+         * Bytes allocated on the Event Dispatch Thread, or -1 if the JVM does not support
+         * measuring thread allocations.
+         */
+        public long edtAllocatedBytes;
+    }
+
     public DynamicPerformanceSuite() {
         this.scenarios = new TreeMap<>();
         this.tabs = new JTabbedPane();
@@ -106,6 +126,16 @@ public class DynamicPerformanceSuite {
             e.printStackTrace();
         }
 
+        ThreadMXBean platformThreadBean = ManagementFactory.getThreadMXBean();
+        if (platformThreadBean instanceof com.sun.management.ThreadMXBean) {
+            this.allocationThreadBean = (com.sun.management.ThreadMXBean) platformThreadBean;
+            if (this.allocationThreadBean.isThreadAllocatedMemorySupported()) {
+                this.allocationThreadBean.setThreadAllocatedMemoryEnabled(true);
+            } else {
+                this.allocationThreadBean = null;
+            }
+        }
+
         long threadIds[] = threadBean.getAllThreadIds();
         for (long threadId : threadIds) {
             ThreadInfo threadInfo = threadBean.getThreadInfo(threadId, Integer.MAX_VALUE);
@@ -210,79 +240,10 @@ public class DynamicPerformanceSuite {
                 // System.out.println("Running "
                 // + scenario.getName());
 
-                final boolean isTabPanel = (tabs.indexOfComponent(tabComponent) >= 0);
-                try {
-                    // must run scenario setup on EDT since most probably it involves UI-related operations
-                    SwingUtilities.invokeAndWait(() -> {
-                        tabs.setVisible(isTabPanel);
-                        if (!isTabPanel) {
-                            tabs.setSelectedIndex(0);
-                        } else {
-                            tabs.setSelectedComponent(tabComponent);
-                        }
-                        scenario.setup();
-                    });
-                } catch (Exception exc) {
-                    exc.printStackTrace();
-                    System.exit(1);
-                }
-
-                final int iterationCount = scenario.getIterationCount();
-                final CountDownLatch latch = new CountDownLatch(1);
-                long start = System.nanoTime();
-
-                long startEdtUser = threadBean.getThreadUserTime(edtThreadId);
-                long startEdtCPU = threadBean.getThreadCpuTime(edtThreadId);
-
-                SwingWorker<Void, Integer> worker = new SwingWorker<>() {
-                    @Override
-                    protected Void doInBackground() throws Exception {
-                        // System.out
-                        // .println("Started working");
-                        for (int i = 0; i < iterationCount; i++) {
-                            this.publish(i);
-                        }
-                        return null;
-                    }
-
-                    @Override
-                    protected void process(List<Integer> chunks) {
-                        // System.out.println("Running "
-                        // + chunks.size());
-                        for (int chunk : chunks) {
-                            if (!isCancelled)
-                                scenario.runSingleIteration(chunk);
-                        }
-                    }
-
-                    @Override
-                    protected void done() {
-                        // System.out.println("Done");
-                        latch.countDown();
-                    }
-                };
-                worker.execute();
-
-                try {
-                    latch.await();
-                } catch (InterruptedException ie) {
-                }
-
-                long end = System.nanoTime();
-                long time = end - start;
-
-                long endEdtUser = threadBean.getThreadUserTime(edtThreadId);
-                long endEdtCPU = threadBean.getThreadCpuTime(edtThreadId);
-
-                long edtUserTime = endEdtUser - startEdtUser;
-                long edtCPUTime = endEdtCPU - startEdtCPU;
-
-                try {
-                    SwingUtilities.invokeAndWait(scenario::tearDown);
-                } catch (Exception exc) {
-                    exc.printStackTrace();
-                    System.exit(1);
-                }
+                ScenarioMeasurement measurement = this.runScenario(tabComponent, scenario);
+                long time = measurement.wallTime;
+                long edtUserTime = measurement.edtUserTime;
+                long edtCPUTime = measurement.edtCpuTime;
 
                 StringBuilder sbKey = new StringBuilder();
                 Formatter keyFormatter = new Formatter(sbKey, Locale.US);
@@ -310,6 +271,110 @@ public class DynamicPerformanceSuite {
         System.out.println();
     }
 
+    /**
+     * Runs all the iterations of the specified scenario. This method must not be called on
+     * the Event Dispatch Thread.
+     *
+     * @param tabComponent The component that hosts the scenario.
+     * @param scenario     Scenario to run.
+     * @return The measurements of this run.
+     */
+    ScenarioMeasurement runScenario(Component tabComponent, PerformanceScenario scenario) {
+        final boolean isTabPanel = (tabs.indexOfComponent(tabComponent) >= 0);
+        try {
+            // must run scenario setup on EDT since most probably it involves UI-related operations
+            SwingUtilities.invokeAndWait(() -> {
+                tabs.setVisible(isTabPanel);
+                if (!isTabPanel) {
+                    tabs.setSelectedIndex(0);
+                } else {
+                    tabs.setSelectedComponent(tabComponent);
+                }
+                scenario.setup();
+            });
+        } catch (Exception exc) {
+            exc.printStackTrace();
+            System.exit(1);
+        }
+
+        final int iterationCount = scenario.getIterationCount();
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        long startEdtUser = threadBean.getThreadUserTime(edtThreadId);
+        long startEdtCPU = threadBean.getThreadCpuTime(edtThreadId);
+        long startEdtAllocated = this.getEdtAllocatedBytes();
+
+        SwingWorker<Void, Integer> worker = new SwingWorker<>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                // System.out
+                // .println("Started working");
+                for (int i = 0; i < iterationCount; i++) {
+                    this.publish(i);
+                }
+                return null;
+            }
+
+            @Override
+            protected void process(List<Integer> chunks) {
+                // System.out.println("Running "
+                // + chunks.size());
+                for (int chunk : chunks) {
+                    if (!isCancelled)
+                        scenario.runSingleIteration(chunk);
+                }
+            }
+
+            @Override
+            protected void done() {
+                // System.out.println("Done");
+                latch.countDown();
+            }
+        };
+        worker.execute();
+
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+        }
+
+        ScenarioMeasurement result = new ScenarioMeasurement();
+        result.wallTime = System.nanoTime() - start;
+        result.edtUserTime = threadBean.getThreadUserTime(edtThreadId) - startEdtUser;
+        result.edtCpuTime = threadBean.getThreadCpuTime(edtThreadId) - startEdtCPU;
+        result.edtAllocatedBytes = (startEdtAllocated < 0) ? -1
+                : this.getEdtAllocatedBytes() - startEdtAllocated;
+
+        try {
+            SwingUtilities.invokeAndWait(scenario::tearDown);
+        } catch (Exception exc) {
+            exc.printStackTrace();
+            System.exit(1);
+        }
+
+        return result;
+    }
+
+    private long getEdtAllocatedBytes() {
+        if (this.allocationThreadBean == null) {
+            return -1;
+        }
+        return this.allocationThreadBean.getThreadAllocatedBytes(this.edtThreadId);
+    }
+
+    /**
+     * Disposes the frame of this suite. Used by {@link DynamicPerformanceRunner} to run the
+     * scenarios under a different look-and-feel in a new frame.
+     */
+    void dispose() {
+        try {
+            SwingUtilities.invokeAndWait(() -> this.frame.dispose());
+        } catch (Exception exc) {
+            exc.printStackTrace();
+        }
+    }
+
     public static void main(final String[] args) {
         SwingUtilities.invokeLater(() -> {
             JFrame.setDefaultLookAndFeelDecorated(true);
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.animation.api;
+
+import org.openjdk.jmh.annotations.*;
+import org.pushingpixels.radiance.animation.api.callback.TimelineCallbackAdapter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmarks for a single pulse of {@link TimelineEngine#updateTimelines()} over a number of
+ * looping timelines. This class lives in the package of the timeline engine as the engine is
+ * not part of the public API.
+ *
+ * <p>The engine's own pulse thread is kept parked so that the benchmark thread is the only
+ * one updating the timelines. The callbacks are still delivered on the engine's callback
+ * thread, and every iteration waits for that thread to catch up before starting the next
+ * one.</p>
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimelineEngineBenchmark {
+    private static class ParkedPulseSource implements RadianceAnimationCortex.PulseSource {
+        @Override
+        public void waitUntilNextPulse() {
+            while (true) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    public static class Target {
+        private float value;
+
+        public void setValue(float value) {
+            this.value = value;
+        }
+    }
+
+    @Param({"100", "1000", "10000"})
+    public int timelineCount;
+
+    @Param({"false", "true"})
+    public boolean withProperty;
+
+    private TimelineEngine engine;
+
+    private long pulseCount;
+
+    private final AtomicLong probePulseCount = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        if (!(RadianceAnimationCortex.getPulseSource() instanceof ParkedPulseSource)) {
+            RadianceAnimationCortex.setPulseSource(new ParkedPulseSource());
+        }
+        this.engine = TimelineEngine.getInstance();
+
+        // Use a duration long enough for the timelines to never reach the end of the
+        // cycle, so that every pass over the timelines produces one pulse per timeline
+        for (int i = 0; i < this.timelineCount - 1; i++) {
+            Timeline.Builder builder = Timeline.builder(new Target())
+                    .setDuration(Integer.MAX_VALUE);
+            if (this.withProperty) {
+                builder.addPropertyToInterpolate("value", 0.0f, 1.0f);
+            }
+            builder.build().playLoop(Timeline.RepeatBehavior.REVERSE);
+        }
+        Timeline probe = Timeline.builder()
+                .setDuration(Integer.MAX_VALUE)
+                .addCallback(new TimelineCallbackAdapter() {
+                    @Override
+                    public void onTimelinePulse(float durationFraction, float timelinePosition) {
+                        probePulseCount.incrementAndGet();
+                    }
+                })
+                .build();
+        probe.playLoop(Timeline.RepeatBehavior.REVERSE);
+
+        this.engine.updateTimelines();
+        this.pulseCount = 1;
+        this.awaitCallbacks();
+    }
+
+    @TearDown(Level.Iteration)
+    public void awaitCallbacks() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while ((this.probePulseCount.get() < this.pulseCount) && (System.nanoTime() < deadline)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    @Benchmark
+    public void updateTimelines() {
+        this.engine.updateTimelines();
+        this.pulseCount++;
+    }
+}
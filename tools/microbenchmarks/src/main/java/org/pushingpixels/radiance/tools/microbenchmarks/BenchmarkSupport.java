@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.pushingpixels.radiance.theming.api.RadianceSkin;
+import org.pushingpixels.radiance.theming.api.RadianceThemingCortex;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Shared setup code for the benchmarks that need a Radiance skin installed.
+ *
+ * @author Kirill Grouchnikov
+ */
+final class BenchmarkSupport {
+    /**
+     * Number of operations performed by the benchmarks that have to run on the Event
+     * Dispatch Thread in a single {@link SwingUtilities#invokeAndWait(Runnable)} call.
+     */
+    static final int EVENT_DISPATCH_THREAD_BATCH = 1000;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Installs the specified skin as the global Radiance skin.
+     *
+     * @param skinClassName Fully qualified class name of the skin.
+     * @return The installed skin.
+     */
+    static RadianceSkin installSkin(String skinClassName) {
+        runOnEventDispatchThread(() -> {
+            if (!RadianceThemingCortex.GlobalScope.setSkin(skinClassName)) {
+                throw new IllegalArgumentException("Could not install " + skinClassName);
+            }
+        });
+        return RadianceThemingCortex.GlobalScope.getCurrentSkin();
+    }
+
+    /**
+     * Runs the specified runnable on the Event Dispatch Thread and waits for it to complete.
+     *
+     * @param runnable Runnable to run.
+     */
+    static void runOnEventDispatchThread(Runnable runnable) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            runnable.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exc);
+        } catch (InvocationTargetException exc) {
+            throw new IllegalStateException(exc.getCause());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pushingpixels.radiance.theming.api.ComponentState;
+import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
+import org.pushingpixels.radiance.theming.internal.animation.StateTransitionTracker;
+import org.pushingpixels.radiance.theming.internal.blade.BladeColorScheme;
+import org.pushingpixels.radiance.theming.internal.blade.BladeUtils;
+import org.pushingpixels.radiance.theming.internal.utils.RadianceColorSchemeUtilities;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for resolving the color scheme of a button, with and without populating the
+ * blade color scheme used by the UI delegates during painting.
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ColorSchemeBenchmark {
+    private static final ComponentState[] STATES = {
+            ComponentState.ENABLED, ComponentState.ROLLOVER_UNSELECTED,
+            ComponentState.PRESSED_UNSELECTED, ComponentState.SELECTED,
+            ComponentState.DISABLED_UNSELECTED
+    };
+
+    @Param({"org.pushingpixels.radiance.theming.api.skin.BusinessSkin",
+            "org.pushingpixels.radiance.theming.api.skin.GraphiteSkin",
+            "org.pushingpixels.radiance.theming.api.skin.NebulaSkin"})
+    public String skinClassName;
+
+    private JButton button;
+
+    private StateTransitionTracker.ModelStateInfo modelStateInfo;
+
+    private BladeColorScheme bladeColorScheme;
+
+    private Runnable populateBatch;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.installSkin(this.skinClassName);
+        BenchmarkSupport.runOnEventDispatchThread(() -> {
+            this.button = new JButton("Benchmark");
+            JPanel panel = new JPanel();
+            panel.add(this.button);
+            this.modelStateInfo = new StateTransitionTracker(this.button,
+                    this.button.getModel()).getModelStateInfo();
+        });
+        this.bladeColorScheme = new BladeColorScheme();
+        this.populateBatch = () -> {
+            for (int i = 0; i < BenchmarkSupport.EVENT_DISPATCH_THREAD_BATCH; i++) {
+                BladeUtils.populateColorScheme(this.bladeColorScheme, this.button,
+                        this.modelStateInfo, ComponentState.ROLLOVER_UNSELECTED,
+                        RadianceThemingSlices.ColorSchemeAssociationKind.FILL, false);
+            }
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void getColorScheme(Blackhole blackhole) {
+        for (ComponentState state : STATES) {
+            blackhole.consume(RadianceColorSchemeUtilities.getColorScheme(this.button, state));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void getBorderColorScheme(Blackhole blackhole) {
+        for (ComponentState state : STATES) {
+            blackhole.consume(RadianceColorSchemeUtilities.getColorScheme(this.button,
+                    RadianceThemingSlices.ColorSchemeAssociationKind.BORDER, state));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.EVENT_DISPATCH_THREAD_BATCH)
+    public BladeColorScheme populateColorScheme() {
+        // Color scheme population is only allowed on the Event Dispatch Thread
+        BenchmarkSupport.runOnEventDispatchThread(this.populateBatch);
+        return this.bladeColorScheme;
+    }
+}
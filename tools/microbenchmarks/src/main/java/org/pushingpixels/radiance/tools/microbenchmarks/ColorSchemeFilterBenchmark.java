@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.pushingpixels.radiance.theming.api.ComponentState;
+import org.pushingpixels.radiance.theming.api.RadianceSkin;
+import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
+import org.pushingpixels.radiance.theming.api.skin.BusinessSkin;
+import org.pushingpixels.radiance.theming.internal.utils.filters.ColorSchemeFilter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ColorSchemeFilter}, which is used to colorize icons and other images
+ * based on a color scheme.
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ColorSchemeFilterBenchmark {
+    @Param({"16", "64", "256", "1024"})
+    public int size;
+
+    private BufferedImage source;
+
+    private BufferedImage destination;
+
+    private ColorSchemeFilter filter;
+
+    @Setup
+    public void setup() {
+        RadianceSkin skin = new BusinessSkin();
+        this.filter = ColorSchemeFilter.getColorSchemeFilter(
+                skin.getColorScheme(RadianceThemingSlices.DecorationAreaType.NONE,
+                        RadianceThemingSlices.ColorSchemeAssociationKind.MARK,
+                        ComponentState.ENABLED), 1.0f, 1.0f);
+
+        this.source = new BufferedImage(this.size, this.size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = this.source.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setPaint(new GradientPaint(0, 0, new Color(20, 60, 140),
+                this.size, this.size, new Color(250, 220, 120)));
+        g2d.fillOval(1, 1, this.size - 2, this.size - 2);
+        g2d.dispose();
+        this.destination = this.filter.createCompatibleDestImage(this.source, null);
+    }
+
+    @Benchmark
+    public BufferedImage filterToNewImage() {
+        return this.filter.filter(this.source, null);
+    }
+
+    @Benchmark
+    public BufferedImage filterToExistingImage() {
+        return this.filter.filter(this.source, this.destination);
+    }
+
+    @Benchmark
+    public BufferedImage filterInPlace() {
+        return this.filter.filter(this.destination, this.destination);
+    }
+}
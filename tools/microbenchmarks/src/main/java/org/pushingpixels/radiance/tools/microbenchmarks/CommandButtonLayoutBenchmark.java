@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.pushingpixels.radiance.component.api.common.CommandButtonLayoutManager;
+import org.pushingpixels.radiance.component.api.common.CommandButtonPresentationState;
+import org.pushingpixels.radiance.component.api.common.JCommandButton;
+import org.pushingpixels.radiance.component.api.common.model.Command;
+import org.pushingpixels.radiance.component.api.common.model.CommandButtonPresentationModel;
+import org.pushingpixels.radiance.component.api.common.model.CommandGroup;
+import org.pushingpixels.radiance.component.api.common.model.CommandMenuContentModel;
+import org.pushingpixels.radiance.theming.api.skin.BusinessSkin;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link CommandButtonLayoutManager#getLayoutInfo(JCommandButton)} and
+ * {@link CommandButtonLayoutManager#getPreferredSize(JCommandButton)} across the core
+ * presentation states. As the layout managers may create components, the calls are made
+ * on the Event Dispatch Thread in batches.
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommandButtonLayoutBenchmark {
+    @Param({"BIG", "TILE", "MEDIUM", "SMALL"})
+    public String presentationState;
+
+    @Param({"false", "true"})
+    public boolean hasPopup;
+
+    private JCommandButton commandButton;
+
+    private CommandButtonLayoutManager layoutManager;
+
+    private CommandButtonLayoutManager.CommandButtonLayoutInfo layoutInfo;
+
+    private Dimension preferredSize;
+
+    private Runnable layoutInfoBatch;
+
+    private Runnable preferredSizeBatch;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.installSkin(BusinessSkin.class.getName());
+        CommandButtonPresentationState state = getPresentationState(this.presentationState);
+        BenchmarkSupport.runOnEventDispatchThread(() -> {
+            Command.Builder commandBuilder = Command.builder()
+                    .setText("Benchmark command")
+                    .setExtraText("Extra text of the benchmark command")
+                    .setAction(commandActionEvent -> {});
+            if (this.hasPopup) {
+                commandBuilder.setSecondaryContentModel(new CommandMenuContentModel(
+                        new CommandGroup(Command.builder().setText("Popup command").build())));
+            }
+            this.commandButton = commandBuilder.build().project(
+                    CommandButtonPresentationModel.builder().setPresentationState(state).build())
+                    .buildComponent();
+            Dimension preferredSize = this.commandButton.getPreferredSize();
+            this.commandButton.setSize(preferredSize);
+            this.layoutManager = state.createLayoutManager(this.commandButton);
+        });
+        this.layoutInfoBatch = () -> {
+            for (int i = 0; i < BenchmarkSupport.EVENT_DISPATCH_THREAD_BATCH; i++) {
+                this.layoutInfo = this.layoutManager.getLayoutInfo(this.commandButton);
+            }
+        };
+        this.preferredSizeBatch = () -> {
+            for (int i = 0; i < BenchmarkSupport.EVENT_DISPATCH_THREAD_BATCH; i++) {
+                this.preferredSize = this.layoutManager.getPreferredSize(this.commandButton);
+            }
+        };
+    }
+
+    private static CommandButtonPresentationState getPresentationState(String name) {
+        switch (name) {
+            case "BIG":
+                return CommandButtonPresentationState.BIG;
+            case "TILE":
+                return CommandButtonPresentationState.TILE;
+            case "MEDIUM":
+                return CommandButtonPresentationState.MEDIUM;
+            case "SMALL":
+                return CommandButtonPresentationState.SMALL;
+            default:
+                throw new IllegalArgumentException("Unsupported presentation state " + name);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.EVENT_DISPATCH_THREAD_BATCH)
+    public CommandButtonLayoutManager.CommandButtonLayoutInfo getLayoutInfo() {
+        BenchmarkSupport.runOnEventDispatchThread(this.layoutInfoBatch);
+        return this.layoutInfo;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.EVENT_DISPATCH_THREAD_BATCH)
+    public Dimension getPreferredSize() {
+        BenchmarkSupport.runOnEventDispatchThread(this.preferredSizeBatch);
+        return this.preferredSize;
+    }
+}
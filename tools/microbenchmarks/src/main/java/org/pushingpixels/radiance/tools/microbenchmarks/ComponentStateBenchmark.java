@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pushingpixels.radiance.theming.api.ComponentState;
+import org.pushingpixels.radiance.theming.api.RadianceSkin;
+import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
+import org.pushingpixels.radiance.theming.api.skin.BusinessSkin;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ComponentState} lookups. The benchmarks that go over all the
+ * states report the time of a single pass over {@link ComponentState#getAllStates()}.
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ComponentStateBenchmark {
+    private static final RadianceThemingSlices.ComponentStateFacet[] FACETS = {
+            RadianceThemingSlices.ComponentStateFacet.ENABLE,
+            RadianceThemingSlices.ComponentStateFacet.ROLLOVER,
+            RadianceThemingSlices.ComponentStateFacet.SELECTION,
+            RadianceThemingSlices.ComponentStateFacet.PRESS
+    };
+
+    private ComponentState[] states;
+
+    private RadianceSkin skin;
+
+    private JToggleButton button;
+
+    @Setup
+    public void setup() {
+        this.states = ComponentState.getAllStates();
+        this.skin = BenchmarkSupport.installSkin(BusinessSkin.class.getName());
+        BenchmarkSupport.runOnEventDispatchThread(() -> {
+            this.button = new JToggleButton("Benchmark");
+            this.button.setSelected(true);
+            this.button.getModel().setRollover(true);
+        });
+    }
+
+    @Benchmark
+    public ComponentState getStateOfButton() {
+        return ComponentState.getState(this.button);
+    }
+
+    @Benchmark
+    public void isFacetActive(Blackhole blackhole) {
+        for (ComponentState state : this.states) {
+            for (RadianceThemingSlices.ComponentStateFacet facet : FACETS) {
+                blackhole.consume(state.isFacetActive(facet));
+            }
+        }
+    }
+
+    @Benchmark
+    public void equalsAndHashCode(Blackhole blackhole) {
+        for (ComponentState state : this.states) {
+            blackhole.consume(state.hashCode());
+            blackhole.consume(state.equals(ComponentState.ROLLOVER_SELECTED));
+        }
+    }
+
+    @Benchmark
+    public void skinColorSchemeForAllStates(Blackhole blackhole) {
+        for (ComponentState state : this.states) {
+            blackhole.consume(this.skin.getColorScheme(
+                    RadianceThemingSlices.DecorationAreaType.NONE,
+                    RadianceThemingSlices.ColorSchemeAssociationKind.FILL, state));
+        }
+    }
+}
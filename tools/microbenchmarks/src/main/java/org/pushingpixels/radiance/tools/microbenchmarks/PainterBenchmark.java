@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.pushingpixels.radiance.theming.api.ComponentState;
+import org.pushingpixels.radiance.theming.api.RadianceSkin;
+import org.pushingpixels.radiance.theming.api.RadianceThemingSlices;
+import org.pushingpixels.radiance.theming.api.colorscheme.RadianceColorScheme;
+import org.pushingpixels.radiance.theming.api.painter.border.RadianceBorderPainter;
+import org.pushingpixels.radiance.theming.api.painter.fill.RadianceFillPainter;
+import org.pushingpixels.radiance.theming.internal.utils.RadianceOutlineUtilities;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the fill and border painters of the different skins, painting a button
+ * outline into an offscreen image.
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PainterBenchmark {
+    @Param({"org.pushingpixels.radiance.theming.api.skin.BusinessSkin",
+            "org.pushingpixels.radiance.theming.api.skin.GraphiteSkin",
+            "org.pushingpixels.radiance.theming.api.skin.NebulaSkin",
+            "org.pushingpixels.radiance.theming.api.skin.MagellanSkin"})
+    public String skinClassName;
+
+    @Param({"100x28", "400x120"})
+    public String size;
+
+    private BufferedImage image;
+
+    private JButton button;
+
+    private float width;
+
+    private float height;
+
+    private Shape contour;
+
+    private Shape innerContour;
+
+    private RadianceFillPainter fillPainter;
+
+    private RadianceBorderPainter borderPainter;
+
+    private RadianceColorScheme fillScheme;
+
+    private RadianceColorScheme borderScheme;
+
+    @Setup
+    public void setup() {
+        RadianceSkin skin = BenchmarkSupport.installSkin(this.skinClassName);
+        this.fillPainter = skin.getFillPainter();
+        this.borderPainter = skin.getBorderPainter();
+        this.fillScheme = skin.getColorScheme(RadianceThemingSlices.DecorationAreaType.NONE,
+                RadianceThemingSlices.ColorSchemeAssociationKind.FILL,
+                ComponentState.ROLLOVER_UNSELECTED);
+        this.borderScheme = skin.getColorScheme(RadianceThemingSlices.DecorationAreaType.NONE,
+                RadianceThemingSlices.ColorSchemeAssociationKind.BORDER,
+                ComponentState.ROLLOVER_UNSELECTED);
+
+        String[] dimensions = this.size.split("x");
+        this.width = Integer.parseInt(dimensions[0]);
+        this.height = Integer.parseInt(dimensions[1]);
+        this.image = new BufferedImage((int) this.width, (int) this.height,
+                BufferedImage.TYPE_INT_ARGB);
+        this.contour = RadianceOutlineUtilities.getBaseOutline(ComponentOrientation.LEFT_TO_RIGHT,
+                this.width, this.height, 4.0f, null);
+        this.innerContour = RadianceOutlineUtilities.getBaseOutline(
+                ComponentOrientation.LEFT_TO_RIGHT, this.width, this.height, 3.0f, null, 1.0f);
+        BenchmarkSupport.runOnEventDispatchThread(() -> {
+            this.button = new JButton("Benchmark");
+            this.button.setSize((int) this.width, (int) this.height);
+        });
+    }
+
+    @Benchmark
+    public BufferedImage paintFill() {
+        Graphics2D g2d = this.image.createGraphics();
+        this.fillPainter.paintContourBackground(g2d, this.button, this.width, this.height,
+                this.contour, this.fillScheme);
+        g2d.dispose();
+        return this.image;
+    }
+
+    @Benchmark
+    public BufferedImage paintBorder() {
+        Graphics2D g2d = this.image.createGraphics();
+        this.borderPainter.paintBorder(g2d, this.button, this.width, this.height,
+                this.contour, this.borderPainter.isPaintingInnerContour() ? this.innerContour : null,
+                this.borderScheme);
+        g2d.dispose();
+        return this.image;
+    }
+}
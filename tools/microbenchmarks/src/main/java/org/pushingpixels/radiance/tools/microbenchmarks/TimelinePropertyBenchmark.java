@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2005-2023 Radiance Kirill Grouchnikov. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  o Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  o Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  o Neither the name of the copyright holder nor the names of
+ *    its contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.pushingpixels.radiance.tools.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.pushingpixels.radiance.animation.api.Timeline;
+import org.pushingpixels.radiance.animation.api.TimelinePropertyBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating timelines with interpolated properties, and for the default
+ * reflection-based property accessors used during the interpolation.
+ *
+ * @author Kirill Grouchnikov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimelinePropertyBenchmark {
+    public static class Target {
+        private float value;
+
+        private int count;
+
+        public float getValue() {
+            return this.value;
+        }
+
+        public void setValue(float value) {
+            this.value = value;
+        }
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    private Target target;
+
+    private TimelinePropertyBuilder.PropertySetter<Float> setter;
+
+    private TimelinePropertyBuilder.PropertyGetter<Float> getter;
+
+    private float nextValue;
+
+    @Setup
+    public void setup() {
+        this.target = new Target();
+        this.setter = new TimelinePropertyBuilder.DefaultPropertySetter<>(this.target, "value");
+        this.getter = new TimelinePropertyBuilder.DefaultPropertyGetter<>(this.target, "value");
+    }
+
+    @Benchmark
+    public Timeline buildTimelineWithProperties() {
+        return Timeline.builder(this.target)
+                .addPropertyToInterpolate("value", 0.0f, 1.0f)
+                .addPropertyToInterpolate("count", 0, 100)
+                .build();
+    }
+
+    @Benchmark
+    public Timeline buildTimelineWithPropertyFromCurrent() {
+        return Timeline.builder(this.target)
+                .addPropertyToInterpolate(Timeline.<Float>property("value")
+                        .fromCurrent().to(1.0f))
+                .build();
+    }
+
+    @Benchmark
+    public void setProperty() {
+        this.nextValue += 0.001f;
+        this.setter.set(this.target, "value", this.nextValue);
+    }
+
+    @Benchmark
+    public Float getProperty() {
+        return this.getter.get(this.target, "value");
+    }
+}
@@ -31,6 +31,8 @@ package org.pushingpixels.radiance.tools.svgtranscoder.gradle;
 
 import org.gradle.api.DefaultTask;
 import org.gradle.api.logging.Logger;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.options.Option;
 import org.pushingpixels.radiance.tools.svgtranscoder.api.*;
 
 import java.io.File;
@@ -41,6 +43,23 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 public abstract class TranscodeBaseTask extends DefaultTask {
+    private boolean cachedRasterization = false;
+
+    @Input
+    public boolean isCachedRasterization() {
+        return cachedRasterization;
+    }
+
+    @Option(option = "cachedRasterization", description = "Generates icons that cache their rendered rasters.")
+    public void setCachedRasterization(boolean cachedRasterization) {
+        this.cachedRasterization = cachedRasterization;
+    }
+
+    protected String getTemplateFileName(String outputLanguage) {
+        return "/org/pushingpixels/radiance/tools/svgtranscoder/api/" + outputLanguage + "/"
+                + (cachedRasterization ? "SvgTranscoderTemplateRadianceCached.templ" : "SvgTranscoderTemplateRadiance.templ");
+    }
+
     protected void transcodeAllFilesInFolder(File inputFolder, File outputFolder,
             String outputClassNamePrefix, String outputFileNameExtension,
             String outputPackageName, LanguageRenderer languageRenderer,
@@ -74,6 +93,7 @@ public abstract class TranscodeBaseTask extends DefaultTask {
                 SvgTranscoder transcoder = new SvgTranscoder(file.toURI().toURL().toString(),
                         svgClassName, languageRenderer);
                 transcoder.setPackageName(outputPackageName);
+                transcoder.setCachedRasterization(cachedRasterization);
                 transcoder.setListener(new TranscoderListener() {
                     public Writer getWriter() {
                         return pw;
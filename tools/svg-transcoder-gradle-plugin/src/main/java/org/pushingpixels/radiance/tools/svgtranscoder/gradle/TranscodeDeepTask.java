@@ -124,8 +124,7 @@ public class TranscodeDeepTask extends TranscodeBaseTask {
         logger.trace("Processing " + inputRootDirectory.getAbsolutePath() + " to " + outputRootPackageName +
                 " in " + outputLanguage);
 
-        String templateFileName = "/org/pushingpixels/radiance/tools/svgtranscoder/api/"
-                + outputLanguage + "/" + "SvgTranscoderTemplateRadiance.templ";
+        String templateFileName = getTemplateFileName(outputLanguage);
 
         processFolder(inputRootDirectory, outputRootDirectory, outputClassNamePrefix, outputFileNameExtension,
                 outputRootPackageName, languageRenderer, templateFileName);
@@ -124,8 +124,7 @@ public class TranscodeTask extends TranscodeBaseTask {
         logger.trace("Processing " + inputDirectory.getAbsolutePath() + " to " + outputPackageName +
                 " in " + outputLanguage);
 
-        String templateFileName = "/org/pushingpixels/radiance/tools/svgtranscoder/api/"
-                + outputLanguage + "/" + "SvgTranscoderTemplateRadiance.templ";
+        String templateFileName = getTemplateFileName(outputLanguage);
 
         this.transcodeAllFilesInFolder(inputDirectory, outputDirectory,
                 outputClassNamePrefix, outputFileNameExtension,
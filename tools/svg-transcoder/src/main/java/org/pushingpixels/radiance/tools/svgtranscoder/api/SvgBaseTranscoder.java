@@ -80,6 +80,26 @@ abstract class SvgBaseTranscoder {
 
     private boolean hasRasters = false;
 
+    // If true, constant shapes, colors and strokes are created once and stored in static
+    // fields of the generated class. Requires a template that declares these fields, such as
+    // SvgTranscoderTemplateRadianceCached.templ
+    private boolean cachedRasterization = false;
+
+    // Number of shapes hoisted into the static shapes array of the generated class
+    private int hoistedShapeCount;
+
+    // Code that creates the hoisted shapes. Each shape is created in its own (rotated)
+    // generated factory methods, outside the painting methods
+    private List<List<ByteArrayOutputStream>> hoistedShapeCodeStreams = new ArrayList<>();
+
+    // Indexes of colors (keyed by their ARGB value) hoisted into the static colors array
+    // of the generated class
+    private Map<Integer, Integer> hoistedColors = new HashMap<>();
+
+    // Indexes of strokes (keyed by their creation code) hoisted into the static strokes array
+    // of the generated class
+    private Map<String, Integer> hoistedStrokes = new HashMap<>();
+
     private final static String TOKEN_PACKAGE = "TOKEN_PACKAGE";
 
     private final static String TOKEN_CLASSNAME = "TOKEN_CLASSNAME";
@@ -102,6 +122,12 @@ abstract class SvgBaseTranscoder {
 
     private final static String TOKEN_ORIG_HEIGHT = "TOKEN_ORIG_HEIGHT";
 
+    private final static String TOKEN_SHAPE_COUNT = "TOKEN_SHAPE_COUNT";
+
+    private final static String TOKEN_COLOR_COUNT = "TOKEN_COLOR_COUNT";
+
+    private final static String TOKEN_STROKE_COUNT = "TOKEN_STROKE_COUNT";
+
     private static class PrintWriterManager {
         private static final int ROTATION_THRESHOLD = 1000;
 
@@ -177,6 +203,18 @@ abstract class SvgBaseTranscoder {
         this.externalPrintWriter = printWriter;
     }
 
+    /**
+     * Configures the cached rasterization mode. In this mode the generated code creates constant
+     * shapes, colors and strokes only once, and the template is expected to cache the rendered
+     * rasters of the icon. Use with <code>SvgTranscoderTemplateRadianceCached.templ</code>.
+     *
+     * @param cachedRasterization If <code>true</code>, the generated code is optimized for
+     *                            cached rasterization.
+     */
+    public void setCachedRasterization(boolean cachedRasterization) {
+        this.cachedRasterization = cachedRasterization;
+    }
+
     /**
      * Transcodes the SVG image into Java2D code.
      *
@@ -200,6 +238,9 @@ abstract class SvgBaseTranscoder {
         }
 
         String templateString = templateBuffer.toString();
+        if (this.cachedRasterization && !templateString.contains(TOKEN_SHAPE_COUNT)) {
+            throw new IllegalArgumentException("Cached rasterization requires a matching template");
+        }
 
         if (packageName != null) {
             templateString = templateString.replaceAll(TOKEN_PACKAGE,
@@ -248,6 +289,15 @@ abstract class SvgBaseTranscoder {
             combinedPaintingCode.append(paintingCodeMethod);
             combinedPaintingCode.append("\n\n");
         }
+        for (int i = 0; i < this.hoistedShapeCodeStreams.size(); i++) {
+            List<ByteArrayOutputStream> shapeCodeStreams = this.hoistedShapeCodeStreams.get(i);
+            for (int j = 0; j < shapeCodeStreams.size(); j++) {
+                String shapeCode = new String(shapeCodeStreams.get(j).toByteArray());
+                combinedPaintingCode.append(languageRenderer.startMethod("_shape" + i + "_" + j)
+                        + "\n" + shapeCode + "\n" + languageRenderer.endMethod());
+                combinedPaintingCode.append("\n\n");
+            }
+        }
         templateString = templateString.replaceAll(TOKEN_PAINTING_CODE, combinedPaintingCode.toString());
 
         StringBuffer combinedPaintingInvocations = new StringBuffer();
@@ -258,6 +308,10 @@ abstract class SvgBaseTranscoder {
         templateString = templateString.replaceAll(TOKEN_PAINTING_INVOCATIONS,
                 combinedPaintingInvocations.toString());
 
+        templateString = templateString.replaceAll(TOKEN_SHAPE_COUNT, "" + this.hoistedShapeCount);
+        templateString = templateString.replaceAll(TOKEN_COLOR_COUNT, "" + this.hoistedColors.size());
+        templateString = templateString.replaceAll(TOKEN_STROKE_COUNT, "" + this.hoistedStrokes.size());
+
         Rectangle2D bounds = gvtRoot.getBounds();
 
         templateString = templateString.replaceAll(TOKEN_ORIG_X, "" + bounds.getX());
@@ -281,16 +335,23 @@ abstract class SvgBaseTranscoder {
      *
      * @param pathIterator Path iterator.
      */
-    private void transcodePathIterator(PathIterator pathIterator, String suffix) {
+    private void transcodePathIterator(PathIterator pathIterator, String suffix, boolean isHoisted) {
         float[] coords = new float[6];
-        printWriterManager.println("if (generalPath" + suffix + " == null) {");
-        printWriterManager.println("   generalPath" + suffix + " = "
-                + languageRenderer.getObjectCreationNoParams("GeneralPath")
-                + languageRenderer.getStatementEnd());
-        printWriterManager.println("} else {");
-        printWriterManager.println("   " + languageRenderer.getObjectNoNull("generalPath" + suffix)
-                + ".reset()" + languageRenderer.getStatementEnd());
-        printWriterManager.println("}");
+        if (isHoisted) {
+            // The path is stored in the static shapes array and can not be reused
+            printWriterManager.println("generalPath" + suffix + " = "
+                    + languageRenderer.getObjectCreationNoParams("GeneralPath")
+                    + languageRenderer.getStatementEnd());
+        } else {
+            printWriterManager.println("if (generalPath" + suffix + " == null) {");
+            printWriterManager.println("   generalPath" + suffix + " = "
+                    + languageRenderer.getObjectCreationNoParams("GeneralPath")
+                    + languageRenderer.getStatementEnd());
+            printWriterManager.println("} else {");
+            printWriterManager.println("   " + languageRenderer.getObjectNoNull("generalPath" + suffix)
+                    + ".reset()" + languageRenderer.getStatementEnd());
+            printWriterManager.println("}");
+        }
 //        printWriterManager.println("shape" + suffix + " = "
 //                + languageRenderer.getObjectCreationNoParams("GeneralPath")
 //                + languageRenderer.getStatementEnd());
@@ -339,12 +400,41 @@ abstract class SvgBaseTranscoder {
      * @throws UnsupportedOperationException if the shape is unsupported.
      */
     private void transcodeShape(Shape shape, String suffix) throws UnsupportedOperationException {
+        if (!this.cachedRasterization || !suffix.isEmpty()) {
+            transcodeShape(shape, suffix, false);
+            return;
+        }
+
+        // Create the shape only once and keep it in the static shapes array. The shape is
+        // created in its own factory methods that are rotated in the same way as the painting
+        // methods, so that large paths do not end up in a single method
+        int index = this.hoistedShapeCount++;
+        PrintWriterManager paintingWriterManager = this.printWriterManager;
+        this.printWriterManager = new PrintWriterManager();
+        transcodeShape(shape, suffix, true);
+        this.printWriterManager.close();
+        List<ByteArrayOutputStream> shapeCodeStreams = this.printWriterManager.getStreamList();
+        this.hoistedShapeCodeStreams.add(shapeCodeStreams);
+        this.printWriterManager = paintingWriterManager;
+
+        printWriterManager.println("shape = shapes[" + index + "]" + languageRenderer.getStatementEnd());
+        printWriterManager.println("if (shape == null) {");
+        for (int i = 0; i < shapeCodeStreams.size(); i++) {
+            printWriterManager.println("    _shape" + index + "_" + i + "()"
+                    + languageRenderer.getStatementEnd());
+        }
+        printWriterManager.println("    shapes[" + index + "] = shape" + languageRenderer.getStatementEnd());
+        printWriterManager.println("}");
+    }
+
+    private void transcodeShape(Shape shape, String suffix, boolean isHoisted)
+            throws UnsupportedOperationException {
         if (shape instanceof ExtendedGeneralPath) {
-            transcodePathIterator(shape.getPathIterator(null), suffix);
+            transcodePathIterator(shape.getPathIterator(null), suffix, isHoisted);
             return;
         }
         if (shape instanceof GeneralPath) {
-            transcodePathIterator(shape.getPathIterator(null), suffix);
+            transcodePathIterator(shape.getPathIterator(null), suffix, isHoisted);
             return;
         }
         if (shape instanceof Rectangle2D) {
@@ -384,6 +474,25 @@ abstract class SvgBaseTranscoder {
         throw new UnsupportedOperationException(shape.getClass().getCanonicalName());
     }
 
+    /**
+     * Returns the code that creates the specified color.
+     *
+     * @param color Color.
+     * @return The code that creates the specified color.
+     */
+    private String getColorParameter(Color color) {
+        if (!this.cachedRasterization) {
+            return languageRenderer.getObjectCreation("Color") + "("
+                    + color.getRed() + ", " + color.getGreen() + ", " + color.getBlue() + ", "
+                    + color.getAlpha() + ")";
+        }
+
+        // Create the color only once and keep it in the static colors array
+        int argb = color.getRGB();
+        Integer index = this.hoistedColors.computeIfAbsent(argb, key -> this.hoistedColors.size());
+        return "getColor(" + index + ", " + argb + ")";
+    }
+
     /**
      * Transcodes the specified linear gradient paint.
      *
@@ -442,9 +551,7 @@ abstract class SvgBaseTranscoder {
             colorsRep.append(languageRenderer.startGenericArrayOf("Color"));
             for (Color color : colors) {
                 colorsRep.append(sep);
-                String colorParameter = languageRenderer.getObjectCreation("Color") + "("
-                        + color.getRed() + ", " + color.getGreen() + ", " + color.getBlue() +
-                        ", " + color.getAlpha() + ")";
+                String colorParameter = getColorParameter(color);
                 colorsRep.append(
                         "(" + languageRenderer.getNullableInvocation("colorFilter", "filter", colorParameter) + ")");
                 sep = ",";
@@ -843,9 +950,7 @@ abstract class SvgBaseTranscoder {
             colorsRep.append(languageRenderer.startGenericArrayOf("Color"));
             for (Color color : colors) {
                 colorsRep.append(sep);
-                String colorParameter = languageRenderer.getObjectCreation("Color") + "("
-                        + color.getRed() + ", " + color.getGreen() + ", " + color.getBlue() +
-                        ", " + color.getAlpha() + ")";
+                String colorParameter = getColorParameter(color);
                 colorsRep.append(
                         "(" + languageRenderer.getNullableInvocation("colorFilter", "filter", colorParameter) + ")");
                 sep = ",";
@@ -909,9 +1014,7 @@ abstract class SvgBaseTranscoder {
         }
         if (paint instanceof Color) {
             Color c = (Color) paint;
-            String colorParameter = languageRenderer.getObjectCreation("Color") + "("
-                    + c.getRed() + ", " + c.getGreen() + ", " + c.getBlue() + ", " + c.getAlpha()
-                    + ")";
+            String colorParameter = getColorParameter(c);
             printWriterManager.println("paint = " +
                     languageRenderer.getNullableInvocation("colorFilter", "filter", colorParameter) +
                     languageRenderer.getStatementEnd());
@@ -952,9 +1055,7 @@ abstract class SvgBaseTranscoder {
         }
         if (paint instanceof Color) {
             Color c = (Color) paint;
-            String colorParameter = languageRenderer.getObjectCreation("Color") + "("
-                    + c.getRed() + ", " + c.getGreen() + ", " + c.getBlue() + ", " + c.getAlpha()
-                    + ")";
+            String colorParameter = getColorParameter(c);
             printWriterManager.println("paint = " +
                     languageRenderer.getNullableInvocation("colorFilter", "filter", colorParameter) +
                     languageRenderer.getStatementEnd());
@@ -1060,9 +1161,24 @@ abstract class SvgBaseTranscoder {
             }
             dashRep.append("}");
         }
-        printWriterManager.println("stroke = " + languageRenderer.getObjectCreation("BasicStroke")
+        String strokeCreation = languageRenderer.getObjectCreation("BasicStroke")
                 + "(" + width + "f," + cap + "," + join + "," + miterlimit + "f," + dashRep
-                + "," + dash_phase + "f)" + languageRenderer.getStatementEnd());
+                + "," + dash_phase + "f)";
+        if (this.cachedRasterization) {
+            // Create the stroke only once and keep it in the static strokes array
+            Integer index = this.hoistedStrokes.get(strokeCreation);
+            if (index == null) {
+                index = this.hoistedStrokes.size();
+                this.hoistedStrokes.put(strokeCreation, index);
+            }
+            printWriterManager.println("stroke = strokes[" + index + "]" + languageRenderer.getStatementEnd());
+            printWriterManager.println("if (stroke == null) {");
+            printWriterManager.println("    stroke = " + strokeCreation + languageRenderer.getStatementEnd());
+            printWriterManager.println("    strokes[" + index + "] = stroke" + languageRenderer.getStatementEnd());
+            printWriterManager.println("}");
+        } else {
+            printWriterManager.println("stroke = " + strokeCreation + languageRenderer.getStatementEnd());
+        }
 
         transcodeShape(shape, "");
         printWriterManager.println("g" + languageRenderer.startSetterAssignment("paint") + "paint"
@@ -40,6 +40,8 @@ import java.util.concurrent.TimeUnit;
 public abstract class SvgBatchBaseConverter {
     protected static final String CHECK_DOCUMENTATION = "Check the documentation for the parameters to pass";
 
+    protected boolean cachedRasterization = false;
+
     protected String getInputArgument(String[] args, String argumentName, String defaultValue) {
         for (String arg : args) {
             String[] split = arg.split("=");
@@ -82,6 +84,7 @@ public abstract class SvgBatchBaseConverter {
                 final String uri = file.toURI().toURL().toString();
                 final SvgTranscoder transcoder = new SvgTranscoder(uri, svgClassName, languageRenderer);
                 transcoder.setPackageName(outputPackageName);
+                transcoder.setCachedRasterization(this.cachedRasterization);
                 transcoder.setListener(new TranscoderListener() {
                     public Writer getWriter() {
                         return writer;
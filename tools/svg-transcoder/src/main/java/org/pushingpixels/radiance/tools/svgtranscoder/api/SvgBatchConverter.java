@@ -49,7 +49,8 @@ public class SvgBatchConverter extends SvgBatchBaseConverter {
                     "  templateFile=xyz - the template file for creating the transcoded classes",
                     "  outputLanguage=java|kotlin - the language for the transcoded classes",
                     "  outputFolder=xyz - optional location of output files. If not specified, output files will be placed in the 'sourceFolder'",
-                    "  outputClassNamePrefix=xyz - optional prefix for the class name of each transcoded class"
+                    "  outputClassNamePrefix=xyz - optional prefix for the class name of each transcoded class",
+                    "  cachedRasterization=true|false - optional, generate classes that cache their rendered rasters. Requires SvgTranscoderTemplateRadianceCached.templ as the template file"
             ).forEach(System.out::println);
             System.out.println(CHECK_DOCUMENTATION);
             System.exit(1);
@@ -82,6 +83,8 @@ public class SvgBatchConverter extends SvgBatchBaseConverter {
         }
 
         String outputClassNamePrefix = converter.getInputArgument(args, "outputClassNamePrefix", "");
+        converter.cachedRasterization = Boolean.parseBoolean(
+                converter.getInputArgument(args, "cachedRasterization", "false"));
         String outputFolderName = converter.getInputArgument(args, "outputFolder", sourceFolderName);
 
         File inputFolder = new File(sourceFolderName);